@@ -1,21 +1,20 @@
 package game;
 
-import javax.swing.SwingUtilities;
-import game.ui.intro.IntroScene01Overlay;
+import game.ui.intro.IntroSequenceRunner;
 
 /**
  * IntroTest
- * - Intro01만 단독으로 띄워서 테스트하는 실행용 클래스
- * - 문제 생기면 여기서만 고치면 됨(본게임 영향 거의 없음)
+ * - 인트로만 단독으로 띄워서 테스트하는 실행용 클래스
+ * - 인자로 씬 이름을 주면 그 씬부터(예: intro4). 없으면 intro1부터 끝까지
+ * - 대사/연출은 assets/intro/intro_script.txt 에서 고치고 여기서 바로 확인하면 됨
  */
 public class IntroTest {
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(() -> {
-            new IntroScene01Overlay(() -> {
-                System.out.println("Intro01 끝! (다음 씬으로 이어지는 자리)");
-                // 다음 씬 연결 테스트하고 싶으면 여기서 호출하면 됨.
-                // new game.ui.NoonGuiController();
-            }).showOverlay();
+        String from = (args.length > 0) ? args[0] : "intro1";
+        IntroSequenceRunner.start(from, () -> {
+            System.out.println("인트로 끝! (다음 씬으로 이어지는 자리)");
+            // 다음 씬 연결 테스트하고 싶으면 여기서 호출하면 됨.
+            // new game.ui.NoonGuiController();
         });
     }
 }
@@ -0,0 +1,49 @@
+package game.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * GameRandom 클래스
+ * - 한 판(run) 전체가 쓰는 난수의 출처. 마스터 시드 하나에서 스테이지별 SplittableRandom을 나눠 줌
+ * - stream("noon")을 여러 번 부르면 "noon" 0번, 1번, ... 순서로 다른 스트림이 나옴
+ *   (다른 스테이지가 먼저/나중에 불러도 영향 없음 → 스레드 순서와 상관없이 같은 결과)
+ * - 받은 SplittableRandom은 한 스레드에서만 써야 함
+ *
+ * [한줄 요약]
+ * - 같은 시드 + 같은 입력(InputLog)이면 판 전체가 똑같이 재현됨.
+ */
+public final class GameRandom {
+
+    private static long masterSeed = new SplittableRandom().nextLong();
+
+    /** 스테이지 이름 → 지금까지 나눠 준 스트림 개수 */
+    private static final Map<String, Integer> issued = new HashMap<>();
+
+    private GameRandom() {}
+
+    /** 새 판 시작: 시드를 정하고 스테이지별 카운터를 처음으로 */
+    public static synchronized void begin(long seed) {
+        masterSeed = seed;
+        issued.clear();
+    }
+
+    public static synchronized long seed() {
+        return masterSeed;
+    }
+
+    /** 그 스테이지의 다음 스트림 */
+    public static synchronized SplittableRandom stream(String stage) {
+        int n = issued.merge(stage, 1, Integer::sum) - 1;
+        return new SplittableRandom(mix(mix(masterSeed ^ stage.hashCode()) + n));
+    }
+
+    // SplitMix64 마무리 단계(비슷한 입력도 비트가 고르게 퍼지게)
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,163 @@
+package game.core;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * InputLog 클래스
+ * - 한 판 동안 스테이지들이 받은 입력을 (스테이지, 스텝, 코드)로 기록함
+ *   - 스텝은 스테이지가 정함(아침: tick 번호, 점심/저녁/밤: 입력 순번)
+ *   - 코드도 스테이지가 정함(키 코드, 선택지 번호, 버튼 번호)
+ * - 재생 모드에서는 실제 입력을 무시하고, 스테이지가 poll/next로 기록된 입력을 꺼내 씀
+ * - GameRandom 시드와 같이 저장되니까, 파일 하나로 판 전체를 다시 돌릴 수 있음
+ *
+ * 실행 옵션
+ * - -Dgame.seed=숫자      : 시드 고정
+ * - -Dgame.record=파일    : 종료할 때 이번 판 입력을 파일로 저장
+ * - -Dgame.replay=파일    : 저장된 판을 재생
+ *
+ * [한줄 요약]
+ * - 버그 제보/회귀 벤치마크용. 같은 파일이면 같은 판이 나옴.
+ */
+public final class InputLog {
+
+    /** 꺼낼 입력이 없음 */
+    public static final int NONE = Integer.MIN_VALUE;
+
+    private static final String HEADER = "# while_true input log";
+
+    private static final class Entry {
+        final String stage;
+        final long step;
+        final int code;
+
+        Entry(String stage, long step, int code) {
+            this.stage = stage;
+            this.step = step;
+            this.code = code;
+        }
+    }
+
+    private static final List<Entry> recorded = new ArrayList<>();
+    private static final Map<String, ArrayDeque<Entry>> pending = new HashMap<>();
+    private static boolean replaying = false;
+    private static boolean saveHooked = false;
+
+    private InputLog() {}
+
+    // ===================== 판 시작 =====================
+
+    /** 타이틀에서 시작 누를 때 한 번: 재생 파일이 있으면 재생, 아니면 새 시드로 기록 시작 */
+    public static synchronized void beginRun() {
+        recorded.clear();
+        pending.clear();
+        replaying = false;
+
+        String replayPath = System.getProperty("game.replay");
+        if (replayPath != null && load(new File(replayPath))) {
+            System.out.println("[InputLog] 재생: " + replayPath + " (seed=" + GameRandom.seed() + ")");
+            return;
+        }
+
+        Long fixed = Long.getLong("game.seed");
+        long seed = (fixed != null) ? fixed : new SplittableRandom().nextLong();
+        GameRandom.begin(seed);
+        System.out.println("[InputLog] seed=" + seed);
+
+        String recordPath = System.getProperty("game.record");
+        if (recordPath != null && !saveHooked) {
+            saveHooked = true;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    save(new File(recordPath));
+                } catch (IOException e) {
+                    System.out.println("[InputLog] 저장 실패: " + e.getMessage());
+                }
+            }, "input-log-save"));
+        }
+    }
+
+    // ===================== 기록 / 재생 =====================
+
+    public static synchronized void record(String stage, long step, int code) {
+        if (replaying) return;
+        recorded.add(new Entry(stage, step, code));
+    }
+
+    /** 재생 중이면 스테이지는 실제 키/버튼 입력을 무시해야 함 */
+    public static synchronized boolean isReplaying() {
+        return replaying;
+    }
+
+    /** 스텝 기준 재생: step까지 와 있는 입력이 있으면 하나 꺼냄(같은 스텝에 여러 개면 여러 번 호출) */
+    public static synchronized int poll(String stage, long step) {
+        ArrayDeque<Entry> q = pending.get(stage);
+        if (q == null || q.isEmpty() || q.peekFirst().step > step) return NONE;
+        return q.pollFirst().code;
+    }
+
+    /** 순번 기준 재생: 그 스테이지의 다음 입력 */
+    public static synchronized int next(String stage) {
+        ArrayDeque<Entry> q = pending.get(stage);
+        return (q == null || q.isEmpty()) ? NONE : q.pollFirst().code;
+    }
+
+    // ===================== 파일 =====================
+
+    /** 첫 줄 주석, 다음 줄 "seed 숫자", 그 뒤로 한 줄에 "스테이지 스텝 코드" */
+    public static synchronized void save(File file) throws IOException {
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null) dir.mkdirs();
+
+        try (BufferedWriter w = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            w.write(HEADER);
+            w.newLine();
+            w.write("seed " + GameRandom.seed());
+            w.newLine();
+            for (Entry e : recorded) {
+                w.write(e.stage + " " + e.step + " " + e.code);
+                w.newLine();
+            }
+        }
+    }
+
+    private static boolean load(File file) {
+        try (BufferedReader r = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            Long seed = null;
+            String line;
+            while ((line = r.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+
+                String[] p = line.split("\\s+");
+                if (p[0].equals("seed") && p.length == 2) {
+                    seed = Long.parseLong(p[1]);
+                } else if (p.length == 3) {
+                    Entry e = new Entry(p[0], Long.parseLong(p[1]), Integer.parseInt(p[2]));
+                    recorded.add(e);
+                    pending.computeIfAbsent(e.stage, k -> new ArrayDeque<>()).addLast(e);
+                }
+            }
+
+            if (seed == null) throw new IOException("seed 줄이 없음");
+            GameRandom.begin(seed);
+            replaying = true;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            System.out.println("[InputLog] 재생 파일을 못 읽음: " + file + " (" + e.getMessage() + ")");
+            recorded.clear();
+            pending.clear();
+            return false;
+        }
+    }
+}
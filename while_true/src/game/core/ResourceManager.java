@@ -0,0 +1,292 @@
+package game.core;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * ResourceManager
+ * - 모든 스테이지가 같이 쓰는 이미지 로더 + 캐시
+ * - 원본/스케일본을 픽셀 바이트(w*h*4) 기준 LRU로 보관함
+ * - 씬(scene)이 잡은 이미지는 참조 카운트로 고정되고, release(scene) 시 풀려서 LRU 대상이 됨
+ *
+ * - 디코딩/스케일은 락 밖에서 하고, 같은 key를 동시에 요청하면 먼저 시작한 작업 결과를 같이 기다림
+ * - preload()로 다음 스테이지 이미지를 백그라운드에서 미리 데워둘 수 있음
+ *
+ * [한줄 요약]
+ * - "assets/..." 경로 하나로 classpath → 작업 디렉터리 순서로 찾고, 같은 크기 스케일본은 한 번만 만듦.
+ */
+public final class ResourceManager {
+
+    /** 캐시 상한(바이트). 씬이 잡고 있는 이미지는 상한을 넘어도 유지됨 */
+    private static long budgetBytes = 128L * 1024 * 1024;
+
+    /** key(경로 또는 경로@크기) → 항목. accessOrder=true 라서 앞쪽이 가장 오래 안 쓴 것 */
+    private static final LinkedHashMap<String, Entry> lru = new LinkedHashMap<>(64, 0.75f, true);
+
+    /** 씬 이름 → 그 씬이 잡은 key 목록 */
+    private static final Map<String, Set<String>> sceneKeys = new HashMap<>();
+
+    /** 찾아봤는데 없는 경로(다시 디스크를 뒤지지 않음) */
+    private static final Set<String> missing = new HashSet<>();
+
+    /** 지금 디코딩/스케일 중인 key → 결과(중복 작업 방지) */
+    private static final Map<String, CompletableFuture<BufferedImage>> inflight = new HashMap<>();
+
+    /** 다음 스테이지 미리 로드용 백그라운드 스레드 */
+    private static final ExecutorService preloader = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "resource-preload");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    private static long usedBytes = 0;
+
+    private static final class Entry {
+        final BufferedImage image;
+        final long bytes;
+        int refs = 0;
+
+        Entry(BufferedImage image) {
+            this.image = image;
+            this.bytes = (long) image.getWidth() * image.getHeight() * 4;
+        }
+    }
+
+    private ResourceManager() {}
+
+    // ===================== 조회 =====================
+
+    /**
+     * 원본 이미지
+     * @param scene 이미지를 잡아둘 씬 이름(null이면 고정 없이 LRU에만 둠)
+     * @param path  "assets/images/..." 또는 "/assets/images/..." 형식
+     * @return 없으면 null
+     */
+    public static BufferedImage image(String scene, String path) {
+        String key = normalize(path);
+        if (key == null) return null;
+
+        return getOrCreate(scene, key, () -> decode(key), true);
+    }
+
+    /**
+     * w x h 로 스케일한 이미지(같은 경로/크기/품질이면 공유)
+     * - 원본은 고정하지 않고 LRU에만 둠(스케일본만 씬이 잡음)
+     * @param smooth true면 bilinear, false면 nearest(픽셀 아트용)
+     */
+    public static BufferedImage scaled(String scene, String path, int w, int h, boolean smooth) {
+        String base = normalize(path);
+        if (base == null || w <= 0 || h <= 0) return null;
+
+        String key = base + "@" + w + "x" + h + (smooth ? "s" : "f");
+        return getOrCreate(scene, key, () -> {
+            BufferedImage src = image(null, base);
+            return (src != null) ? scale(src, w, h, smooth) : null;
+        }, false);
+    }
+
+    /** 비율 유지하면서 maxW x maxH 안에 들어가게 스케일(부드럽게) */
+    public static BufferedImage scaledToFit(String scene, String path, int maxW, int maxH) {
+        BufferedImage src = image(null, path);
+        if (src == null) return null;
+
+        double s = Math.min((double) maxW / src.getWidth(), (double) maxH / src.getHeight());
+        int w = Math.max(1, (int) (src.getWidth() * s));
+        int h = Math.max(1, (int) (src.getHeight() * s));
+        return scaled(scene, path, w, h, true);
+    }
+
+    /** Swing 라벨용 아이콘. 없으면 null */
+    public static ImageIcon icon(String scene, String path, int w, int h) {
+        BufferedImage img = scaled(scene, path, w, h, false);
+        return (img != null) ? new ImageIcon(img) : null;
+    }
+
+    // ===================== 미리 로드 =====================
+
+    /**
+     * 다음 스테이지 이미지를 백그라운드에서 미리 디코딩/스케일함
+     * - warmup 안에서 그 스테이지가 생성자에서 할 것과 같은 image/scaled 호출을 하면 됨
+     * - 같은 씬 이름으로 잡히니까, 창이 뜰 때까지 LRU에서 밀려나지 않음
+     */
+    public static Future<?> preload(Runnable warmup) {
+        return preloader.submit(() -> {
+            try {
+                warmup.run();
+            } catch (RuntimeException e) {
+                System.out.println("[ResourceManager] preload 실패: " + e);
+            }
+        });
+    }
+
+    // ===================== 수명 =====================
+
+    /** 씬 종료 시 호출: 그 씬이 잡은 이미지의 참조를 풀고, 상한을 넘은 만큼 정리함 */
+    public static synchronized void release(String scene) {
+        Set<String> keys = sceneKeys.remove(scene);
+        if (keys == null) return;
+
+        for (String key : keys) {
+            Entry e = lru.get(key);
+            if (e != null && e.refs > 0) e.refs--;
+        }
+        trim();
+    }
+
+    public static synchronized void setBudget(long bytes) {
+        budgetBytes = Math.max(0, bytes);
+        trim();
+    }
+
+    public static synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    // ===================== 내부 =====================
+
+    /**
+     * 캐시에 있으면 바로, 누가 만드는 중이면 그 결과를 기다리고, 아니면 락 밖에서 직접 만듦
+     * @param rememberMissing true면 null 결과를 missing에 기록(원본 디코딩 실패)
+     */
+    private static BufferedImage getOrCreate(String scene, String key, Supplier<BufferedImage> producer,
+                                             boolean rememberMissing) {
+        CompletableFuture<BufferedImage> f;
+        boolean owner = false;
+
+        synchronized (ResourceManager.class) {
+            Entry e = lookup(scene, key);
+            if (e != null) return e.image;
+            if (missing.contains(key)) return null;
+
+            f = inflight.get(key);
+            if (f == null) {
+                f = new CompletableFuture<>();
+                inflight.put(key, f);
+                owner = true;
+            }
+        }
+
+        if (!owner) {
+            BufferedImage img = f.join();
+            if (img != null) {
+                synchronized (ResourceManager.class) {
+                    lookup(scene, key); // 내 씬에도 고정
+                }
+            }
+            return img;
+        }
+
+        BufferedImage img = null;
+        try {
+            img = producer.get();
+        } finally {
+            synchronized (ResourceManager.class) {
+                inflight.remove(key);
+                if (img != null) {
+                    store(scene, key, img);
+                } else if (rememberMissing) {
+                    missing.add(key);
+                    System.out.println("[ResourceManager] 리소스 없음: " + key);
+                }
+            }
+            f.complete(img);
+        }
+        return img;
+    }
+
+    private static Entry lookup(String scene, String key) {
+        Entry e = lru.get(key);
+        if (e != null) pin(scene, key, e);
+        return e;
+    }
+
+    private static Entry store(String scene, String key, BufferedImage img) {
+        Entry e = new Entry(img);
+        Entry old = lru.put(key, e);
+        if (old != null) usedBytes -= old.bytes;
+        usedBytes += e.bytes;
+
+        pin(scene, key, e);
+        trim();
+        return e;
+    }
+
+    private static void pin(String scene, String key, Entry e) {
+        if (scene == null) return;
+        if (sceneKeys.computeIfAbsent(scene, k -> new HashSet<>()).add(key)) {
+            e.refs++;
+        }
+    }
+
+    // 가장 오래 안 쓴 것부터, 아무 씬도 안 잡은 항목만 버림
+    private static void trim() {
+        Iterator<Map.Entry<String, Entry>> it = lru.entrySet().iterator();
+        while (usedBytes > budgetBytes && it.hasNext()) {
+            Entry e = it.next().getValue();
+            if (e.refs > 0) continue;
+
+            usedBytes -= e.bytes;
+            e.image.flush();
+            it.remove();
+        }
+    }
+
+    // 앞 슬래시 없는 "assets/..." 형태로 통일
+    private static String normalize(String path) {
+        if (path == null || path.isBlank()) return null;
+        String p = path.replace('\\', '/');
+        while (p.startsWith("/")) p = p.substring(1);
+        return p;
+    }
+
+    // classpath 먼저, 없으면 작업 디렉터리 기준 파일
+    private static BufferedImage decode(String key) {
+        try {
+            URL url = ResourceManager.class.getResource("/" + key);
+            if (url != null) return ImageIO.read(url);
+
+            File f = new File(key);
+            if (f.isFile()) return ImageIO.read(f);
+        } catch (Exception e) {
+            System.out.println("[ResourceManager] 디코딩 실패: " + key + " (" + e.getMessage() + ")");
+        }
+        return null;
+    }
+
+    private static BufferedImage scale(BufferedImage src, int w, int h, boolean smooth) {
+        BufferedImage out = GraphicsEnvironment.isHeadless()
+                ? new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB)
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                        .getDefaultConfiguration().createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, smooth
+                    ? RenderingHints.VALUE_INTERPOLATION_BILINEAR
+                    : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+}
@@ -4,6 +4,7 @@ package game.core;
  * Scene 인터페이스
  * - 게임의 '한 화면(장면)'이 가져야 할 공통 동작을 정의함.
  * - 아침/점심/저녁/밤 스테이지가 모두 이 인터페이스를 구현하게 됨.
+ * - SceneManager 루프가 켜져 있으면 update/render/handleInput은 루프 스레드("game-loop")에서 호출됨.
  */
 public interface Scene {
 
@@ -18,4 +19,26 @@ public interface Scene {
 
     /** 키보드/마우스 등의 입력을 처리하는 메서드 */
     void handleInput();
+
+    /** init() 직후, 이 장면이 현재 장면이 될 때 호출됨 */
+    default void onEnter() {}
+
+    /** 다른 장면으로 바뀌거나 루프가 멈출 때 호출됨(예약 작업은 SceneManager가 정리함) */
+    default void onExit() {}
+
+    /**
+     * update() 한 번의 길이(나노초). 루프는 이 간격으로 고정 스텝 update를 돌림
+     * - 기본 60Hz
+     */
+    default long updateIntervalNs() {
+        return 1_000_000_000L / 60;
+    }
+
+    /**
+     * 보간용 렌더
+     * @param alpha 마지막 update 이후 다음 update까지 진행률(0~1)
+     */
+    default void render(double alpha) {
+        render();
+    }
 }
@@ -1,25 +1,97 @@
 package game.core;
 
+import javax.swing.SwingUtilities;
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * SceneManager 클래스
  * - 현재 어떤 Scene이 활성화되어 있는지 관리함.
  * - 장면 전환(setScene)과, 현재 장면의 update/render/handleInput 호출을 담당함.
+ *
+ * - start() 하면 루프 스레드 하나가 모든 스테이지를 돌림
+ *   - update: 장면이 정한 간격(updateIntervalNs)으로 고정 스텝
+ *   - render: 모니터 주사율에 맞춰 매 프레임(alpha로 보간)
+ *   - 장면 전환은 프레임 경계에서 onExit → init → onEnter 순서로 처리
+ * - after(ms, action): 현재 장면에 묶인 지연 작업(EDT에서 실행). 장면이 바뀌면 같이 취소됨
+ *
+ * [한줄 요약]
+ * - 스테이지마다 따로 돌던 Timer/스레드 대신, 여기 루프 하나에서 시간 재고 분배함.
  */
 public class SceneManager {
 
+    /** 멈췄다 돌아왔을 때 몰아서 update 하는 상한 */
+    private static final int MAX_CATCH_UP_STEPS = 5;
+    private static final int FALLBACK_HZ = 60;
+
+    /** 스테이지들이 같이 쓰는 기본 매니저 */
+    private static final SceneManager SHARED = new SceneManager();
+
+    public static SceneManager shared() {
+        return SHARED;
+    }
+
     /** 지금 화면에 표시되고 있는 장면을 가리키는 변수 */
-    private Scene currentScene;
+    private volatile Scene currentScene;
+
+    // 루프가 돌고 있을 때 setScene은 여기 걸어두고 프레임 경계에서 바꿈
+    private final Object lock = new Object();
+    private Scene pendingScene;
+    private boolean hasPending = false;
+    private final List<Task> tasks = new ArrayList<>();
+
+    private Thread loop;
+    private volatile boolean running = false;
+
+    // 프레임 시간 측정(지수 이동 평균, 나노초)
+    private volatile long avgUpdateNs = 0;
+    private volatile long avgRenderNs = 0;
+    private volatile long avgFrameNs = 0;
+
+    private static final class Task {
+        final Scene owner;
+        final long dueNs;
+        final Runnable action;
+
+        Task(Scene owner, long dueNs, Runnable action) {
+            this.owner = owner;
+            this.dueNs = dueNs;
+            this.action = action;
+        }
+    }
 
     /**
      * 현재 장면을 변경하는 메서드
-     * - 새 Scene을 주입받아서 currentScene에 저장하고
-     * - 새 장면의 init()을 한 번 호출해 초기화함.
+     * - 루프가 꺼져 있으면 바로 바꾸고 init()/onEnter()를 호출함.
+     * - 루프가 돌고 있으면 다음 프레임 시작 때 루프 스레드에서 바꿈.
      */
     public void setScene(Scene scene) {
-        this.currentScene = scene;
-        if (scene != null) {
-            scene.init();
+        synchronized (lock) {
+            if (running) {
+                pendingScene = scene;
+                hasPending = true;
+                lock.notifyAll();
+                return;
+            }
         }
+        switchTo(scene);
+    }
+
+    /** scene이 현재(또는 전환 대기 중인) 장면일 때만 비움. 창이 닫힐 때 씀 */
+    public void clearScene(Scene scene) {
+        synchronized (lock) {
+            Scene target = hasPending ? pendingScene : currentScene;
+            if (target != scene) return;
+        }
+        setScene(null);
+    }
+
+    public Scene currentScene() {
+        return currentScene;
     }
 
     /** 현재 장면의 게임 로직을 한 프레임만큼 업데이트함. */
@@ -42,4 +114,218 @@ public class SceneManager {
             currentScene.handleInput();
         }
     }
+
+    // ===================== 지연 작업 =====================
+
+    /**
+     * ms 뒤에 EDT에서 action 실행(Swing Timer 대신)
+     * - 예약한 시점의 장면에 묶이고, 그 장면이 끝나면 실행되지 않음
+     * - 루프가 꺼져 있으면 start()로 켬
+     */
+    public void after(long ms, Runnable action) {
+        synchronized (lock) {
+            Scene owner = hasPending ? pendingScene : currentScene;
+            tasks.add(new Task(owner, System.nanoTime() + ms * 1_000_000L, action));
+            lock.notifyAll();
+        }
+        start();
+    }
+
+    // ===================== 루프 =====================
+
+    /** 루프 스레드 시작(이미 돌고 있으면 무시) */
+    public void start() {
+        synchronized (lock) {
+            if (running) return;
+            running = true;
+            loop = new Thread(this::run, "game-loop");
+            loop.setDaemon(true);
+            loop.start();
+        }
+    }
+
+    /** 루프를 멈추고 현재 장면의 onExit()까지 끝날 때까지 기다림 */
+    public void stop() {
+        Thread t;
+        synchronized (lock) {
+            if (!running) return;
+            running = false;
+            lock.notifyAll();
+            t = loop;
+            loop = null;
+        }
+        if (t != null && t != Thread.currentThread()) {
+            try {
+                t.join(500);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 최근 프레임 평균 시간(나노초): update+render+대기 전체 */
+    public long frameTimeNs() { return avgFrameNs; }
+
+    /** 최근 프레임당 update 평균 시간(나노초) */
+    public long updateTimeNs() { return avgUpdateNs; }
+
+    /** 최근 프레임당 render 평균 시간(나노초) */
+    public long renderTimeNs() { return avgRenderNs; }
+
+    private void run() {
+        long frameNs = 1_000_000_000L / refreshRate();
+        long prev = System.nanoTime();
+        long acc = 0;
+
+        while (running) {
+            if (applyPending()) {
+                prev = System.nanoTime();
+                acc = 0;
+            }
+
+            Scene scene = currentScene;
+            if (scene == null && !hasWork()) {
+                idle();
+                prev = System.nanoTime();
+                acc = 0;
+                continue;
+            }
+
+            long now = System.nanoTime();
+            acc += now - prev;
+            prev = now;
+
+            long renderStart = now;
+            if (scene != null) {
+                long step = Math.max(1, scene.updateIntervalNs());
+                if (acc > step * MAX_CATCH_UP_STEPS) acc = step * MAX_CATCH_UP_STEPS;
+
+                while (acc >= step && running && !hasPendingScene()) {
+                    safely(scene::handleInput);
+                    safely(scene::update);
+                    acc -= step;
+                }
+
+                renderStart = System.nanoTime();
+                double alpha = Math.min(1.0, (double) acc / step);
+                safely(() -> scene.render(alpha));
+            }
+
+            long end = System.nanoTime();
+            runDueTasks(end);
+
+            avgUpdateNs = ema(avgUpdateNs, renderStart - now);
+            avgRenderNs = ema(avgRenderNs, end - renderStart);
+
+            long sleep = frameNs - (System.nanoTime() - now);
+            if (sleep > 0) LockSupport.parkNanos(sleep);
+
+            avgFrameNs = ema(avgFrameNs, System.nanoTime() - now);
+        }
+
+        switchTo(null);
+    }
+
+    // 대기 중인 전환이 있으면 루프 스레드에서 처리
+    private boolean applyPending() {
+        Scene next;
+        synchronized (lock) {
+            if (!hasPending) return false;
+            next = pendingScene;
+            pendingScene = null;
+            hasPending = false;
+        }
+        switchTo(next);
+        return true;
+    }
+
+    private void switchTo(Scene next) {
+        Scene prev = currentScene;
+        if (prev == next) return;
+
+        if (prev != null) {
+            safely(prev::onExit);
+            synchronized (lock) {
+                tasks.removeIf(t -> t.owner == prev);
+            }
+        }
+
+        currentScene = next;
+        if (next != null) {
+            safely(next::init);
+            safely(next::onEnter);
+        }
+    }
+
+    private boolean hasPendingScene() {
+        synchronized (lock) {
+            return hasPending;
+        }
+    }
+
+    private boolean hasWork() {
+        synchronized (lock) {
+            return hasPending || !tasks.isEmpty();
+        }
+    }
+
+    // 장면도 예약 작업도 없으면 setScene/after/stop이 깨울 때까지 잠듦
+    private void idle() {
+        synchronized (lock) {
+            while (running && !hasPending && tasks.isEmpty()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void runDueTasks(long now) {
+        List<Runnable> due = null;
+        synchronized (lock) {
+            Iterator<Task> it = tasks.iterator();
+            while (it.hasNext()) {
+                Task t = it.next();
+                if (t.dueNs - now > 0) continue;
+
+                if (due == null) due = new ArrayList<>();
+                due.add(t.action);
+                it.remove();
+            }
+        }
+        if (due == null) return;
+
+        for (Runnable r : due) SwingUtilities.invokeLater(r);
+    }
+
+    private static void safely(Runnable r) {
+        try {
+            r.run();
+        } catch (RuntimeException e) {
+            System.out.println("[SceneManager] 장면 처리 중 예외: " + e);
+            e.printStackTrace();
+        }
+    }
+
+    private static long ema(long avg, long sample) {
+        return (avg == 0) ? sample : avg + (sample - avg) / 8;
+    }
+
+    private static int refreshRate() {
+        if (GraphicsEnvironment.isHeadless()) return FALLBACK_HZ;
+        try {
+            int hz = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDisplayMode().getRefreshRate();
+            return (hz == DisplayMode.REFRESH_RATE_UNKNOWN || hz <= 0) ? FALLBACK_HZ : hz;
+        } catch (RuntimeException e) {
+            return FALLBACK_HZ;
+        }
+    }
 }
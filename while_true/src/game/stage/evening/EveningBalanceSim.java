@@ -0,0 +1,226 @@
+package game.stage.evening;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * EveningBalanceSim (저녁 스테이지 밸런스 시뮬레이터, 창 없이 실행)
+ * - 스탯 조합마다 결투를 수십만 번 돌려서 승률/턴 수 분포/아이템 사용량을 출력
+ * - 진행 순서는 EveningGuiController와 같음(턴당 아이템 2개, 빈 탄창이면 재장전, 과제미루기 스킵)
+ * - 작업 조각마다 SplittableRandom을 하나씩 나눠 주고, 조각은 시드에서 정해진 순서로 split
+ *   → 같은 seed면 스레드 수와 상관없이 같은 결과
+ * - 시뮬레이션에서는 로그 이벤트를 안 쌓음(EveningEventLog.DISABLED)
+ *
+ * 실행: java game.stage.evening.EveningBalanceSim [프로필당 판 수] [seed]
+ */
+public final class EveningBalanceSim {
+
+    private static final int MAX_ITEMS_PER_TURN = 2;   // EveningGuiController와 같음
+    private static final int MAX_TURNS = 500;          // 안전장치(정상 게임은 훨씬 짧음)
+    private static final int TURN_BINS = 41;           // 0..39턴 + 40턴 이상
+    private static final int CHUNK = 10_000;           // 조각 하나가 돌리는 판 수
+
+    // 체력/멘탈/지능 조합(사회성은 저녁 규칙에 안 쓰임)
+    private static final int[] LEVELS = { 2, 5, 8 };
+
+    private EveningBalanceSim() {}
+
+    public static void main(String[] args) throws Exception {
+        int duels = (args.length > 0) ? Integer.parseInt(args[0]) : 200_000;
+        long seed = (args.length > 1) ? Long.parseLong(args[1]) : 20241218L;
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "evening-sim");
+            t.setDaemon(true);
+            return t;
+        });
+
+        SplittableRandom root = new SplittableRandom(seed);
+        long start = System.nanoTime();
+        long total = 0;
+
+        System.out.println("[EveningBalanceSim] 프로필당 " + duels + "판, seed=" + seed + ", 스레드 " + threads);
+        System.out.println(" 체력 멘탈 지능 |  승률  | 평균턴  p50  p90 | 지급/사용(미루기 휴식 GPT 재장전)");
+
+        try {
+            for (int health : LEVELS) {
+                for (int mental : LEVELS) {
+                    for (int intelligence : LEVELS) {
+                        Stats s = runProfile(pool, root, duels, health, mental, intelligence);
+                        System.out.println(s.format(health, mental, intelligence));
+                        total += s.games;
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        double sec = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[EveningBalanceSim] %d판 %.1f초 (%.0f판/초)%n", total, sec, total / sec);
+    }
+
+    // 한 프로필을 조각으로 나눠 병렬 실행. 조각별 난수는 여기서 순서대로 split
+    private static Stats runProfile(ExecutorService pool, SplittableRandom root, int duels,
+                                    int health, int mental, int intelligence) throws Exception {
+        List<Future<Stats>> parts = new ArrayList<>();
+        for (int from = 0; from < duels; from += CHUNK) {
+            int n = Math.min(CHUNK, duels - from);
+            SplittableRandom rnd = root.split();
+            parts.add(pool.submit(() -> {
+                Stats s = new Stats();
+                for (int i = 0; i < n; i++) duel(s, rnd, health, mental, intelligence);
+                return s;
+            }));
+        }
+
+        Stats sum = new Stats();
+        for (Future<Stats> f : parts) sum.add(f.get());
+        return sum;
+    }
+
+    // ===================== 한 판 =====================
+
+    private static void duel(Stats s, SplittableRandom rnd, int health, int mental, int intelligence) {
+        EveningGameLogic logic = new EveningGameLogic(health, mental, intelligence, 5, rnd, EveningEventLog.DISABLED);
+
+        int[] granted = {
+                logic.getItemProcrastinate(), logic.getItemRest(), logic.getItemGpt(), logic.getItemRestart()
+        };
+
+        int turns = 0;
+        boolean playerTurn = true;
+        while (!logic.isGameOver() && turns < MAX_TURNS) {
+            turns++;
+            if (playerTurn) {
+                playPlayerTurn(logic);
+            } else if (!logic.consumeDemonSkip()) {
+                playDemonTurn(logic);
+            }
+            playerTurn = !playerTurn;
+        }
+
+        s.games++;
+        if (logic.getDemonHp() <= 0) {
+            s.wins++;
+            s.winHp += logic.getPlayerHp();
+        }
+        s.turns[Math.min(turns, TURN_BINS - 1)]++;
+        s.turnSum += turns;
+
+        s.granted[0] += granted[0];
+        s.granted[1] += granted[1];
+        s.granted[2] += granted[2];
+        s.granted[3] += granted[3];
+        s.used[0] += granted[0] - logic.getItemProcrastinate();
+        s.used[1] += granted[1] - logic.getItemRest();
+        s.used[2] += granted[2] - logic.getItemGpt();
+        s.used[3] += granted[3] - logic.getItemRestart();
+    }
+
+    /**
+     * 플레이어 쪽은 사람이 흔히 하는 판단으로 둠
+     * - HP 3 이하면 휴식, 확인 안 한 탄이면 GPT, HP 2 이하면 과제미루기
+     * - HP 1인데 실탄이 더 많으면 재장전으로 탄창을 버림
+     * - 쏠 때: 아는 탄이면 맞게, 모르면 실탄이 많을 때 적, 적을 때 자기
+     */
+    private static void playPlayerTurn(EveningGameLogic logic) {
+        int used = 0;
+        while (!logic.isGameOver()) {
+            if (logic.needsReload()) logic.reload();
+
+            Boolean known = logic.knownNextBullet();
+            int hp = logic.getPlayerHp();
+            int live = logic.getLiveCount();
+            int blank = logic.getBlankCount();
+
+            if (used < MAX_ITEMS_PER_TURN) {
+                boolean item = false;
+                if (hp <= 3 && logic.getItemRest() > 0) {
+                    item = logic.useRest();
+                } else if (known == null && live > 0 && blank > 0 && logic.getItemGpt() > 0) {
+                    item = logic.useGpt();
+                } else if (hp <= 2 && logic.getItemProcrastinate() > 0) {
+                    item = logic.useProcrastinate();
+                } else if (hp == 1 && known == null && live > blank && logic.getItemRestart() > 0) {
+                    item = logic.useRestart();
+                }
+                if (item) {
+                    used++;
+                    continue;
+                }
+            }
+
+            boolean shootEnemy = (known != null) ? known : live >= blank;
+            EveningGameLogic.TurnResult r = shootEnemy ? logic.shootEnemy() : logic.shootSelf();
+
+            if (logic.needsReload() && !logic.isGameOver()) logic.reload();
+            if (r == EveningGameLogic.TurnResult.TURN_END) return;
+        }
+    }
+
+    private static void playDemonTurn(EveningGameLogic logic) {
+        while (!logic.isGameOver()) {
+            logic.planDemonTurn();
+            EveningGameLogic.TurnResult r = logic.executePlannedDemonTurn();
+
+            if (logic.needsReload() && !logic.isGameOver()) logic.reload();
+            if (r == EveningGameLogic.TurnResult.TURN_END) return;
+
+            // 공포탄 + 자기에게 → 다시 악마 턴(컨트롤러처럼 스킵도 다시 확인)
+            if (logic.consumeDemonSkip()) return;
+        }
+    }
+
+    // ===================== 집계 =====================
+
+    private static final class Stats {
+        long games;
+        long wins;
+        long winHp;
+        long turnSum;
+        final long[] turns = new long[TURN_BINS];
+        final long[] granted = new long[4];
+        final long[] used = new long[4];
+
+        void add(Stats o) {
+            games += o.games;
+            wins += o.wins;
+            winHp += o.winHp;
+            turnSum += o.turnSum;
+            for (int i = 0; i < TURN_BINS; i++) turns[i] += o.turns[i];
+            for (int i = 0; i < 4; i++) {
+                granted[i] += o.granted[i];
+                used[i] += o.used[i];
+            }
+        }
+
+        int percentileTurns(double q) {
+            long target = (long) Math.ceil(games * q);
+            long acc = 0;
+            for (int i = 0; i < TURN_BINS; i++) {
+                acc += turns[i];
+                if (acc >= target) return i;
+            }
+            return TURN_BINS - 1;
+        }
+
+        String format(int health, int mental, int intelligence) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format(" %4d %4d %4d | %5.1f%% | %6.1f %4d %4d |",
+                    health, mental, intelligence,
+                    100.0 * wins / games, (double) turnSum / games,
+                    percentileTurns(0.5), percentileTurns(0.9)));
+            for (int i = 0; i < 4; i++) {
+                sb.append(String.format(" %.2f/%.2f", (double) granted[i] / games, (double) used[i] / games));
+            }
+            if (wins > 0) sb.append(String.format("  (이긴 판 남은 HP %.2f)", (double) winHp / wins));
+            return sb.toString();
+        }
+    }
+}
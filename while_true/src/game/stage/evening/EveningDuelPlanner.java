@@ -0,0 +1,264 @@
+package game.stage.evening;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * EveningDuelPlanner (악마 AI 표)
+ * - 상태: (플레이어 HP, 악마 HP, 실탄, 공포탄, 아이템 개수, 스킵 여부, 다음 탄 정보, 이번 턴 아이템 사용 수)
+ * - 악마는 이길 확률 최대, 플레이어는 악마 이길 확률 최소, 탄/재장전은 확률 평균 (expectimax + 메모)
+ * - 아이템은 지급된 뒤로 줄기만 하니까, 스테이지 시작 때 지급 개수 기준으로 표를 한 번만 채움
+ * - 악마 턴에는 표에서 "플레이어를 쏠 확률(%)"만 꺼내 씀 (턴마다 O(1))
+ * - 다 채운 표는 읽기만 하니까 (지능, 아이템 개수)별로 한 번만 만들고 스레드끼리 같이 씀
+ *
+ * [한줄 요약]
+ * - 지능이 높을수록 최적 수에 가깝게, 낮을수록 두 선택의 이길 확률 차이가 작을 때 자주 헷갈림.
+ */
+final class EveningDuelPlanner {
+
+    private static final int MAX_HP = 5;
+    private static final int SHELLS = 6;        // 한 번 장전할 때 총 탄 수(reload와 같음)
+    private static final int MAX_LIVE = 5;      // 장전 시 실탄 1..5
+    private static final int AMMO = 6;          // 실탄/공포탄 각각 0..5
+    private static final int HP = MAX_HP + 1;   // 0..5
+
+    private static final int ITEM_PROCRASTINATE = 0;
+    private static final int ITEM_REST = 1;
+    private static final int ITEM_GPT = 2;
+    private static final int ITEM_RESTART = 3;
+
+    private static final int KNOWN_NONE = 0, KNOWN_LIVE = 1, KNOWN_BLANK = 2;
+
+    private static final int TO_PLAYER = 0, TO_DEMON = 1;
+
+    private static final float IN_PROGRESS = -1f;
+
+    // (지능, 아이템 개수) → 다 채운 표
+    private static final Map<Integer, EveningDuelPlanner> cache = new ConcurrentHashMap<>();
+
+    // 아이템 개수 → 표 인덱스(개수마다 자릿수가 다른 혼합 진법)
+    private final int[] itemBase = new int[4];
+    private final int[] itemRadix = new int[4];
+    private final int[] itemStride = new int[4];
+    private final int itemStates;
+
+    // 지능 1 → 0.27, 지능 10 → 0(항상 최적 수)
+    private final double temperature;
+
+    /** 악마 결정 상태 → 플레이어를 쏠 확률(0~100) */
+    private final byte[] chanceShootPlayer;
+    private final float[] demonValue;
+    private float[] playerValue;   // 표 채우는 동안만 씀
+
+    /** 같은 조건이면 같은 표를 돌려줌 */
+    static EveningDuelPlanner of(int intelligence, int procrastinate, int rest, int gpt, int restart) {
+        int key = ((((clamp(intelligence, 1, 10) * 8 + clamp(procrastinate, 0, 7)) * 8
+                + clamp(rest, 0, 7)) * 8 + clamp(gpt, 0, 7)) * 8) + clamp(restart, 0, 7);
+        return cache.computeIfAbsent(key, k -> new EveningDuelPlanner(intelligence, procrastinate, rest, gpt, restart));
+    }
+
+    EveningDuelPlanner(int intelligence, int procrastinate, int rest, int gpt, int restart) {
+        itemBase[ITEM_PROCRASTINATE] = Math.max(0, procrastinate);
+        itemBase[ITEM_REST] = Math.max(0, rest);
+        itemBase[ITEM_GPT] = Math.max(0, gpt);
+        itemBase[ITEM_RESTART] = Math.max(0, restart);
+
+        int states = 1;
+        for (int k = 0; k < 4; k++) {
+            itemRadix[k] = itemBase[k] + 1;
+            itemStride[k] = states;
+            states *= itemRadix[k];
+        }
+        itemStates = states;
+
+        temperature = 0.03 * (10 - Math.max(1, Math.min(10, intelligence)));
+
+        int demonStates = HP * HP * AMMO * AMMO * itemStates;
+        chanceShootPlayer = new byte[demonStates];
+        demonValue = new float[demonStates];
+        playerValue = new float[demonStates * 2 * 3 * 3];
+        Arrays.fill(demonValue, Float.NaN);
+        Arrays.fill(playerValue, Float.NaN);
+
+        // 실제 게임에서 나올 수 있는 악마 결정 상태 전부(지급 개수 이하의 아이템 조합)
+        for (int p = 1; p <= MAX_HP; p++) {
+            for (int d = 1; d <= MAX_HP; d++) {
+                for (int l = 0; l < AMMO; l++) {
+                    for (int b = 0; b < AMMO && l + b <= SHELLS; b++) {
+                        if (l + b == 0) continue;
+                        for (int it = 0; it < itemStates; it++) demonTurn(p, d, l, b, it);
+                    }
+                }
+            }
+        }
+        playerValue = null;
+    }
+
+    /** 악마 턴: 지금 상태에서 플레이어를 쏠 확률(%) */
+    int chanceShootPlayer(int playerHp, int demonHp, int live, int blank,
+                          int procrastinate, int rest, int gpt, int restart) {
+        if (playerHp <= 0 || demonHp <= 0 || live + blank <= 0) return 50;
+
+        int p = Math.min(MAX_HP, playerHp);
+        int d = Math.min(MAX_HP, demonHp);
+        int l = Math.min(AMMO - 1, live);
+        int b = Math.min(AMMO - 1, blank);
+
+        int it = itemIndex(procrastinate, rest, gpt, restart);
+        return chanceShootPlayer[demonIndex(p, d, l, b, it)];
+    }
+
+    /** 악마 턴 시작 상태에서 악마가 이길 확률(둘 다 최선일 때) */
+    double demonWinChance(int playerHp, int demonHp, int live, int blank,
+                          int procrastinate, int rest, int gpt, int restart) {
+        if (demonHp <= 0) return 0;
+        if (playerHp <= 0) return 1;
+        if (live + blank <= 0) return 0.5;
+
+        int it = itemIndex(procrastinate, rest, gpt, restart);
+        return demonTurn(Math.min(MAX_HP, playerHp), Math.min(MAX_HP, demonHp),
+                Math.min(AMMO - 1, live), Math.min(AMMO - 1, blank), it);
+    }
+
+    // ===================== 값 계산 =====================
+
+    // 악마가 쏠 차례(스킵은 이미 처리됨). 반환: 악마가 이길 확률
+    private float demonTurn(int p, int d, int l, int b, int it) {
+        int idx = demonIndex(p, d, l, b, it);
+        float v = demonValue[idx];
+        if (v == IN_PROGRESS) throw new IllegalStateException("순환 상태: " + p + "/" + d + "/" + l + "/" + b);
+        if (!Float.isNaN(v)) return v;
+        demonValue[idx] = IN_PROGRESS;
+
+        float pl = (float) l / (l + b);
+
+        // 플레이어에게: 실탄이면 플레이어 HP -1, 어느 쪽이든 턴 넘어감
+        float qPlayer = 0f;
+        if (l > 0) qPlayer += pl * next(TO_PLAYER, p - 1, d, l - 1, b, it, 0, 0);
+        if (b > 0) qPlayer += (1 - pl) * next(TO_PLAYER, p, d, l, b - 1, it, 0, 0);
+
+        // 자기에게: 실탄이면 악마 HP -1 + 턴 넘어감, 공포탄이면 다시 악마 턴
+        float qSelf = 0f;
+        if (l > 0) qSelf += pl * next(TO_PLAYER, p, d - 1, l - 1, b, it, 0, 0);
+        if (b > 0) qSelf += (1 - pl) * next(TO_DEMON, p, d, l, b - 1, it, 0, 0);
+
+        chanceShootPlayer[idx] = (byte) chance(qPlayer - qSelf);
+        v = Math.max(qPlayer, qSelf);
+        demonValue[idx] = v;
+        return v;
+    }
+
+    // 플레이어 차례. 반환: 악마가 이길 확률(플레이어는 이걸 최소로)
+    private float playerTurn(int p, int d, int l, int b, int it, int skip, int known, int used) {
+        int idx = playerIndex(p, d, l, b, it, skip, known, used);
+        float v = playerValue[idx];
+        if (v == IN_PROGRESS) throw new IllegalStateException("순환 상태: " + p + "/" + d + "/" + l + "/" + b);
+        if (!Float.isNaN(v)) return v;
+        playerValue[idx] = IN_PROGRESS;
+
+        float pl = (known == KNOWN_LIVE) ? 1f : (known == KNOWN_BLANK) ? 0f : (float) l / (l + b);
+
+        float shootEnemy = 0f;
+        if (pl > 0) shootEnemy += pl * next(TO_DEMON, p, d - 1, l - 1, b, it, skip, 0);
+        if (pl < 1) shootEnemy += (1 - pl) * next(TO_DEMON, p, d, l, b - 1, it, skip, 0);
+
+        // 공포탄이면 턴 유지(아이템 사용 횟수도 유지)
+        float shootSelf = 0f;
+        if (pl > 0) shootSelf += pl * next(TO_DEMON, p - 1, d, l - 1, b, it, skip, 0);
+        if (pl < 1) shootSelf += (1 - pl) * next(TO_PLAYER, p, d, l, b - 1, it, skip, used);
+
+        float best = Math.min(shootEnemy, shootSelf);
+
+        if (used < 2) {
+            int u = used + 1;
+
+            if (has(it, ITEM_PROCRASTINATE)) {
+                best = Math.min(best, playerTurn(p, d, l, b, it - itemStride[ITEM_PROCRASTINATE], 1, known, u));
+            }
+            if (has(it, ITEM_REST)) {
+                best = Math.min(best, playerTurn(Math.min(MAX_HP, p + 1), d, l, b, it - itemStride[ITEM_REST], skip, known, u));
+            }
+            if (has(it, ITEM_GPT)) {
+                int rest = it - itemStride[ITEM_GPT];
+                float gpt;
+                if (known != KNOWN_NONE) {
+                    gpt = playerTurn(p, d, l, b, rest, skip, known, u);
+                } else {
+                    gpt = 0f;
+                    if (l > 0) gpt += pl * playerTurn(p, d, l, b, rest, skip, KNOWN_LIVE, u);
+                    if (b > 0) gpt += (1 - pl) * playerTurn(p, d, l, b, rest, skip, KNOWN_BLANK, u);
+                }
+                best = Math.min(best, gpt);
+            }
+            if (has(it, ITEM_RESTART)) {
+                int rest = it - itemStride[ITEM_RESTART];
+                float restart = 0f;
+                for (int live = 1; live <= MAX_LIVE; live++) {
+                    restart += playerTurn(p, d, live, SHELLS - live, rest, skip, KNOWN_NONE, u);
+                }
+                best = Math.min(best, restart / MAX_LIVE);
+            }
+        }
+
+        playerValue[idx] = best;
+        return best;
+    }
+
+    // 발사 후: 승부 판정 → (비었으면 재장전 평균) → 다음 차례
+    private float next(int who, int p, int d, int l, int b, int it, int skip, int used) {
+        if (d <= 0) return 0f;
+        if (p <= 0) return 1f;
+
+        if (l + b > 0) return turn(who, p, d, l, b, it, skip, used);
+
+        float sum = 0f;
+        for (int live = 1; live <= MAX_LIVE; live++) {
+            sum += turn(who, p, d, live, SHELLS - live, it, skip, used);
+        }
+        return sum / MAX_LIVE;
+    }
+
+    private float turn(int who, int p, int d, int l, int b, int it, int skip, int used) {
+        if (who == TO_PLAYER) return playerTurn(p, d, l, b, it, skip, KNOWN_NONE, used);
+
+        // 악마 턴 시작: 과제미루기가 걸려 있으면 스킵 → 새 플레이어 턴
+        if (skip != 0) return playerTurn(p, d, l, b, it, 0, KNOWN_NONE, 0);
+        return demonTurn(p, d, l, b, it);
+    }
+
+    // 두 선택의 이길 확률 차이 → 플레이어를 쏠 확률(%). 온도 0이면 항상 더 나은 쪽
+    private int chance(float gap) {
+        if (temperature <= 0) return (gap > 0) ? 100 : (gap < 0) ? 0 : 50;
+        double c = 100.0 / (1.0 + Math.exp(-gap / temperature));
+        return (int) Math.round(c);
+    }
+
+    // ===================== 인덱스 =====================
+
+    private static int clamp(int v, int min, int max) {
+        return Math.max(min, Math.min(max, v));
+    }
+
+    private boolean has(int it, int item) {
+        return (it / itemStride[item]) % itemRadix[item] > 0;
+    }
+
+    private int itemIndex(int procrastinate, int rest, int gpt, int restart) {
+        int[] counts = { procrastinate, rest, gpt, restart };
+        int it = 0;
+        for (int k = 0; k < 4; k++) {
+            int c = Math.max(0, Math.min(itemBase[k], counts[k]));
+            it += c * itemStride[k];
+        }
+        return it;
+    }
+
+    private int demonIndex(int p, int d, int l, int b, int it) {
+        return (((p * HP + d) * AMMO + l) * AMMO + b) * itemStates + it;
+    }
+
+    private int playerIndex(int p, int d, int l, int b, int it, int skip, int known, int used) {
+        return ((demonIndex(p, d, l, b, it) * 2 + skip) * 3 + known) * 3 + used;
+    }
+}
@@ -0,0 +1,90 @@
+package game.stage.evening;
+
+/**
+ * EveningEvent (저녁 로그 이벤트 종류 + 문장)
+ * - 이벤트는 (종류, a, b) 정수 3개뿐이고, 문장은 화면에 보일 때만 text()로 만듦
+ * - a/b 의미는 종류마다 다름(아래 주석)
+ */
+public final class EveningEvent {
+
+    // ---------------- 플레이어 ----------------
+    public static final int PLAYER_SHOOT_ENEMY = 1;   // a: 실탄 1 / 공포탄 0
+    public static final int PLAYER_SHOOT_SELF = 2;    // a: 실탄 1 / 공포탄 0
+    public static final int PLAYER_NO_ITEM = 3;       // a: 아이템 번호(ITEM_*)
+    public static final int PLAYER_PROCRASTINATE = 4;
+    public static final int PLAYER_REST = 5;          // a: 회복 전 HP, b: 회복 후 HP
+    public static final int PLAYER_GPT = 6;           // a: 다음 탄이 실탄이면 1
+    public static final int PLAYER_RESTART = 7;
+
+    // ---------------- 과제 악마 ----------------
+    public static final int DEMON_THINK = 10;
+    public static final int DEMON_AIM = 11;           // a: 플레이어를 겨누면 1
+    public static final int DEMON_SHOT = 12;          // a: 플레이어를 쐈으면 1, b: 실탄 1 / 공포탄 0
+    public static final int DEMON_SKIP = 13;
+
+    // ---------------- 시스템 ----------------
+    public static final int SYSTEM_START = 20;
+    public static final int SYSTEM_RELOADING = 21;
+    public static final int SYSTEM_RELOADED = 22;     // a: 실탄 수, b: 공포탄 수
+    public static final int SYSTEM_ITEM_LIMIT = 23;   // a: 턴당 최대 개수
+
+    // 아이템 번호(PLAYER_NO_ITEM의 a)
+    public static final int ITEM_PROCRASTINATE = 0;
+    public static final int ITEM_REST = 1;
+    public static final int ITEM_GPT = 2;
+    public static final int ITEM_RESTART = 3;
+
+    private static final String[] NO_ITEM = { "과제미루기가 없다.", "잠깐의휴식이 없다.", "GPT의도움이 없다.", "재장전이 없다." };
+
+    private EveningEvent() {}
+
+    /** 로그 한 줄(말머리 포함) */
+    public static String text(int kind, int a, int b) {
+        switch (kind) {
+            case PLAYER_SHOOT_ENEMY:
+                return "[플레이어] " + (a != 0
+                        ? "적에게 쐈다! 실탄이 맞아 과제 악마에게 1의 피해!"
+                        : "적에게 쐈지만 공포탄이었다...");
+            case PLAYER_SHOOT_SELF:
+                return "[플레이어] " + (a != 0
+                        ? "자기 자신에게 쐈다... 실탄이다! 내 HP가 1 줄었다."
+                        : "자기 자신에게 쐈다. 공포탄이다! 턴을 계속 유지한다.");
+            case PLAYER_NO_ITEM:
+                return "[플레이어] " + NO_ITEM[Math.floorMod(a, NO_ITEM.length)];
+            case PLAYER_PROCRASTINATE:
+                return "[플레이어] 🗂️ [과제미루기] 과제 악마의 다음 턴이 스킵된다!";
+            case PLAYER_REST:
+                return "[플레이어] 🛌 [잠깐의휴식] HP 회복! (" + a + " → " + b + ")";
+            case PLAYER_GPT:
+                return "[플레이어] 🤖 [GPT의도움] 다음 탄은 " + (a != 0 ? "실탄" : "공포탄") + "이다.";
+            case PLAYER_RESTART:
+                return "[플레이어] 🔄 [재장전] 즉시 재장전! (턴 유지)";
+
+            case DEMON_THINK:
+                return "[과제 악마] 누구에게 총을 겨눌지 고민합니다...";
+            case DEMON_AIM:
+                return "[과제 악마] " + (a != 0 ? "당신에게 총구를 겨눴다..." : "자기 자신에게 총구를 겨눴다...");
+            case DEMON_SHOT:
+                if (a != 0) {
+                    return "[과제 악마] 과제 악마가 당신을 노리고 방아쇠를 당겼다! "
+                            + (b != 0 ? "💥 실탄! 내 HP가 1 줄었다." : "공포탄… 피해는 없었다.");
+                }
+                return "[과제 악마] 과제 악마가 자기 자신에게 방아쇠를 당겼다! "
+                        + (b != 0 ? "💥 실탄! 악마 HP가 1 줄었다." : "공포탄이다! 악마는 다시 행동할 수 있다.");
+            case DEMON_SKIP:
+                return "[과제 악마] ...이번 턴은 미뤄졌다. (턴 스킵)";
+
+            case SYSTEM_START:
+                return "[SYSTEM] 저녁 스테이지 시작!";
+            case SYSTEM_RELOADING:
+                return "[SYSTEM] 재장전 중입니다...";
+            case SYSTEM_RELOADED:
+                return "[SYSTEM] 장전 완료! (실탄 " + a + " / 공포탄 " + b + ")";
+            case SYSTEM_ITEM_LIMIT:
+                return "[SYSTEM] 이번 턴에는 아이템을 더 사용할 수 없다. (최대 " + a + "개)";
+
+            default:
+                return "[?] " + kind;
+        }
+    }
+}
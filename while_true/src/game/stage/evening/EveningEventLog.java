@@ -0,0 +1,76 @@
+package game.stage.evening;
+
+/**
+ * EveningEventLog (저녁 로그 링 버퍼)
+ * - 이벤트 하나 = int 하나(종류 8비트 | a 8비트 | b 8비트). 꽉 차면 가장 오래된 것부터 덮어씀
+ * - 이벤트마다 0부터 늘어나는 번호(seq)가 있고, oldest() ~ total()-1 만 남아 있음
+ * - push는 배열에 값만 씀(문자열/객체 안 만듦). 문장은 보이는 줄만 text(seq)로 만듦
+ */
+public final class EveningEventLog {
+
+    /** 기록 안 함(시뮬레이션용). push가 아무것도 안 하니까 스레드끼리 같이 써도 됨 */
+    public static final EveningEventLog DISABLED = new EveningEventLog(0);
+
+    private final int[] ring;
+    private final int mask;
+    private long total;
+
+    /** capacity는 2의 거듭제곱으로 올림(0이면 기록 안 함) */
+    public EveningEventLog(int capacity) {
+        int cap = 0;
+        if (capacity > 0) {
+            cap = 1;
+            while (cap < capacity) cap <<= 1;
+        }
+        this.ring = new int[cap];
+        this.mask = cap - 1;
+    }
+
+    public void push(int kind) {
+        push(kind, 0, 0);
+    }
+
+    public void push(int kind, int a, int b) {
+        if (ring.length == 0) return;
+        ring[(int) (total & mask)] = (kind & 0xff) | (a & 0xff) << 8 | (b & 0xff) << 16;
+        total++;
+    }
+
+    /** 지금까지 push된 개수(= 다음 이벤트 번호) */
+    public long total() {
+        return total;
+    }
+
+    /** 아직 남아 있는 가장 오래된 이벤트 번호 */
+    public long oldest() {
+        return Math.max(0, total - ring.length);
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    public int kind(long seq) {
+        return slot(seq) & 0xff;
+    }
+
+    public int a(long seq) {
+        return (slot(seq) >>> 8) & 0xff;
+    }
+
+    public int b(long seq) {
+        return (slot(seq) >>> 16) & 0xff;
+    }
+
+    public String text(long seq) {
+        int v = slot(seq);
+        return EveningEvent.text(v & 0xff, (v >>> 8) & 0xff, (v >>> 16) & 0xff);
+    }
+
+    private int slot(long seq) {
+        if (seq < oldest() || seq >= total) {
+            throw new IndexOutOfBoundsException("seq " + seq + " (남은 범위 " + oldest() + "~" + (total - 1) + ")");
+        }
+        return ring[(int) (seq & mask)];
+    }
+}
@@ -1,24 +1,28 @@
 package game.stage.evening;
 
-import java.util.Random;
+import game.core.GameRandom;
+
+import java.util.SplittableRandom;
 
 /**
  * EveningGameLogic (아이템 버전)
  * - 자동 재장전 없음: needsReload() -> 컨트롤러가 2초 연출 후 reload() 호출
  * - 자기 자신에게 공포탄이면 턴 유지 (플레이어/악마 동일)
- * - 악마 턴: planDemonTurn()로 겨눌 대상/탄 미리 결정 -> executePlannedDemonTurn()
+ * - 악마 턴: planDemonTurn()로 겨눌 대상 미리 결정 -> executePlannedDemonTurn()
+ *   (다음 탄을 엿보지 않고, 시작 때 만든 EveningDuelPlanner 표에서 지능에 맞는 확률을 꺼내 씀)
  * - 아이템(플레이어만):
  *   1) 과제미루기: 악마 다음 턴 스킵
  *   2) 잠깐의휴식: HP +1(최대 5)
  *   3) GPT의도움: 다음 탄(실/공포) 확인(소모X, 다음 발사에 적용)
  *   4) 재장전: 즉시 장전(reload), 턴 유지(연출은 컨트롤러에서)
+ * - 로그는 문장 대신 EveningEvent(종류 + 숫자 2개)를 events() 링 버퍼에 쌓음. 문장은 화면에 보일 때만 만듦
  */
 public class EveningGameLogic {
 
     public enum DemonTarget { PLAYER, SELF }
     public enum TurnResult { TURN_END, TURN_CONTINUE }
 
-    private final Random random = new Random();
+    private final SplittableRandom random;
 
     // 기본 스탯
     private int health;
@@ -34,12 +38,12 @@ public class EveningGameLogic {
     private int liveCount;
     private int blankCount;
 
-    // "다음 탄" 미리보기 캐시 (GPT / 악마 plan에서 사용)
+    // "다음 탄" 미리보기 캐시 (GPT에서 사용)
     private Boolean cachedNextBulletLive = null;
 
     // 악마 plan
     private DemonTarget plannedTarget = null;
-    private Boolean plannedBulletLive = null;
+    private EveningDuelPlanner planner;
 
     // 아이템 카운트
     private int itemProcrastinate; // 과제미루기
@@ -50,11 +54,26 @@ public class EveningGameLogic {
     // 악마 턴 스킵 플래그
     private boolean demonSkipNext = false;
 
+    // 로그 이벤트(창에 보이는 만큼보다 넉넉하게, 오래된 건 덮어씀)
+    private static final int LOG_CAPACITY = 256;
+    private final EveningEventLog events;
+
     public EveningGameLogic() {
         this(8, 5, 7, 6);
     }
 
     public EveningGameLogic(int health, int mental, int intelligence, int social) {
+        this(health, mental, intelligence, social, GameRandom.stream("evening"), new EveningEventLog(LOG_CAPACITY));
+    }
+
+    /**
+     * 시드 고정용(시뮬레이션/재현). random은 한 스레드에서만 써야 함
+     * @param events 기록 안 하려면 EveningEventLog.DISABLED
+     */
+    public EveningGameLogic(int health, int mental, int intelligence, int social,
+                            SplittableRandom random, EveningEventLog events) {
+        this.random = random;
+        this.events = events;
         this.health = clamp(health, 1, 10);
         this.mental = clamp(mental, 1, 10);
         this.intelligence = clamp(intelligence, 1, 10);
@@ -64,6 +83,10 @@ public class EveningGameLogic {
 
         reload();        // 첫 장전
         grantItems();    // 멘탈 기반 랜덤 지급
+
+        // 지급된 아이템 기준으로 악마 판단표를 한 번에 채움
+        planner = EveningDuelPlanner.of(this.intelligence,
+                itemProcrastinate, itemRest, itemGpt, itemRestart);
     }
 
     // ---------------- getters ----------------
@@ -82,6 +105,12 @@ public class EveningGameLogic {
     public int getItemGpt() { return itemGpt; }
     public int getItemRestart() { return itemRestart; }
 
+    /** 로그 이벤트(컨트롤러의 연출 문구도 여기에 같이 쌓음) */
+    public EveningEventLog events() { return events; }
+
+    /** GPT로 확인한 다음 탄(true=실탄). 모르면 null */
+    Boolean knownNextBullet() { return cachedNextBulletLive; }
+
     public boolean isGameOver() {
         return playerHp <= 0 || demonHp <= 0;
     }
@@ -103,7 +132,6 @@ public class EveningGameLogic {
         // 캐시/plan 초기화
         cachedNextBulletLive = null;
         plannedTarget = null;
-        plannedBulletLive = null;
     }
 
     // ---------------- 아이템 지급 ----------------
@@ -129,79 +157,76 @@ public class EveningGameLogic {
     }
 
     // ---------------- 플레이어: 발사 ----------------
-    public TurnResult shootEnemy(StringBuilder log) {
+    public TurnResult shootEnemy() {
         if (isGameOver()) return TurnResult.TURN_END;
 
         boolean bullet = drawBullet();
         if (bullet) {
             demonHp = Math.max(0, demonHp - 1);
-            log.append("적에게 쐈다! 실탄이 맞아 과제 악마에게 1의 피해!\n");
-        } else {
-            log.append("적에게 쐈지만 공포탄이었다...\n");
         }
+        events.push(EveningEvent.PLAYER_SHOOT_ENEMY, bullet ? 1 : 0, 0);
         return TurnResult.TURN_END;
     }
 
     /** 공포탄 + 자기에게 발사 -> TURN_CONTINUE */
-    public TurnResult shootSelf(StringBuilder log) {
+    public TurnResult shootSelf() {
         if (isGameOver()) return TurnResult.TURN_END;
 
         boolean bullet = drawBullet();
+        events.push(EveningEvent.PLAYER_SHOOT_SELF, bullet ? 1 : 0, 0);
         if (bullet) {
             playerHp = Math.max(0, playerHp - 1);
-            log.append("자기 자신에게 쐈다... 실탄이다! 내 HP가 1 줄었다.\n");
             return TurnResult.TURN_END;
         } else {
-            log.append("자기 자신에게 쐈다. 공포탄이다! 턴을 계속 유지한다.\n");
             return TurnResult.TURN_CONTINUE;
         }
     }
 
     // ---------------- 플레이어: 아이템 ----------------
-    public boolean useProcrastinate(StringBuilder log) {
+    public boolean useProcrastinate() {
         if (itemProcrastinate <= 0) {
-            log.append("과제미루기가 없다.\n");
+            events.push(EveningEvent.PLAYER_NO_ITEM, EveningEvent.ITEM_PROCRASTINATE, 0);
             return false;
         }
         itemProcrastinate--;
         demonSkipNext = true;
-        log.append("🗂️ [과제미루기] 과제 악마의 다음 턴이 스킵된다!\n");
+        events.push(EveningEvent.PLAYER_PROCRASTINATE);
         return true;
     }
 
-    public boolean useRest(StringBuilder log) {
+    public boolean useRest() {
         if (itemRest <= 0) {
-            log.append("잠깐의휴식이 없다.\n");
+            events.push(EveningEvent.PLAYER_NO_ITEM, EveningEvent.ITEM_REST, 0);
             return false;
         }
         itemRest--;
         int before = playerHp;
         playerHp = Math.min(5, playerHp + 1);
-        log.append("🛌 [잠깐의휴식] HP 회복! (").append(before).append(" → ").append(playerHp).append(")\n");
+        events.push(EveningEvent.PLAYER_REST, before, playerHp);
         return true;
     }
 
     /** 다음 탄(실/공포) 확인. 소모 X, 다음 발사에 적용(캐시) */
-    public boolean useGpt(StringBuilder log) {
+    public boolean useGpt() {
         if (itemGpt <= 0) {
-            log.append("GPT의도움이 없다.\n");
+            events.push(EveningEvent.PLAYER_NO_ITEM, EveningEvent.ITEM_GPT, 0);
             return false;
         }
         itemGpt--;
         boolean next = peekNextBullet(); // 캐시 세팅
-        log.append("🤖 [GPT의도움] 다음 탄은 ").append(next ? "실탄" : "공포탄").append("이다.\n");
+        events.push(EveningEvent.PLAYER_GPT, next ? 1 : 0, 0);
         return true;
     }
 
     /** 즉시 재장전(턴 유지). 연출은 컨트롤러에서 2초 Timer로 처리 */
-    public boolean useRestart(StringBuilder log) {
+    public boolean useRestart() {
         if (itemRestart <= 0) {
-            log.append("재장전이 없다.\n");
+            events.push(EveningEvent.PLAYER_NO_ITEM, EveningEvent.ITEM_RESTART, 0);
             return false;
         }
         itemRestart--;
         reload();
-        log.append("🔄 [재장전] 즉시 재장전! (턴 유지)\n");
+        events.push(EveningEvent.PLAYER_RESTART);
         return true;
     }
 
@@ -220,71 +245,50 @@ public class EveningGameLogic {
 
         // ⭐ 한 종류만 남은 "확정 구간"이면 악마는 멍청하게 확률 굴리지 말고 최적 플레이
         if (blankCount == 0 && liveCount > 0) {          // 실탄만 남음
-            plannedBulletLive = true;                    // 다음 탄은 실탄 확정
             plannedTarget = DemonTarget.PLAYER;          // 플레이어에게 쏴야 이득
             return plannedTarget;
         }
         if (liveCount == 0 && blankCount > 0) {          // 공포탄만 남음
-            plannedBulletLive = false;                   // 다음 탄은 공포탄 확정
             plannedTarget = DemonTarget.SELF;            // 자기에게 쏴서 턴 유지 노림
             return plannedTarget;
         }
 
-        plannedBulletLive = peekNextBullet(); // 캐시 세팅 + 탄 종류 확정
-
-        int chanceShootPlayer;
-        if (plannedBulletLive) {
-            chanceShootPlayer = 80 - intelligence * 3;
-            if (chanceShootPlayer < 30) chanceShootPlayer = 30;
-        } else {
-            chanceShootPlayer = 30 + intelligence * 3;
-            if (chanceShootPlayer > 90) chanceShootPlayer = 90;
-        }
+        // 남은 탄/HP/플레이어 아이템으로 양쪽 선택의 이길 확률을 비교한 표(지능이 높을수록 최적 수)
+        int chanceShootPlayer = planner.chanceShootPlayer(playerHp, demonHp, liveCount, blankCount,
+                itemProcrastinate, itemRest, itemGpt, itemRestart);
 
         boolean targetPlayer = random.nextInt(100) < chanceShootPlayer;
         plannedTarget = targetPlayer ? DemonTarget.PLAYER : DemonTarget.SELF;
         return plannedTarget;
     }
 
-    public TurnResult executePlannedDemonTurn(StringBuilder log) {
+    public TurnResult executePlannedDemonTurn() {
         if (isGameOver()) return TurnResult.TURN_END;
 
-        if (plannedTarget == null || plannedBulletLive == null) {
+        if (plannedTarget == null) {
             planDemonTurn();
         }
 
-        // 계획한 "그 탄"을 실제로 소모(캐시를 쓰도록 drawBullet 호출)
-        boolean bullet = drawBullet(); // 이게 plannedBulletLive와 동일해야 함
+        boolean bullet = drawBullet();
+        boolean atPlayer = plannedTarget == DemonTarget.PLAYER;
+        events.push(EveningEvent.DEMON_SHOT, atPlayer ? 1 : 0, bullet ? 1 : 0);
+        clearPlan();
 
-        if (plannedTarget == DemonTarget.PLAYER) {
-            log.append("과제 악마가 당신을 노리고 방아쇠를 당겼다! ");
-            if (bullet) {
-                playerHp = Math.max(0, playerHp - 1);
-                log.append("💥 실탄! 내 HP가 1 줄었다.\n");
-            } else {
-                log.append("공포탄… 피해는 없었다.\n");
-            }
-            clearPlan();
+        if (atPlayer) {
+            if (bullet) playerHp = Math.max(0, playerHp - 1);
             return TurnResult.TURN_END;
         }
 
-        // 자기 자신에게
-        log.append("과제 악마가 자기 자신에게 방아쇠를 당겼다! ");
+        // 자기 자신에게: 공포탄이면 다시 행동
         if (bullet) {
             demonHp = Math.max(0, demonHp - 1);
-            log.append("💥 실탄! 악마 HP가 1 줄었다.\n");
-            clearPlan();
             return TurnResult.TURN_END;
-        } else {
-            log.append("공포탄이다! 악마는 다시 행동할 수 있다.\n");
-            clearPlan();
-            return TurnResult.TURN_CONTINUE;
         }
+        return TurnResult.TURN_CONTINUE;
     }
 
     private void clearPlan() {
         plannedTarget = null;
-        plannedBulletLive = null;
     }
 
     // ---------------- 탄 처리 ----------------
@@ -306,7 +310,7 @@ public class EveningGameLogic {
 
     /** 실제 발사: 캐시가 있으면 그걸 먼저 소모 */
     private boolean drawBullet() {
-        // 캐시 우선 소모(GPT/악마 plan이 봤던 "그 탄"을 그대로 쓴다)
+        // 캐시 우선 소모(GPT가 봤던 "그 탄"을 그대로 쓴다)
         if (cachedNextBulletLive != null) {
             boolean b = cachedNextBulletLive;
             cachedNextBulletLive = null;
@@ -1,56 +1,198 @@
 package game.stage.morning;
 
 import javax.imageio.ImageIO;
+import java.awt.GraphicsConfiguration;
 import java.awt.Image;
-import java.io.InputStream;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.net.URL;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 
 public class Assets {
 
-    private static final Map<String, Image> cache = new HashMap<>();
-    private static final Set<String> missingLogged = new HashSet<>();
+    // 없는 이미지 표시용(캐시 한 번 조회로 miss까지 판정)
+    private static final Image MISSING = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
 
+    private static final Map<String, Image> cache = new ConcurrentHashMap<>();
+    private static final Set<String> requested = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger version = new AtomicInteger();
+    private static final Map<Integer, SpriteAtlas> atlases = new HashMap<>();
+
+    private static final String[] BASES = new String[] {
+            "/assets/images/morning/",
+            "/assets/images/",
+            "/assets/",
+            "/game/stage/morning/",
+            "/"
+    };
+
+    private static final String[] EXTS = new String[] { ".png", ".jpg", ".jpeg" };
+
+    // 디코딩은 전부 여기서(렌더 스레드/EDT 안 막음)
+    private static final ExecutorService loader = Executors.newFixedThreadPool(2, r -> {
+        Thread t = new Thread(r, "morning-assets");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 리소스 경로("/assets/images/morning/Apple.jpg") → URL. 처음 로드할 때 한 번만 스캔
+    private static Map<String, URL> index;
+
+    // 준비된 이미지면 바로 반환, 아니면 백그라운드 로드를 걸어두고 null 반환
     public static Image get(String key) {
         if (key == null || key.isBlank()) return null;
 
         Image cached = cache.get(key);
+        if (cached == MISSING) return null;
         if (cached != null) return cached;
 
-        Image img = tryLoad(key);
-        if (img != null) cache.put(key, img);
-        return img;
+        request(key);
+        return null;
+    }
+
+    public static void preload(String... keys) {
+        for (String key : keys) {
+            if (key == null || key.isBlank()) continue;
+            if (cache.containsKey(key)) continue;
+            request(key);
+        }
+    }
+
+    // 찾아봤는데 없는 키인지(로드 중이면 false)
+    public static boolean isMissing(String key) {
+        return key == null || key.isBlank() || cache.get(key) == MISSING;
+    }
+
+    // 로드가 끝날 때마다 증가. 캐시해둔 레이어/아틀라스가 다시 만들지 판단할 때 씀
+    public static int version() {
+        return version.get();
     }
 
-    private static Image tryLoad(String key) {
+    // 타일 크기별 미리 스케일된 스프라이트(처음 요청 시 한 번만 만듦)
+    public static SpriteAtlas atlas(int tile, GraphicsConfiguration gc) {
+        SpriteAtlas a = atlases.get(tile);
+        if (a == null || a.isStale()) {
+            a = new SpriteAtlas(tile, gc);
+            atlases.put(tile, a);
+        }
+        return a;
+    }
+
+    private static void request(String key) {
+        if (!requested.add(key)) return;
+        loader.execute(() -> load(key));
+    }
+
+    private static void load(String key) {
         List<String> keyVariants = buildKeyVariants(key);
+        URL url = resolve(keyVariants);
 
-        String[] bases = new String[] {
-                "/assets/images/morning/",
-                "/assets/images/",
-                "/assets/",
-                "/game/stage/morning/",
-                "/"
-        };
+        Image img = null;
+        if (url != null) {
+            try {
+                img = ImageIO.read(url);
+            } catch (Exception ignored) {}
+        }
 
-        String[] exts = new String[] { ".png", ".jpg", ".jpeg" };
+        if (img == null) {
+            System.out.println("[Assets] missing image for key=" + key
+                    + " (searched: " + summarize(keyVariants) + ")");
+            img = MISSING;
+        }
+
+        cache.put(key, img);
+        version.incrementAndGet();
+    }
 
+    // 예전 probe 순서(키 변형 → base → 확장자) 그대로, 디스크 대신 인덱스에서 찾음
+    private static URL resolve(List<String> keyVariants) {
+        Map<String, URL> idx = index();
         for (String kv : keyVariants) {
-            for (String base : bases) {
-                for (String ext : exts) {
-                    String path = base + kv + ext;
-                    try (InputStream in = Assets.class.getResourceAsStream(path)) {
-                        if (in == null) continue;
-                        return ImageIO.read(in);
-                    } catch (Exception ignored) {}
+            for (String base : BASES) {
+                for (String ext : EXTS) {
+                    URL u = idx.get(base + kv + ext);
+                    if (u != null) return u;
                 }
             }
         }
+        return null;
+    }
 
-        if (missingLogged.add(key)) {
-            System.out.println("[Assets] missing image for key=" + key
-                    + " (searched: " + summarize(keyVariants) + ")");
+    private static synchronized Map<String, URL> index() {
+        if (index == null) index = buildIndex();
+        return index;
+    }
+
+    private static Map<String, URL> buildIndex() {
+        Map<String, URL> idx = new HashMap<>();
+
+        // 작업 디렉터리 기준 assets/ (다른 스테이지들이 쓰는 경로)
+        indexDir(idx, new File("assets"), "/assets/");
+
+        // classpath가 우선
+        try {
+            Enumeration<URL> roots = Assets.class.getClassLoader().getResources("");
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                if ("file".equals(root.getProtocol())) {
+                    indexDir(idx, new File(root.toURI()), "/");
+                }
+            }
+
+            URL src = Assets.class.getProtectionDomain().getCodeSource().getLocation();
+            if (src != null && src.getPath().endsWith(".jar")) {
+                indexJar(idx, new File(src.toURI()));
+            }
+        } catch (Exception e) {
+            System.out.println("[Assets] classpath scan failed: " + e.getMessage());
         }
-        return null;
+
+        return idx;
+    }
+
+    private static void indexDir(Map<String, URL> idx, File dir, String prefix) {
+        File[] files = dir.listFiles();
+        if (files == null) return;
+
+        for (File f : files) {
+            String name = f.getName();
+            if (name.startsWith(".")) continue;
+
+            if (f.isDirectory()) {
+                indexDir(idx, f, prefix + name + "/");
+            } else if (isImage(name)) {
+                try {
+                    idx.put(prefix + name, f.toURI().toURL());
+                } catch (Exception ignored) {}
+            }
+        }
+    }
+
+    private static void indexJar(Map<String, URL> idx, File jar) {
+        try (JarFile jf = new JarFile(jar)) {
+            Enumeration<JarEntry> entries = jf.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry e = entries.nextElement();
+                if (e.isDirectory() || !isImage(e.getName())) continue;
+
+                URL u = Assets.class.getResource("/" + e.getName());
+                if (u != null) idx.put("/" + e.getName(), u);
+            }
+        } catch (Exception ignored) {}
+    }
+
+    private static boolean isImage(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        for (String ext : EXTS) {
+            if (lower.endsWith(ext)) return true;
+        }
+        return false;
     }
 
     private static List<String> buildKeyVariants(String key) {
@@ -1,25 +1,42 @@
 package game.stage.morning;
 
-import javax.swing.JPanel;
+import game.core.InputLog;
+import game.core.Scene;
+import game.core.SceneManager;
+
 import javax.swing.SwingUtilities;
-import javax.swing.Timer;
+import javax.swing.UIManager;
+import java.awt.Canvas;
+import java.awt.Color;
 import java.awt.Dimension;
-import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Toolkit;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
+import java.awt.image.BufferStrategy;
 
-public class GamePanel extends JPanel implements KeyListener {
+// 아침 스테이지 화면. 루프는 SceneManager가 돌리고 여기서는 tick/렌더만 함
+public class GamePanel extends Canvas implements KeyListener, Scene {
 
     public static final int TILE = 32;
     public static final int W = 15;
     public static final int H = 15;
-    public static final int DELAY_MS = 170;
+    public static final int DELAY_MS = 170; // 시뮬레이션 1 tick 길이(뱀 템포)
 
     public static final int UI_H = 160;
 
+    private static final long STEP_NS = DELAY_MS * 1_000_000L;
+
     private final GameState state = new GameState(W, H);
-    private final Timer timer;
+    private final HudLayer hud = new HudLayer(W * TILE, UI_H);
+    private final Color bgColor;
+
+    // peer가 살아 있는 동안만 그림(removeNotify와 렌더가 겹치지 않게 renderLock으로 묶음)
+    private final Object renderLock = new Object();
+    private boolean attached = false;
+
+    // 지금까지 돈 tick 수(입력 기록/재생 기준: "몇 번째 tick 전에 눌렸나")
+    private long ticks = 0;
 
     // ✅ 클리어 콜백 + 중복 방지
     private final Runnable onClear;
@@ -34,28 +51,117 @@ public class GamePanel extends JPanel implements KeyListener {
     public GamePanel(Runnable onClear) {
         this.onClear = onClear;
 
+        // 첫 프레임 전에 백그라운드에서 디코딩 시작(인트로 때 이미 걸어뒀으면 캐시 히트)
+        preloadAssets();
+
+        Color panelBg = UIManager.getColor("Panel.background");
+        this.bgColor = (panelBg != null) ? panelBg : new Color(238, 238, 238);
+
         setPreferredSize(new Dimension(W * TILE, H * TILE + UI_H));
         setFocusable(true);
+        setIgnoreRepaint(true); // 그리기는 루프 스레드가 BufferStrategy로 직접 함
         addKeyListener(this);
+    }
 
-        timer = new Timer(DELAY_MS, e -> {
-            state.tick();
+    // 아침 이미지를 백그라운드에서 디코딩 시작(바로 리턴)
+    public static void preloadAssets() {
+        Assets.preload("personal_room", "living_room", "bath_room", "study_room", "snake_head");
+        for (ItemType t : ItemType.values()) Assets.preload("items/" + t.assetKey);
+    }
+
+    // ================== 장면 수명 ==================
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createBufferStrategy(2);
+
+        synchronized (renderLock) {
+            attached = true;
+        }
+        SceneManager sm = SceneManager.shared();
+        sm.setScene(this);
+        sm.start();
+    }
 
-            // ✅ 클리어 감지 → 타이머 stop → 콜백 1회
-            if (!clearFired && isClearedNow()) {
-                clearFired = true;
+    @Override
+    public void removeNotify() {
+        synchronized (renderLock) {
+            attached = false; // 진행 중인 렌더가 끝난 뒤에 peer 제거
+        }
+        SceneManager.shared().clearScene(this);
+        super.removeNotify();
+    }
 
-                // ✅ 핵심: 람다에서 timer 필드 직접 참조 대신 "이 이벤트의 타이머"를 멈춤
-                ((Timer) e.getSource()).stop();
+    // ================== Scene ==================
+    @Override public void init() {}
+    @Override public void handleInput() {} // 키 입력은 keyPressed에서 바로 반영
 
-                if (this.onClear != null) {
-                    SwingUtilities.invokeLater(this.onClear);
+    @Override
+    public long updateIntervalNs() {
+        return STEP_NS;
+    }
+
+    @Override
+    public void update() {
+        synchronized (state) {
+            // 재생 중이면 기록된 키를 같은 tick 직전에 넣음
+            if (InputLog.isReplaying()) {
+                for (int key; (key = InputLog.poll("morning", ticks)) != InputLog.NONE; ) {
+                    state.onKey(key);
                 }
             }
+            state.tick();
+            ticks++;
+        }
+
+        // ✅ 클리어 감지 → 콜백 1회 (tick은 GameState 쪽에서 멈춤)
+        if (!clearFired && isClearedNow()) {
+            clearFired = true;
+            if (this.onClear != null) {
+                SwingUtilities.invokeLater(this.onClear);
+            }
+        }
+    }
 
-            repaint();
-        });
-        timer.start();
+    @Override
+    public void render() {
+        render(0);
+    }
+
+    @Override
+    public void render(double alpha) {
+        synchronized (renderLock) {
+            if (attached) renderFrame(alpha);
+        }
+    }
+
+    private void renderFrame(double alpha) {
+        BufferStrategy bs = getBufferStrategy();
+        if (bs == null) return;
+
+        try {
+            do {
+                do {
+                    Graphics2D g2 = (Graphics2D) bs.getDrawGraphics();
+                    try {
+                        g2.setColor(bgColor);
+                        g2.fillRect(0, 0, getWidth(), getHeight());
+                        synchronized (state) {
+                            Render.draw(g2, state, TILE, W, H, alpha, hud);
+                        }
+                    } finally {
+                        g2.dispose();
+                    }
+                } while (bs.contentsRestored());
+
+                bs.show();
+            } while (bs.contentsLost());
+        } catch (IllegalStateException ex) {
+            // 창이 닫히는 중(peer 없음) → 다음 프레임에 장면이 빠짐
+            return;
+        }
+
+        Toolkit.getDefaultToolkit().sync();
     }
 
     // ✅ GameState의 클리어 판정 사용
@@ -63,16 +169,14 @@ public class GamePanel extends JPanel implements KeyListener {
         return state.isCleared();
     }
 
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2 = (Graphics2D) g;
-        Render.draw(g2, state, TILE, W, H, UI_H);
-    }
-
     @Override
     public void keyPressed(KeyEvent e) {
-        state.onKey(e.getKeyCode());
+        if (InputLog.isReplaying()) return;
+
+        synchronized (state) {
+            InputLog.record("morning", ticks, e.getKeyCode());
+            state.onKey(e.getKeyCode());
+        }
     }
 
     @Override public void keyReleased(KeyEvent e) {}
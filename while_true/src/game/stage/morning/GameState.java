@@ -1,14 +1,18 @@
 package game.stage.morning;
 
 
+import game.core.GameRandom;
+
 import java.awt.Point;
-import java.util.Random;
-import java.util.Set;
+import java.util.SplittableRandom;
 
 public class GameState {
 
     private final int w, h;
-    private final Random rnd = new Random();
+    // 아이템 위치/종류(판 시드에서 나온 아침 전용 스트림)
+    private final SplittableRandom rnd;
+    // 출구/보충/경과 시간 기준(기본 tick 기반)
+    private final MorningClock clock;
 
     public final Stats stats = new Stats();
     public final Inventory inventory = new Inventory(stats);
@@ -17,7 +21,7 @@ public class GameState {
     public Room room;
     private String roomKey;
 
-    private long startMs = System.currentTimeMillis();
+    private final long startMs;
     private boolean cleared = false;
     private long lastItemSpawnMs = 0;
 
@@ -25,14 +29,25 @@ public class GameState {
 
     private boolean exitOpen = false;
 
+    // 스탯/인벤/출구 상태가 바뀔 때마다 증가(HUD 캐시 갱신 기준)
+    private int hudRev = 0;
+
     public GameState(int w, int h) {
+        this(w, h, MorningClock.ticks(GamePanel.DELAY_MS), GameRandom.stream("morning"));
+    }
+
+    // 헤드리스 실행/테스트용: 시계와 난수를 직접 넘김
+    public GameState(int w, int h, MorningClock clock, SplittableRandom rnd) {
         this.w = w;
         this.h = h;
+        this.clock = clock;
+        this.rnd = rnd;
+        this.startMs = clock.nowMs();
 
         this.roomKey = "personal";
         this.room = RoomFactory.create(roomKey, w, h);
 
-        this.snake = new Snake(new Point(w / 2, h / 2));
+        this.snake = new Snake(new Point(w / 2, h / 2), w, h);
 
         Point spawn = room.entrySpawn(null);
         Point dir = room.entryDir(null);
@@ -40,15 +55,17 @@ public class GameState {
         snake.repositionKeepBody(spawn, dir, room);
         snake.setDirection(dir.x, dir.y);
 
-        room.ensureItemCount(4, rnd, true, snake.occupied());
+        room.ensureItemCount(4, rnd, true, snake);
     }
 
     public boolean isCleared() { return cleared; }
 
-    public long elapsedMs() { return System.currentTimeMillis() - startMs; }
+    public long elapsedMs() { return clock.nowMs() - startMs; }
 
     public boolean isExitOpen() { return exitOpen; }
 
+    public int hudRevision() { return hudRev; }
+
     public long exitRemainingMs() {
         long left = EXIT_OPEN_MS - elapsedMs();
         return Math.max(0, left);
@@ -59,12 +76,16 @@ public class GameState {
     public void tick() {
         if (cleared) return;
 
-        long now = System.currentTimeMillis();
+        snake.clearStep();
+
+        clock.advance();
+        long now = clock.nowMs();
 
         // 출구 오픈
         if (!exitOpen && now - startMs >= EXIT_OPEN_MS) {
             exitOpen = true;
             room.openExitDoor();
+            hudRev++;
         }
 
         Point next = snake.nextHeadPos();
@@ -92,7 +113,7 @@ public class GameState {
                 snake.repositionKeepBody(spawn, dir, room);
                 snake.setDirection(dir.x, dir.y);
 
-                room.ensureItemCount(4, rnd, false, snake.occupied());
+                room.ensureItemCount(4, rnd, false, snake);
             }
             return;
         }
@@ -101,6 +122,7 @@ public class GameState {
             ItemType lost = snake.popLastItem(); // 최근 아이템(꼬리) 제거
             if (lost != null) {
                 inventory.removeOne(lost);       // 스탯/인벤 반영
+                hudRev++;
             }
             snake.bump();
             return;
@@ -110,6 +132,7 @@ public class GameState {
         ItemType picked = room.pickItemAt(next);
         if (picked != null) {
             inventory.add(picked);
+            hudRev++;
         }
 
         // 이동(먹었으면 move 안에서 꼬리 세그먼트가 추가됨)
@@ -117,8 +140,7 @@ public class GameState {
 
         // 5초마다 슬롯에서 부족분 채우기
         if (now - lastItemSpawnMs >= 5_000) {
-            Set<Point> blocked = snake.occupied();
-            room.ensureItemCount(4, rnd, false, blocked);
+            room.ensureItemCount(4, rnd, false, snake);
             lastItemSpawnMs = now;
         }
     }
@@ -0,0 +1,137 @@
+package game.stage.morning;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+
+// 하단 UI 스트립 캐시. 바뀐 줄(band)만 다시 그리고 매 프레임은 블릿만 함
+public class HudLayer {
+
+    private static final Font BOLD = new Font("Dialog", Font.BOLD, 14);
+    private static final Font PLAIN = new Font("Dialog", Font.PLAIN, 13);
+
+    // 이미지 내부 좌표 기준 줄 위치
+    private static final int TEXT_X = 10;
+    private static final int TIME_BASE = 18;
+    private static final int STATS_BASE = 38;
+    private static final int INV_BASE = 63;
+
+    private static final int TIME_BAND_END = 24;
+    private static final int STATS_BAND_END = 44;
+
+    private final int width, height;
+    private BufferedImage img;
+
+    // 마지막으로 그린 값(바뀌었을 때만 해당 band 다시 그림)
+    private long shownSec = -1;
+    private long shownExitLeft = -1;
+    private boolean shownExitOpen = false;
+    private int shownRev = -1;
+
+    public HudLayer(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    public void draw(Graphics2D g, GameState state, int x, int y) {
+        if (img == null) {
+            GraphicsConfiguration gc = g.getDeviceConfiguration();
+            img = (gc != null)
+                    ? gc.createCompatibleImage(width, height)
+                    : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            shownSec = -1;
+            shownRev = -1;
+        }
+
+        long sec = state.elapsedMs() / 1000;
+        boolean exitOpen = state.isExitOpen();
+        long exitLeft = exitOpen ? 0 : (state.exitRemainingMs() + 999) / 1000;
+        int rev = state.hudRevision();
+
+        boolean timeDirty = sec != shownSec || exitLeft != shownExitLeft || exitOpen != shownExitOpen;
+        boolean statsDirty = rev != shownRev;
+
+        if (timeDirty || statsDirty) {
+            Graphics2D ig = img.createGraphics();
+            try {
+                if (timeDirty) drawTimeBand(ig, sec, exitOpen, exitLeft);
+                if (statsDirty) {
+                    drawStatsBand(ig, state);
+                    drawInventoryBand(ig, state);
+                }
+            } finally {
+                ig.dispose();
+            }
+            shownSec = sec;
+            shownExitLeft = exitLeft;
+            shownExitOpen = exitOpen;
+            shownRev = rev;
+        }
+
+        g.drawImage(img, x, y, null);
+    }
+
+    private void clearBand(Graphics2D g, int top, int bottom) {
+        g.setColor(Color.DARK_GRAY);
+        g.fillRect(0, top, width, bottom - top);
+        g.setColor(Color.WHITE);
+    }
+
+    private void drawTimeBand(Graphics2D g, long sec, boolean exitOpen, long exitLeft) {
+        clearBand(g, 0, TIME_BAND_END);
+        g.setFont(BOLD);
+
+        g.drawString("Time: " + sec + "s", TEXT_X, TIME_BASE);
+
+        if (!exitOpen) {
+            g.drawString("Exit opens in: " + exitLeft + "s (Living room bottom)", TEXT_X + 140, TIME_BASE);
+        } else {
+            g.drawString("EXIT OPEN! (Living room bottom)", TEXT_X + 140, TIME_BASE);
+        }
+    }
+
+    private void drawStatsBand(Graphics2D g, GameState state) {
+        clearBand(g, TIME_BAND_END, STATS_BAND_END);
+        g.setFont(BOLD);
+
+        g.drawString(
+                "HP " + state.stats.hp +
+                        " | MENT " + state.stats.ment +
+                        " | INT " + state.stats.intel +
+                        " | SOC " + state.stats.social,
+                TEXT_X, STATS_BASE
+        );
+    }
+
+    private void drawInventoryBand(Graphics2D g, GameState state) {
+        clearBand(g, STATS_BAND_END, height);
+        g.setFont(PLAIN);
+        g.drawString("Inventory:", TEXT_X, INV_BASE);
+
+        int lineH = 16;
+        int col1X = TEXT_X + 90;
+        int col2X = TEXT_X + 260;
+
+        // 원래 UI 스트립 높이 기준(이미지는 상단 7px 아래에서 시작)
+        int maxLinesPerCol = (height - 55) / lineH;
+        if (maxLinesPerCol < 1) maxLinesPerCol = 1;
+
+        Map<ItemType, Integer> counts = state.inventory.counts();
+        int i = 0;
+        for (Map.Entry<ItemType, Integer> e : counts.entrySet()) {
+            int col = i / maxLinesPerCol;
+            int row = i % maxLinesPerCol;
+            if (col >= 2) break;
+
+            int px = (col == 0) ? col1X : col2X;
+            int py = INV_BASE + row * lineH;
+
+            g.drawString(e.getKey().label + " x" + e.getValue(), px, py);
+            i++;
+        }
+
+        if (counts.size() > i) {
+            g.drawString("...", col2X, INV_BASE + (maxLinesPerCol - 1) * lineH);
+        }
+    }
+}
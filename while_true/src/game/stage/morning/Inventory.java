@@ -33,14 +33,14 @@ public class Inventory {
         stats.revert(type.delta);
     }
 
-    public ItemType removeRandomOne(Random rnd) {
+    public ItemType removeRandomOne(SplittableRandom rnd) {
         ItemType t = pickRandomExisting(rnd);
         if (t == null) return null;
         removeOne(t);
         return t;
     }
 
-    public void removeHalfRandom(Random rnd) {
+    public void removeHalfRandom(SplittableRandom rnd) {
         int total = totalCount();
         int toRemove = total / 2;
         for (int i = 0; i < toRemove; i++) {
@@ -54,7 +54,7 @@ public class Inventory {
         return sum;
     }
 
-    private ItemType pickRandomExisting(Random rnd) {
+    private ItemType pickRandomExisting(SplittableRandom rnd) {
         List<ItemType> bag = new ArrayList<>();
 
         for (Map.Entry<ItemType, Integer> e : counts.entrySet()) {
@@ -0,0 +1,31 @@
+package game.stage.morning;
+
+/**
+ * 아침 스테이지 시간 출처
+ * - GameState는 출구 오픈(30초), 아이템 보충(5초), 경과 시간을 전부 여기서 읽음
+ * - 기본은 tick 기반: tick 한 번 = GamePanel.DELAY_MS
+ *   (루프가 밀려도 게임 시간은 돈 tick만큼만 감 → 입력 재생 결과가 항상 같고, 헤드리스로 빨리 돌릴 수 있음)
+ * - 실제 시간이 필요하면 wall()
+ */
+public interface MorningClock {
+
+    /** 지금 시각(ms). 시작 값은 상관없고 차이만 씀 */
+    long nowMs();
+
+    /** tick 시작마다 GameState가 호출(tick 기반 시계만 씀) */
+    default void advance() {}
+
+    static MorningClock ticks(long msPerTick) {
+        return new MorningClock() {
+            private long now = 0;
+
+            @Override public long nowMs() { return now; }
+
+            @Override public void advance() { now += msPerTick; }
+        };
+    }
+
+    static MorningClock wall() {
+        return System::currentTimeMillis;
+    }
+}
@@ -0,0 +1,191 @@
+package game.stage.morning;
+
+import game.core.GameRandom;
+import game.core.InputLog;
+
+import java.awt.Point;
+import java.awt.event.KeyEvent;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * MorningHeadlessRunner (아침 스테이지를 창 없이 최대 속도로 돌림)
+ * - GameState를 tick 기반 시계로 만들고 onKey/tick만 반복 호출(렌더/슬립 없음)
+ * - 입력은 봇이 만들거나(greedy/random), 기록된 판(-Dgame.replay)의 "morning" 입력을 그대로 넣음
+ * - 판마다 클리어 tick/먹은 아이템/부딪힌 횟수를 모으고, 마지막에 초당 tick 수를 출력
+ *
+ * 실행: java game.stage.morning.MorningHeadlessRunner [판 수] [seed] [greedy|random|replay]
+ */
+public final class MorningHeadlessRunner {
+
+    private static final int W = GamePanel.W;
+    private static final int H = GamePanel.H;
+    private static final long MAX_TICKS = 5_000;   // 한 판 안전장치(실제 시간 약 14분)
+
+    private static final int[] DX = { 0, 0, -1, 1 };
+    private static final int[] DY = { -1, 1, 0, 0 };
+    private static final int[] KEYS = { KeyEvent.VK_UP, KeyEvent.VK_DOWN, KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT };
+
+    private MorningHeadlessRunner() {}
+
+    public static void main(String[] args) {
+        int games = (args.length > 0) ? Integer.parseInt(args[0]) : 2_000;
+        long seed = (args.length > 1) ? Long.parseLong(args[1]) : 20241218L;
+        String bot = (args.length > 2) ? args[2] : "greedy";
+
+        if (bot.equals("replay")) {
+            // 재생 파일의 시드/입력을 씀(판 하나)
+            InputLog.beginRun();
+            if (!InputLog.isReplaying()) {
+                System.out.println("[MorningHeadlessRunner] -Dgame.replay=파일 이 필요함");
+                return;
+            }
+            games = 1;
+        }
+
+        long totalTicks = 0;
+        int clearedGames = 0;
+        long clearTickSum = 0;
+        long itemSum = 0;
+        long bumpSum = 0;
+
+        long start = System.nanoTime();
+        for (int g = 0; g < games; g++) {
+            if (!bot.equals("replay")) GameRandom.begin(seed + g);
+
+            GameState state = new GameState(W, H, MorningClock.ticks(GamePanel.DELAY_MS), GameRandom.stream("morning"));
+            SplittableRandom botRnd = new SplittableRandom(seed ^ g);
+            int bumps = 0;
+            int picked = 0;
+
+            long t = 0;
+            while (!state.isCleared() && t < MAX_TICKS) {
+                switch (bot) {
+                    case "replay" -> {
+                        for (int key; (key = InputLog.poll("morning", t)) != InputLog.NONE; ) {
+                            state.onKey(key);
+                        }
+                    }
+                    case "random" -> {
+                        if (botRnd.nextInt(4) == 0) state.onKey(KEYS[botRnd.nextInt(4)]);
+                    }
+                    default -> {
+                        int key = greedyKey(state);
+                        if (key != 0) state.onKey(key);
+                    }
+                }
+
+                // 방이 그대로인데 머리가 안 움직였으면 벽/몸통에 부딪힌 것
+                Room before = state.room;
+                int head = state.snake.cellAt(0);
+                int inv = state.inventory.totalCount();
+                state.tick();
+                t++;
+
+                if (state.room == before && state.snake.cellAt(0) == head && !state.isCleared()) bumps++;
+                else if (state.inventory.totalCount() > inv) picked++;
+            }
+
+            totalTicks += t;
+            itemSum += picked;
+            bumpSum += bumps;
+            if (state.isCleared()) {
+                clearedGames++;
+                clearTickSum += t;
+            }
+        }
+        long ns = System.nanoTime() - start;
+
+        System.out.println("[MorningHeadlessRunner] bot=" + bot + ", " + games + "판, seed=" + seed);
+        System.out.printf(" 클리어 %d/%d판, 평균 클리어 %.1f tick (게임 시간 %.1f초)%n",
+                clearedGames, games,
+                clearedGames == 0 ? 0.0 : (double) clearTickSum / clearedGames,
+                clearedGames == 0 ? 0.0 : (double) clearTickSum / clearedGames * GamePanel.DELAY_MS / 1000.0);
+        System.out.printf(" 판당 아이템 %.1f개, 부딪힘 %.1f번%n", (double) itemSum / games, (double) bumpSum / games);
+        System.out.printf(" 총 %d tick, %.1f ms → %.0f tick/s%n", totalTicks, ns / 1e6, totalTicks * 1e9 / ns);
+    }
+
+    // ===================== greedy 봇 =====================
+
+    // 출구가 열렸으면 출구(없으면 거실 문)로, 아니면 가장 가까운 아이템으로 가는 첫 칸을 BFS로 찾음
+    private static int greedyKey(GameState state) {
+        Room room = state.room;
+        Snake snake = state.snake;
+
+        Point goalDoor = null;
+        if (state.isExitOpen()) {
+            for (Point d : room.doorCells()) {
+                String target = room.doorTarget(d);
+                if ("exit".equals(target)) { goalDoor = d; break; }
+                if ("living".equals(target)) goalDoor = d;
+            }
+        }
+
+        boolean[] goal = new boolean[W * H];
+        boolean any = false;
+        if (goalDoor != null) {
+            goal[goalDoor.y * W + goalDoor.x] = true;
+            any = true;
+        } else {
+            for (Map.Entry<Point, ItemType> e : room.items().entrySet()) {
+                Point p = e.getKey();
+                goal[p.y * W + p.x] = true;
+                any = true;
+            }
+        }
+
+        int hx = snake.headX();
+        int hy = snake.headY();
+        int first = any ? bfsFirstStep(room, snake, hx, hy, goal) : -1;
+        if (first >= 0) return KEYS[first];
+
+        // 갈 곳이 없으면 막히지 않은 쪽 아무 데나
+        Point next = snake.nextHeadPos();
+        if (passable(room, snake, next.x, next.y)) return 0;
+        for (int d = 0; d < 4; d++) {
+            if (passable(room, snake, hx + DX[d], hy + DY[d])) return KEYS[d];
+        }
+        return 0;
+    }
+
+    // 머리에서 goal 칸까지 최단 경로의 첫 방향(0~3), 없으면 -1
+    private static int bfsFirstStep(Room room, Snake snake, int hx, int hy, boolean[] goal) {
+        int[] firstDir = new int[W * H];
+        java.util.Arrays.fill(firstDir, -1);
+        int[] queue = new int[W * H];
+        int qh = 0, qt = 0;
+
+        for (int d = 0; d < 4; d++) {
+            int x = hx + DX[d], y = hy + DY[d];
+            if (x < 0 || y < 0 || x >= W || y >= H) continue;
+            int c = y * W + x;
+            if (firstDir[c] >= 0) continue;
+            if (goal[c]) return d;
+            if (!passable(room, snake, x, y)) continue;
+            firstDir[c] = d;
+            queue[qt++] = c;
+        }
+
+        while (qh < qt) {
+            int c = queue[qh++];
+            int cx = c % W, cy = c / W;
+            for (int d = 0; d < 4; d++) {
+                int x = cx + DX[d], y = cy + DY[d];
+                if (x < 0 || y < 0 || x >= W || y >= H) continue;
+                int n = y * W + x;
+                if (firstDir[n] >= 0 || (x == hx && y == hy)) continue;
+                if (goal[n]) return firstDir[c];
+                if (!passable(room, snake, x, y)) continue;
+                firstDir[n] = firstDir[c];
+                queue[qt++] = n;
+            }
+        }
+        return -1;
+    }
+
+    // 벽/몸통/목표가 아닌 문은 피함(문에 들어가면 방이 바뀜)
+    private static boolean passable(Room room, Snake snake, int x, int y) {
+        TileType t = room.tileAt(x, y);
+        return t != TileType.WALL && t != TileType.DOOR && !snake.hitsBody(x, y);
+    }
+}
@@ -15,10 +15,12 @@ public class MorningWindow extends JFrame {
             if (onClear != null) onClear.run();
         });
 
-        setContentPane(panel);
+        add(panel);
         pack();
         setLocationRelativeTo(null);
         setResizable(false);
         setVisible(true);
+
+        panel.requestFocusInWindow();
     }
 }
@@ -1,75 +1,104 @@
 package game.stage.morning;
 
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.awt.image.BufferedImage;
 import java.util.Map;
 
 public class Render {
 
-    public static void draw(Graphics2D g, GameState state, int tile, int w, int h, int uiH) {
+    private static final Color WALL_COLOR = new Color(90, 90, 90);
+    private static final Color DOOR_COLOR = new Color(160, 120, 60);
+    private static final Color FLOOR_COLOR = new Color(200, 200, 180);
+
+    private static final Color DOOR_GLOW = new Color(255, 240, 150);
+    private static final Color DOOR_FRAME = new Color(255, 210, 80);
+    private static final Color DOOR_ARROW = new Color(80, 60, 20);
+    private static final BasicStroke DOOR_FRAME_STROKE = new BasicStroke(3f);
+    private static final BasicStroke DOOR_ARROW_STROKE = new BasicStroke(2f);
+
+    private static final Font CLEAR_FONT = new Font("Dialog", Font.BOLD, 42);
+
+    // alpha: 직전 tick → 현재 tick 사이 진행도(0~1). 뱀 세그먼트 위치 보간에 사용
+    // hud: 하단 UI 캐시(바뀐 줄만 다시 그림)
+    public static void draw(Graphics2D g, GameState state, int tile, int w, int h, double alpha, HudLayer hud) {
         int uiY = h * tile;
 
-        drawBackgroundOrFallback(g, state, tile, w, h);
+        drawStaticLayer(g, state.room, tile);
 
-        drawDoorOverlay(g, state, tile, w, h);
+        drawDoorOverlay(g, state, tile);
 
-        drawItems(g, state, tile);
-        drawSnake(g, state, tile);
-        drawUI(g, state, 10, uiY + 25, w * tile, uiH);
+        SpriteAtlas atlas = Assets.atlas(tile, g.getDeviceConfiguration());
+        drawItems(g, state, tile, atlas);
+        drawSnake(g, state, tile, alpha, atlas);
+        hud.draw(g, state, 0, uiY + 7);
 
         if (state.isCleared()) drawClear(g, w * tile, h * tile);
     }
 
-    private static void drawBackgroundOrFallback(Graphics2D g, GameState state, int tile, int w, int h) {
-        Image bg = Assets.get(state.room.backgroundKey());
-        if (bg != null) {
-            g.drawImage(bg, 0, 0, w * tile, h * tile, null);
-            return;
+    // 방 배경 + 문 테두리/화살표는 방마다 한 번만 그려두고 매 프레임 블릿만 함
+    private static void drawStaticLayer(Graphics2D g, Room room, int tile) {
+        Image layer = room.staticLayer(tile);
+        if (layer == null) {
+            // 배경이 아직 로드 중이면 fallback으로 그려두고, 로드되면 다시 만듦
+            int v = Assets.version();
+            Image bg = Assets.get(room.backgroundKey());
+            boolean pending = bg == null && !Assets.isMissing(room.backgroundKey());
+
+            layer = buildStaticLayer(g.getDeviceConfiguration(), room, tile, bg);
+            room.cacheStaticLayer(layer, tile, pending ? v : -1);
         }
+        g.drawImage(layer, 0, 0, null);
+    }
+
+    private static Image buildStaticLayer(GraphicsConfiguration gc, Room room, int tile, Image bg) {
+        int w = room.w, h = room.h;
+        BufferedImage img = (gc != null)
+                ? gc.createCompatibleImage(w * tile, h * tile)
+                : new BufferedImage(w * tile, h * tile, BufferedImage.TYPE_INT_RGB);
 
-        for (int y = 0; y < h; y++) {
-            for (int x = 0; x < w; x++) {
-                Point p = new Point(x, y);
-                TileType t = state.room.tileAt(p);
-                if (t == TileType.WALL) g.setColor(new Color(90, 90, 90));
-                else if (t == TileType.DOOR) g.setColor(new Color(160, 120, 60));
-                else g.setColor(new Color(200, 200, 180));
-                g.fillRect(x * tile, y * tile, tile, tile);
+        Graphics2D g = img.createGraphics();
+        try {
+            if (bg != null) {
+                g.drawImage(bg, 0, 0, w * tile, h * tile, null);
+            } else {
+                for (int y = 0; y < h; y++) {
+                    for (int x = 0; x < w; x++) {
+                        TileType t = room.tileAt(x, y);
+                        if (t == TileType.WALL) g.setColor(WALL_COLOR);
+                        else if (t == TileType.DOOR) g.setColor(DOOR_COLOR);
+                        else g.setColor(FLOOR_COLOR);
+                        g.fillRect(x * tile, y * tile, tile, tile);
+                    }
+                }
+            }
+
+            for (Point p : room.doorCells()) {
+                g.setColor(DOOR_FRAME);
+                g.setStroke(DOOR_FRAME_STROKE);
+                g.drawRect(p.x * tile + 1, p.y * tile + 1, tile - 3, tile - 3);
+
+                drawDoorArrow(g, p, tile, w, h);
             }
+        } finally {
+            g.dispose();
         }
+        return img;
     }
 
-    private static void drawDoorOverlay(Graphics2D g, GameState state, int tile, int w, int h) {
+    // 문 위 깜빡이는 하이라이트만 매 프레임 그림
+    private static void drawDoorOverlay(Graphics2D g, GameState state, int tile) {
         long now = System.currentTimeMillis();
         double t = (now % 900) / 900.0;
 
         float alpha = (float)(0.30 + 0.25 * (0.5 + 0.5 * Math.sin(t * Math.PI * 2)));
         Composite oldC = g.getComposite();
-        Stroke oldS = g.getStroke();
-
-        for (int y = 0; y < h; y++) {
-            for (int x = 0; x < w; x++) {
-                Point p = new Point(x, y);
-                if (state.room.tileAt(p) != TileType.DOOR) continue;
-
-                int px = x * tile;
-                int py = y * tile;
-
-                g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-                g.setColor(new Color(255, 240, 150));
-                g.fillRect(px, py, tile, tile);
-
-                g.setComposite(oldC);
-                g.setColor(new Color(255, 210, 80));
-                g.setStroke(new BasicStroke(3f));
-                g.drawRect(px + 1, py + 1, tile - 3, tile - 3);
 
-                drawDoorArrow(g, p, tile, w, h);
-            }
+        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+        g.setColor(DOOR_GLOW);
+        for (Point p : state.room.doorCells()) {
+            g.fillRect(p.x * tile, p.y * tile, tile, tile);
         }
 
-        g.setStroke(oldS);
         g.setComposite(oldC);
     }
 
@@ -88,8 +117,8 @@ public class Render {
         int ex = cx + dx * len;
         int ey = cy + dy * len;
 
-        g.setColor(new Color(80, 60, 20));
-        g.setStroke(new BasicStroke(2f));
+        g.setColor(DOOR_ARROW);
+        g.setStroke(DOOR_ARROW_STROKE);
         g.drawLine(cx, cy, ex, ey);
 
         int ax1 = ex + (-dy) * 4 - dx * 4;
@@ -104,21 +133,22 @@ public class Render {
         g.fillPolygon(head);
     }
 
-    private static void drawSnake(Graphics2D g, GameState state, int tile) {
-        Image headImg = Assets.get("snake_head"); // snake_head.jpg
+    private static void drawSnake(Graphics2D g, GameState state, int tile, double alpha, SpriteAtlas atlas) {
+        Image headImg = atlas.head(); // snake_head.jpg
 
         Stroke oldS = g.getStroke();
         Composite oldC = g.getComposite();
 
-        for (int i = 0; i < state.snake.body().size(); i++) {
-            Segment s = state.snake.body().get(i);
-            int x = s.pos.x * tile;
-            int y = s.pos.y * tile;
+        Snake snake = state.snake;
+        for (int i = 0; i < snake.length(); i++) {
+            int x = lerp(snake.prevXAt(i), snake.xAt(i), alpha, tile);
+            int y = lerp(snake.prevYAt(i), snake.yAt(i), alpha, tile);
+            ItemType item = snake.itemAt(i);
 
             if (i == 0) {
-                int pad = Math.max(1, tile / 12);
+                int pad = atlas.headPad;
                 if (headImg != null) {
-                    g.drawImage(headImg, x + pad, y + pad, tile - pad * 2, tile - pad * 2, null);
+                    g.drawImage(headImg, x + pad, y + pad, null);
                 } else {
                     g.setColor(new Color(80, 200, 120));
                     g.fillRect(x, y, tile, tile);
@@ -137,10 +167,10 @@ public class Render {
             g.setStroke(new BasicStroke(2f));
             g.drawRoundRect(x + 1, y + 1, tile - 3, tile - 3, 10, 10);
 
-            if (s.item != null) {
-                Image icon = Assets.get("items/" + s.item.assetKey);
+            if (item != null) {
+                Image icon = atlas.carriedIcon(item);
                 if (icon != null) {
-                    int iconSize = tile / 2;
+                    int iconSize = atlas.carriedSize;
 
                     int ix = x + (tile - iconSize) / 2;
                     int iy = y + (tile - iconSize) / 2;
@@ -148,9 +178,7 @@ public class Render {
                     g.setColor(new Color(0, 0, 0, 110));
                     g.fillRoundRect(ix - 3, iy - 3, iconSize + 6, iconSize + 6, 10, 10);
 
-                    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.95f));
-                    g.drawImage(icon, ix, iy, iconSize, iconSize, null);
-                    g.setComposite(oldC);
+                    g.drawImage(icon, ix, iy, null);
                 }
             }
         }
@@ -159,7 +187,13 @@ public class Render {
         g.setComposite(oldC);
     }
 
-    private static void drawItems(Graphics2D g, GameState state, int tile) {
+    private static int lerp(int from, int to, double alpha, int tile) {
+        // 한 칸 넘게 차이나면(방 전환 등) 보간하지 않음
+        if (Math.abs(to - from) > 1) return to * tile;
+        return (int) Math.round((from + (to - from) * alpha) * tile);
+    }
+
+    private static void drawItems(Graphics2D g, GameState state, int tile, SpriteAtlas atlas) {
         long now = System.currentTimeMillis();
 
         for (Map.Entry<Point, ItemType> e : state.room.items().entrySet()) {
@@ -183,20 +217,12 @@ public class Render {
             g.setStroke(oldS);
             g.setComposite(oldC);
 
-            String key = "items/" + type.assetKey;
-            Image img = Assets.get(key);
+            Image img = atlas.itemIcon(type);
 
             if (img != null) {
-                int pad = Math.max(2, tile / 8);
-                int iw = tile - pad * 2;
-                int ih = tile - pad * 2;
-
-                g.drawImage(img, x + pad - 1, y + pad, iw, ih, null);
-                g.drawImage(img, x + pad + 1, y + pad, iw, ih, null);
-                g.drawImage(img, x + pad, y + pad - 1, iw, ih, null);
-                g.drawImage(img, x + pad, y + pad + 1, iw, ih, null);
-
-                g.drawImage(img, x + pad, y + pad, iw, ih, null);
+                // 외곽선 1px이 포함된 이미지라 한 칸 바깥에서 시작
+                int pad = atlas.itemPad;
+                g.drawImage(img, x + pad - 1, y + pad - 1, null);
             } else {
                 g.setColor(Color.BLACK);
                 g.fillOval(x + 5, y + 5, tile - 10, tile - 10);
@@ -206,72 +232,12 @@ public class Render {
         }
     }
 
-    private static void drawUI(Graphics2D g, GameState state, int x, int y, int widthPx, int uiH) {
-        int top = y - 18;
-
-        g.setColor(Color.DARK_GRAY);
-        g.fillRect(0, top, widthPx, uiH);
-
-        g.setColor(Color.WHITE);
-        g.setFont(new Font("Dialog", Font.BOLD, 14));
-
-        long sec = state.elapsedMs() / 1000;
-        g.drawString("Time: " + sec + "s", x, y);
-
-        if (!state.isExitOpen()) {
-            long leftSec = (state.exitRemainingMs() + 999) / 1000;
-            g.drawString("Exit opens in: " + leftSec + "s (Living room bottom)", x + 140, y);
-        } else {
-            g.drawString("EXIT OPEN! (Living room bottom)", x + 140, y);
-        }
-
-        g.drawString(
-                "HP " + state.stats.hp +
-                        " | MENT " + state.stats.ment +
-                        " | INT " + state.stats.intel +
-                        " | SOC " + state.stats.social,
-                x, y + 20
-        );
-
-        g.setFont(new Font("Dialog", Font.PLAIN, 13));
-        g.drawString("Inventory:", x, y + 45);
-
-        List<Map.Entry<ItemType, Integer>> list = new ArrayList<>(state.inventory.counts().entrySet());
-
-        int lineH = 16;
-        int col1X = x + 90;
-        int col2X = x + 260;
-
-        int startY = y + 45;
-        int maxLinesPerCol = (uiH - 55) / lineH;
-        if (maxLinesPerCol < 1) maxLinesPerCol = 1;
-
-        int shown = 0;
-        for (int i = 0; i < list.size(); i++) {
-            int col = i / maxLinesPerCol;
-            int row = i % maxLinesPerCol;
-            if (col >= 2) break;
-
-            int px = (col == 0) ? col1X : col2X;
-            int py = startY + row * lineH;
-
-            Map.Entry<ItemType, Integer> e = list.get(i);
-            g.drawString(e.getKey().label + " x" + e.getValue(), px, py);
-
-            shown++;
-        }
-
-        if (list.size() > shown) {
-            g.drawString("...", col2X, startY + (maxLinesPerCol - 1) * lineH);
-        }
-    }
-
     private static void drawClear(Graphics2D g, int w, int h) {
         g.setColor(new Color(0, 0, 0, 160));
         g.fillRect(0, 0, w, h);
 
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Dialog", Font.BOLD, 42));
+        g.setFont(CLEAR_FONT);
         g.drawString("CLEAR!", w / 2 - 80, h / 2);
     }
 }
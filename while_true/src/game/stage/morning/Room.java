@@ -1,12 +1,12 @@
 package game.stage.morning;
 
+import java.awt.Image;
 import java.awt.Point;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
-import java.util.Set;
+import java.util.SplittableRandom;
 
 public class Room {
 
@@ -28,6 +28,12 @@ public class Room {
     private Point exitDoorPos = null;
     private boolean exitOpen = false;
 
+    // ===== 렌더 캐시(타일이 바뀔 때만 무효화) =====
+    private List<Point> doorCells = null;
+    private Image staticLayer = null;
+    private int staticLayerTile = -1;
+    private int staticLayerPendingVersion = -1; // 배경 로드 전에 만든 레이어면 그때의 Assets.version
+
     protected Room(int w, int h, String backgroundKey) {
         this.w = w;
         this.h = h;
@@ -63,6 +69,44 @@ public class Room {
         tiles[exitDoorPos.x][exitDoorPos.y] = TileType.DOOR;
         doors.put(new Point(exitDoorPos), "exit");
         exitOpen = true;
+
+        invalidateRenderCache();
+    }
+
+    // ===== 렌더 캐시 =====
+    public List<Point> doorCells() {
+        if (doorCells == null) {
+            List<Point> list = new ArrayList<>();
+            for (int y = 0; y < h; y++) {
+                for (int x = 0; x < w; x++) {
+                    if (tiles[x][y] == TileType.DOOR) list.add(new Point(x, y));
+                }
+            }
+            doorCells = list;
+        }
+        return doorCells;
+    }
+
+    public Image staticLayer(int tile) {
+        if (staticLayerTile != tile) return null;
+        if (staticLayerPendingVersion >= 0 && staticLayerPendingVersion != Assets.version()) return null;
+        return staticLayer;
+    }
+
+    // pendingVersion: 배경이 아직 로드 중이었으면 빌드 직전 Assets.version, 아니면 -1
+    public void cacheStaticLayer(Image layer, int tile, int pendingVersion) {
+        if (staticLayer != null && staticLayer != layer) staticLayer.flush();
+        this.staticLayer = layer;
+        this.staticLayerTile = tile;
+        this.staticLayerPendingVersion = pendingVersion;
+    }
+
+    private void invalidateRenderCache() {
+        doorCells = null;
+        if (staticLayer != null) staticLayer.flush();
+        staticLayer = null;
+        staticLayerTile = -1;
+        staticLayerPendingVersion = -1;
     }
 
     // ================== 개인방 ==================
@@ -274,6 +318,11 @@ public class Room {
         return tiles[p.x][p.y];
     }
 
+    public TileType tileAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= w || y >= h) return TileType.WALL;
+        return tiles[x][y];
+    }
+
     private boolean outOfBounds(Point p) {
         return p.x < 0 || p.y < 0 || p.x >= w || p.y >= h;
     }
@@ -301,24 +350,23 @@ public class Room {
 
     public ItemType pickItemAt(Point p) { return items.remove(p); }
 
-    public void ensureItemCount(int target, Random rnd, boolean forceRespawn, Set<Point> blocked) {
+    public void ensureItemCount(int target, SplittableRandom rnd, boolean forceRespawn, Snake blocked) {
         if (forceRespawn) items.clear();
         if (itemSlots.isEmpty()) return;
 
         int guard = 3000;
         while (items.size() < target && guard-- > 0) {
             Point slot = itemSlots.get(rnd.nextInt(itemSlots.size()));
-            Point p = new Point(slot);
 
-            if (tileAt(p) != TileType.FLOOR) continue;
-            if (items.containsKey(p)) continue;
-            if (blocked != null && blocked.contains(p)) continue;
+            if (tileAt(slot.x, slot.y) != TileType.FLOOR) continue;
+            if (items.containsKey(slot)) continue;
+            if (blocked != null && blocked.occupies(slot.x, slot.y)) continue;
 
-            items.put(p, randomItemFromPool(rnd));
+            items.put(new Point(slot), randomItemFromPool(rnd));
         }
     }
 
-    private ItemType randomItemFromPool(Random rnd) {
+    private ItemType randomItemFromPool(SplittableRandom rnd) {
         if (!spawnPool.isEmpty()) {
             return spawnPool.get(rnd.nextInt(spawnPool.size()));
         }
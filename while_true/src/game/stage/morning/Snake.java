@@ -1,23 +1,63 @@
 package game.stage.morning;
 
 import java.awt.Point;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
 
 public class Snake {
 
-    private final LinkedList<Segment> body = new LinkedList<>();
+    // 몸통: 셀 인덱스(y * w + x) 링버퍼. 0번이 머리
+    private final int w, h;
+    private int[] cells = new int[16];
+    private ItemType[] items = new ItemType[16]; // 세그먼트 순서 기준, 머리 item은 항상 null
+    private int headIdx = 0;
+    private int len = 0;
+
+    // 셀별 점유 개수(bump 후에는 몸통이 겹칠 수 있어서 BitSet 대신 카운트)
+    private final int[] occ;
+
     private int dx = 1, dy = 0;
 
-    public Snake(Point start) {
-        body.add(new Segment(new Point(start), null)); // 머리 item은 항상 null
+    // 직전 tick 이동 정보(렌더 보간용)
+    private boolean stepped = false;
+    private int vacatedTail = -1;
+
+    public Snake(Point start, int w, int h) {
+        this.w = w;
+        this.h = h;
+        this.occ = new int[w * h];
+        pushHead(start.x, start.y);
+    }
+
+    // ================== 조회 ==================
+    public int length() { return len; }
+
+    public int cellAt(int i) { return cells[(headIdx + i) & (cells.length - 1)]; }
+
+    public int xAt(int i) { return cellAt(i) % w; }
+
+    public int yAt(int i) { return cellAt(i) / w; }
+
+    public ItemType itemAt(int i) { return items[i]; }
+
+    public int headX() { return xAt(0); }
+
+    public int headY() { return yAt(0); }
+
+    // 직전 tick에서 i번 세그먼트가 있던 셀. 이동이 없었으면 현재 셀
+    public int prevCellAt(int i) {
+        if (!stepped) return cellAt(i);
+        if (i + 1 < len) return cellAt(i + 1);
+        return vacatedTail >= 0 ? vacatedTail : cellAt(i);
     }
 
-    public LinkedList<Segment> body() { return body; }
+    public int prevXAt(int i) { return prevCellAt(i) % w; }
+
+    public int prevYAt(int i) { return prevCellAt(i) / w; }
 
-    public Segment head() { return body.getFirst(); }
+    // tick 시작 시 호출: 이동하지 않은 tick이면 보간 없이 그대로 그림
+    public void clearStep() {
+        stepped = false;
+        vacatedTail = -1;
+    }
 
     public void setDirection(int ndx, int ndy) {
         if (ndx == 0 && ndy == 0) return;
@@ -33,124 +73,175 @@ public class Snake {
     }
 
     public Point nextHeadPos() {
-        Point h = head().pos;
-        return new Point(h.x + dx, h.y + dy);
+        return new Point(headX() + dx, headY() + dy);
     }
 
-    public boolean hitsBody(Point p) {
-        for (int i = 1; i < body.size(); i++) {
-            if (body.get(i).pos.equals(p)) return true;
-        }
-        return false;
-    }
+    public boolean hitsBody(Point p) { return hitsBody(p.x, p.y); }
 
-    public HashSet<Point> occupied() {
-        HashSet<Point> set = new HashSet<>();
-        for (Segment s : body) set.add(new Point(s.pos));
-        return set;
+    // 머리를 제외한 몸통이 (x, y)에 있는지
+    public boolean hitsBody(int x, int y) {
+        if (outOfBounds(x, y)) return false;
+        int c = y * w + x;
+        int n = occ[c];
+        if (cellAt(0) == c) n--;
+        return n > 0;
     }
 
-    public void repositionKeepBody(Point newHead, Point entryDir, Room room) {
-        int len = body.size();
+    // 머리 포함 아무 세그먼트나 (x, y)에 있는지
+    public boolean occupies(int x, int y) {
+        if (outOfBounds(x, y)) return false;
+        return occ[y * w + x] > 0;
+    }
 
-        List<ItemType> items = new ArrayList<>();
-        for (int i = 1; i < body.size(); i++) items.add(body.get(i).item);
+    public boolean occupies(Point p) { return occupies(p.x, p.y); }
 
-        Point back = new Point(-entryDir.x, -entryDir.y);
+    // ================== 방 전환 ==================
+    public void repositionKeepBody(Point newHead, Point entryDir, Room room) {
+        int oldLen = len;
+        ItemType[] carried = new ItemType[oldLen];
+        System.arraycopy(items, 0, carried, 0, oldLen);
 
-        HashSet<Point> reserved = new HashSet<>();
-        Point entryLane = new Point(newHead.x - entryDir.x, newHead.y - entryDir.y);
-        reserved.add(entryLane);
+        clear();
 
-        LinkedList<Segment> rebuilt = new LinkedList<>();
-        HashSet<Point> used = new HashSet<>();
+        int backX = -entryDir.x, backY = -entryDir.y;
+        int laneX = newHead.x - entryDir.x, laneY = newHead.y - entryDir.y;
 
-        Segment newHeadSeg = new Segment(new Point(newHead), null);
-        rebuilt.add(newHeadSeg);
-        used.add(newHeadSeg.pos);
+        pushHead(newHead.x, newHead.y);
 
-        Point cur = newHeadSeg.pos;
+        int cx = newHead.x, cy = newHead.y;
 
-        for (int i = 1; i < len; i++) {
-            Point next = pickNextTailCell(cur, back, used, reserved, room);
-            if (next == null) break;
+        for (int i = 1; i < oldLen; i++) {
+            int next = pickNextTailCell(cx, cy, backX, backY, laneX, laneY, room);
+            if (next < 0) break;
 
-            ItemType it = (i - 1 < items.size()) ? items.get(i - 1) : null;
-            rebuilt.add(new Segment(new Point(next), it));
-            used.add(next);
-            cur = next;
+            appendTail(next, carried[i]);
+            cx = next % w;
+            cy = next / w;
         }
-
-        body.clear();
-        body.addAll(rebuilt);
-
-        body.getFirst().item = null;
     }
 
-    private Point pickNextTailCell(Point cur, Point back, HashSet<Point> used, HashSet<Point> reserved, Room room) {
-        Point[] cands = new Point[] {
-                new Point(cur.x + back.x, cur.y + back.y),
-                new Point(cur.x + back.y, cur.y - back.x),
-                new Point(cur.x - back.y, cur.y + back.x),
-                new Point(cur.x - back.x, cur.y - back.y)
+    private int pickNextTailCell(int cx, int cy, int bx, int by, int laneX, int laneY, Room room) {
+        // 뒤쪽 → 좌/우 → 앞쪽 순서
+        int[] cands = {
+                cx + bx, cy + by,
+                cx + by, cy - bx,
+                cx - by, cy + bx,
+                cx - bx, cy - by,
+                cx + 1, cy,
+                cx - 1, cy,
+                cx, cy + 1,
+                cx, cy - 1
         };
 
-        for (Point p : cands) {
-            if (!isPlaceable(p, used, reserved, room)) continue;
-            return p;
-        }
-
-        Point[] around = new Point[] {
-                new Point(cur.x + 1, cur.y),
-                new Point(cur.x - 1, cur.y),
-                new Point(cur.x, cur.y + 1),
-                new Point(cur.x, cur.y - 1)
-        };
-        for (Point p : around) {
-            if (!isPlaceable(p, used, reserved, room)) continue;
-            return p;
+        for (int i = 0; i < cands.length; i += 2) {
+            int x = cands[i], y = cands[i + 1];
+            if (!isPlaceable(x, y, laneX, laneY, room)) continue;
+            return y * w + x;
         }
-
-        return null;
+        return -1;
     }
 
-    private boolean isPlaceable(Point p, HashSet<Point> used, HashSet<Point> reserved, Room room) {
-        if (used.contains(p)) return false;
-        if (reserved.contains(p)) return false;
-        if (room.isWall(p)) return false;
-        if (room.tileAt(p) == TileType.DOOR) return false;
+    private boolean isPlaceable(int x, int y, int laneX, int laneY, Room room) {
+        if (outOfBounds(x, y)) return false;
+        if (occ[y * w + x] > 0) return false;
+        if (x == laneX && y == laneY) return false;
+        if (room.tileAt(x, y) != TileType.FLOOR) return false;
         return true;
     }
 
+    // ================== 이동 ==================
     public void move(ItemType pickedItem) {
-        Point next = nextHeadPos();
+        int nx = headX() + dx;
+        int ny = headY() + dy;
 
-        Point prevTailPos = new Point(body.getLast().pos);
+        stepped = true;
 
-        for (int i = body.size() - 1; i >= 1; i--) {
-            body.get(i).pos.setLocation(body.get(i - 1).pos);
+        if (pickedItem != null) {
+            // 꼬리는 그대로 두고 머리만 추가 → 예전 꼬리 자리에 새 세그먼트가 남는 것과 같음
+            pushHead(nx, ny);
+            items[len - 1] = pickedItem;
+            vacatedTail = -1;
+            return;
         }
 
-        // 머리 이동
-        head().pos.setLocation(next);
+        int tail = (headIdx + len - 1) & (cells.length - 1);
+        vacatedTail = cells[tail];
+        occ[vacatedTail]--;
 
-        if (pickedItem != null) {
-            body.addLast(new Segment(prevTailPos, pickedItem));
-        }
+        headIdx = (headIdx - 1) & (cells.length - 1);
+        int c = ny * w + nx;
+        cells[headIdx] = c;
+        occ[c]++;
     }
 
     public ItemType popLastItem() {
-        if (body.size() <= 1) return null;
-        Segment last = body.removeLast();
-        return last.item;
+        if (len <= 1) return null;
+        ItemType it = items[len - 1];
+        removeTail();
+        return it;
     }
 
     public void loseOne() {
-        if (body.size() > 1) body.removeLast();
+        if (len > 1) removeTail();
     }
 
     public void bump() {
         dx = 0;
         dy = 0;
     }
+
+    // ================== 링버퍼 내부 ==================
+    private void pushHead(int x, int y) {
+        ensureCapacity(len + 1);
+        headIdx = (headIdx - 1) & (cells.length - 1);
+        int c = y * w + x;
+        cells[headIdx] = c;
+        occ[c]++;
+        len++;
+        // 아이템은 세그먼트 순서 기준이라 그대로 두고, 새로 생긴 꼬리 슬롯만 비워둠
+        items[len - 1] = null;
+    }
+
+    private void appendTail(int c, ItemType item) {
+        ensureCapacity(len + 1);
+        cells[(headIdx + len) & (cells.length - 1)] = c;
+        occ[c]++;
+        items[len] = item;
+        len++;
+    }
+
+    private void removeTail() {
+        int tail = (headIdx + len - 1) & (cells.length - 1);
+        occ[cells[tail]]--;
+        items[len - 1] = null;
+        len--;
+    }
+
+    private void clear() {
+        for (int i = 0; i < len; i++) occ[cellAt(i)]--;
+        for (int i = 0; i < len; i++) items[i] = null;
+        headIdx = 0;
+        len = 0;
+    }
+
+    private void ensureCapacity(int need) {
+        if (need <= cells.length) return;
+
+        int cap = cells.length;
+        while (cap < need) cap <<= 1;
+
+        int[] nc = new int[cap];
+        for (int i = 0; i < len; i++) nc[i] = cellAt(i);
+
+        ItemType[] ni = new ItemType[cap];
+        System.arraycopy(items, 0, ni, 0, len);
+
+        cells = nc;
+        items = ni;
+        headIdx = 0;
+    }
+
+    private boolean outOfBounds(int x, int y) {
+        return x < 0 || y < 0 || x >= w || y >= h;
+    }
 }
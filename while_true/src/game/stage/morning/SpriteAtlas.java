@@ -0,0 +1,105 @@
+package game.stage.morning;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+// 타일 크기별로 미리 스케일해둔 스프라이트 묶음. 렌더 루프에서는 스케일 없이 블릿만 함
+public class SpriteAtlas {
+
+    public final int tile;
+
+    // 바닥 아이템 아이콘 여백 / 뱀 머리 여백 (Render에서 위치 계산에 같이 씀)
+    public final int itemPad;
+    public final int headPad;
+    public final int carriedSize;
+
+    private final Image head;
+    private final Image[] itemIcons;    // 외곽선(상하좌우 1px) 포함, (tile - itemPad*2) + 2
+    private final Image[] carriedIcons; // 몸통에 붙는 아이콘, tile/2, 투명도 0.95 적용
+
+    // 아직 로드 중인 이미지가 있었으면 그때의 Assets.version, 다 준비됐으면 -1
+    private final int pendingVersion;
+
+    SpriteAtlas(int tile, GraphicsConfiguration gc) {
+        this.tile = tile;
+        this.itemPad = Math.max(2, tile / 8);
+        this.headPad = Math.max(1, tile / 12);
+        this.carriedSize = tile / 2;
+
+        int v = Assets.version();
+        boolean pending = false;
+
+        Image headSrc = Assets.get("snake_head");
+        pending |= headSrc == null && !Assets.isMissing("snake_head");
+        this.head = scaled(gc, headSrc, tile - headPad * 2, 1f);
+
+        ItemType[] types = ItemType.values();
+        itemIcons = new Image[types.length];
+        carriedIcons = new Image[types.length];
+
+        int iconSize = tile - itemPad * 2;
+        for (ItemType t : types) {
+            String key = "items/" + t.assetKey;
+            Image src = Assets.get(key);
+            pending |= src == null && !Assets.isMissing(key);
+
+            itemIcons[t.ordinal()] = outlined(gc, src, iconSize);
+            carriedIcons[t.ordinal()] = scaled(gc, src, carriedSize, 0.95f);
+        }
+
+        this.pendingVersion = pending ? v : -1;
+    }
+
+    // 빌드 이후 새로 로드된 이미지가 있으면 다시 만들어야 함
+    boolean isStale() {
+        return pendingVersion >= 0 && pendingVersion != Assets.version();
+    }
+
+    public Image head() { return head; }
+
+    public Image itemIcon(ItemType t) { return itemIcons[t.ordinal()]; }
+
+    public Image carriedIcon(ItemType t) { return carriedIcons[t.ordinal()]; }
+
+    private static BufferedImage blank(GraphicsConfiguration gc, int w, int h) {
+        if (gc != null) return gc.createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+        return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static Image scaled(GraphicsConfiguration gc, Image src, int size, float alpha) {
+        if (src == null || size <= 0) return null;
+
+        BufferedImage out = blank(gc, size, size);
+        Graphics2D g = out.createGraphics();
+        try {
+            if (alpha < 1f) g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+            g.drawImage(src, 0, 0, size, size, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    // 예전엔 매 프레임 4방향 1px 오프셋 + 본체를 5번 그렸던 것을 한 장으로 구워둠
+    private static Image outlined(GraphicsConfiguration gc, Image src, int size) {
+        if (src == null || size <= 0) return null;
+
+        BufferedImage out = blank(gc, size + 2, size + 2);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.drawImage(src, 0, 1, size, size, null);
+            g.drawImage(src, 2, 1, size, size, null);
+            g.drawImage(src, 1, 0, size, size, null);
+            g.drawImage(src, 1, 2, size, size, null);
+
+            g.drawImage(src, 1, 1, size, size, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+}
@@ -0,0 +1,157 @@
+package game.stage.night;
+
+// 1차원 byte[] 판. 칸 번호 = y * width + x, 방향은 칸 번호 오프셋으로 이동
+public class NightBoard {
+	public static final int LEFT = 0;
+	public static final int RIGHT = 1;
+	public static final int UP = 2;
+	public static final int DOWN = 3;
+	
+	static final int[] DX = { -1, 1, 0, 0 };
+	static final int[] DY = { 0, 0, -1, 1 };
+	
+	// move() 결과
+	public static final int BLOCKED = 0;
+	public static final int MOVED = 1;
+	public static final int PUSHED = 2;
+	public static final int GOAL = 3;
+	
+	public final int width;
+	public final int height;
+	private final byte[] cells;
+	private final int[] offset = new int[4];
+	private int player;
+	
+	public NightBoard(int width, int height, byte[] cells, int player) {
+		if (cells.length != width * height) {
+			throw new IllegalArgumentException("판 크기가 안 맞음: " + cells.length + " != " + width + "x" + height);
+		}
+		this.width = width;
+		this.height = height;
+		this.cells = cells;
+		this.player = player;
+		for (int d = 0; d < 4; d++) {
+			offset[d] = DX[d] + DY[d] * width;
+		}
+	}
+	
+	// 같은 판 복사(솔버가 상태마다 하나씩 씀)
+	public NightBoard copy() {
+		return new NightBoard(width, height, cells.clone(), player);
+	}
+	
+	// NightMap(char[][])을 그대로 옮김
+	public static NightBoard from(NightMap m) {
+		int h = m.map.length;
+		int w = m.map[0].length;
+		byte[] cells = new byte[w * h];
+		for (int y = 0; y < h; y++) {
+			for (int x = 0; x < w; x++) {
+				cells[y * w + x] = (byte) m.map[y][x];
+			}
+		}
+		return new NightBoard(w, h, cells, m.start_index_y * w + m.start_index_x);
+	}
+	
+	public byte tileAt(int x, int y) {
+		return cells[y * width + x];
+	}
+	
+	public int size() {
+		return cells.length;
+	}
+	
+	public byte cell(int i) {
+		return cells[i];
+	}
+	
+	public int playerCell() {
+		return player;
+	}
+	
+	// 방향별 칸 번호 차이
+	public int offset(int dir) {
+		return offset[dir];
+	}
+	
+	// 판 밖이면 -1
+	public int neighbor(int cell, int dir) {
+		int to = cell + offset[dir];
+		return inside(cell, to, dir, 1) ? to : -1;
+	}
+	
+	public int playerX() {
+		return player % width;
+	}
+	
+	public int playerY() {
+		return player / width;
+	}
+	
+	/**
+	 * 한 칸 이동 시도(예전 left/right/up/down 네 벌의 switch를 하나로)
+	 * - 걸을 수 있는 칸: 이동
+	 * - 밀 수 있는 칸: 뒤가 바닥일 때만 밀고 이동(몬스터는 쓰러진 몬스터로 바뀜)
+	 * - 판 밖/벽/막힌 경우: 아무것도 안 함
+	 */
+	public int move(int dir) {
+		int from = player;
+		int to = from + offset[dir];
+		if (!inside(from, to, dir, 1)) return BLOCKED;
+		
+		byte target = cells[to];
+		int flags = NightTile.flags(target);
+		
+		if ((flags & NightTile.WALKABLE) != 0) {
+			step(from, to);
+			return ((flags & NightTile.GOAL) != 0) ? GOAL : MOVED;
+		}
+		
+		if ((flags & NightTile.PUSHABLE) != 0) {
+			int beyond = to + offset[dir];
+			if (!inside(from, beyond, dir, 2) || cells[beyond] != NightTile.FLOOR) return BLOCKED;
+			
+			cells[beyond] = NightTile.pushedAs(target);
+			step(from, to);
+			return PUSHED;
+		}
+		
+		return BLOCKED;
+	}
+	
+	/**
+	 * move()의 반대. 지금 플레이어 위치에서 dir 반대쪽으로 한 칸 되돌림
+	 * @param entered move 전에 플레이어가 들어간 칸에 있던 타일
+	 */
+	public void unmove(int dir, boolean pushed, byte entered) {
+		int to = player;
+		int from = to - offset[dir];
+		if (pushed) {
+			cells[to + offset[dir]] = NightTile.FLOOR;
+		}
+		cells[to] = entered;
+		cells[from] = NightTile.HUMAN;
+		player = from;
+	}
+	
+	// 솔버용: 작업 판에 상태를 올리고 내릴 때 칸/플레이어를 직접 바꿈
+	void set(int cell, byte tile) {
+		cells[cell] = tile;
+	}
+	
+	void setPlayer(int cell) {
+		player = cell;
+	}
+	
+	private void step(int from, int to) {
+		cells[from] = NightTile.FLOOR;
+		cells[to] = NightTile.HUMAN;
+		player = to;
+	}
+	
+	// 가로 이동이 줄을 넘어가지 않는지까지 확인
+	private boolean inside(int from, int to, int dir, int dist) {
+		if (to < 0 || to >= cells.length) return false;
+		return (from % width) + DX[dir] * dist == to % width;
+	}
+}
@@ -0,0 +1,165 @@
+package game.stage.night;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import game.core.ResourceManager;
+
+/**
+ * 밤 스테이지 판 그리기(레이어 캐시)
+ * - 정적 레이어: 배경 + 벽. 방을 새로 불러올 때만 다시 만듦
+ * - 판 이미지: 정적 레이어 위에 물건/플레이어를 얹은 것. 지난번에 그린 타일과 달라진 칸만 다시 그림
+ *   (이동/되돌리기/리셋 모두 보통 2~3칸)
+ * - 스프라이트는 칸 크기로 한 번만 스케일해 둠(ResourceManager가 씬 단위로 잡음)
+ */
+class NightBoardView {
+	// 판이 그려지는 영역(창 기준)
+	static final int BOARD_X = 150;
+	static final int BOARD_Y = 0;
+	static final int BOARD_SIZE = 900;
+
+	private static final String DIR = "assets/images/night/";
+
+	private NightBoard board;     // 마지막으로 그린 판(다른 판이면 새 방 → 정적 레이어부터 다시)
+	private byte[] shown;         // 판 이미지에 지금 그려져 있는 타일
+	private int tile;
+
+	private BufferedImage staticLayer;
+	private BufferedImage boardImage;
+	private final BufferedImage[] sprites = new BufferedImage[128];
+
+	int tile() {
+		return tile;
+	}
+
+	int cellX(int cell) {
+		return BOARD_X + tile * (cell % board.width);
+	}
+
+	int cellY(int cell) {
+		return BOARD_Y + tile * (cell / board.width);
+	}
+
+	void draw(Graphics g, NightBoard b) {
+		GraphicsConfiguration gc = (g instanceof Graphics2D) ? ((Graphics2D) g).getDeviceConfiguration() : null;
+
+		if (b != board || boardImage == null) {
+			load(b, gc);
+		} else {
+			refreshChanged();
+		}
+
+		g.drawImage(boardImage, BOARD_X, BOARD_Y, null);
+	}
+
+	// 창 뜨기 전에(저녁 진행 중) 기본 크기 스프라이트를 미리 스케일
+	static void preload(int tile) {
+		ResourceManager.scaled(NightObject.SCENE, DIR + "NightBackground.png", BOARD_SIZE, BOARD_SIZE, true);
+		for (String name : new String[] {
+				"NightWall", "NightHuman", "NightBed", "NightMonster", "NightPhone", "NightDesk", "NightChair", "NightLED"
+		}) {
+			ResourceManager.scaled(NightObject.SCENE, DIR + name + ".png", tile, tile, true);
+		}
+	}
+
+	// ===================== 내부 =====================
+
+	private void load(NightBoard b, GraphicsConfiguration gc) {
+		board = b;
+		int newTile = BOARD_SIZE / Math.max(b.width, b.height);
+		if (newTile != tile || sprites[NightTile.WALL] == null) {
+			tile = newTile;
+			loadSprites();
+		}
+
+		if (staticLayer == null || staticLayer.getWidth() != BOARD_SIZE || staticLayer.getHeight() != BOARD_SIZE) {
+			staticLayer = blank(gc, BOARD_SIZE, BOARD_SIZE);
+			boardImage = blank(gc, BOARD_SIZE, BOARD_SIZE);
+		}
+
+		Graphics2D sg = staticLayer.createGraphics();
+		try {
+			sg.setComposite(AlphaComposite.Clear);
+			sg.fillRect(0, 0, BOARD_SIZE, BOARD_SIZE);
+			sg.setComposite(AlphaComposite.SrcOver);
+
+			BufferedImage bg = ResourceManager.scaled(NightObject.SCENE, DIR + "NightBackground.png", BOARD_SIZE, BOARD_SIZE, true);
+			if (bg != null) sg.drawImage(bg, 0, 0, null);
+
+			BufferedImage wall = sprites[NightTile.WALL];
+			for (int i = 0; i < b.size() && wall != null; i++) {
+				if (b.cell(i) == NightTile.WALL) sg.drawImage(wall, tile * (i % b.width), tile * (i / b.width), null);
+			}
+		} finally {
+			sg.dispose();
+		}
+
+		Graphics2D bgc = boardImage.createGraphics();
+		try {
+			bgc.setComposite(AlphaComposite.Src);
+			bgc.drawImage(staticLayer, 0, 0, null);
+			bgc.setComposite(AlphaComposite.SrcOver);
+
+			shown = new byte[b.size()];
+			for (int i = 0; i < b.size(); i++) {
+				byte t = b.cell(i);
+				shown[i] = t;
+				if (t != NightTile.WALL) drawSprite(bgc, t, i);
+			}
+		} finally {
+			bgc.dispose();
+		}
+	}
+
+	// 지난번과 달라진 칸만: 정적 레이어에서 그 칸을 복원하고 스프라이트를 다시 얹음
+	private void refreshChanged() {
+		Graphics2D bgc = null;
+		try {
+			for (int i = 0; i < shown.length; i++) {
+				byte t = board.cell(i);
+				if (t == shown[i]) continue;
+				shown[i] = t;
+
+				if (bgc == null) bgc = boardImage.createGraphics();
+				int x = tile * (i % board.width), y = tile * (i / board.width);
+
+				bgc.setComposite(AlphaComposite.Src);
+				bgc.drawImage(staticLayer, x, y, x + tile, y + tile, x, y, x + tile, y + tile, null);
+				bgc.setComposite(AlphaComposite.SrcOver);
+				if (t != NightTile.WALL) drawSprite(bgc, t, i);
+			}
+		} finally {
+			if (bgc != null) bgc.dispose();
+		}
+	}
+
+	private void drawSprite(Graphics2D g, byte t, int cell) {
+		BufferedImage s = sprites[t & 0x7f];
+		if (s != null) g.drawImage(s, tile * (cell % board.width), tile * (cell / board.width), null);
+	}
+
+	private void loadSprites() {
+		sprites[NightTile.WALL] = sprite("NightWall");
+		sprites[NightTile.HUMAN] = sprite("NightHuman");
+		sprites[NightTile.BED] = sprite("NightBed");
+		sprites[NightTile.MONSTER] = sprite("NightMonster");
+		sprites[NightTile.MONSTER_DOWN] = sprites[NightTile.MONSTER];
+		sprites[NightTile.PHONE] = sprite("NightPhone");
+		sprites[NightTile.DESK] = sprite("NightDesk");
+		sprites[NightTile.CHAIR] = sprite("NightChair");
+		sprites[NightTile.LED] = sprite("NightLED");
+	}
+
+	private BufferedImage sprite(String name) {
+		return ResourceManager.scaled(NightObject.SCENE, DIR + name + ".png", tile, tile, true);
+	}
+
+	private static BufferedImage blank(GraphicsConfiguration gc, int w, int h) {
+		if (gc != null) return gc.createCompatibleImage(w, h, Transparency.TRANSLUCENT);
+		return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+	}
+}
@@ -0,0 +1,476 @@
+package game.stage.night;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 밤 스테이지 방 생성기
+ * - 작은 방 여러 개 + 통로 + 고리로 방을 파고, 침대에서 시작해서 거꾸로 걷기(reverse play):
+ *   플레이어가 물건 옆까지 걸어가서 끌어오면 그 물건이 걸어온 길을 막음.
+ *   그 걸음을 뒤집은 게 정방향 풀이 → 항상 풀 수 있는 방이 나옴
+ * - 후보마다 NightSolver로 최소 걸음/가구 민 횟수/탐색량을 재고, 가구를 벽으로 바꿔서도 풀리는지 봄
+ * - 점수 = 목표 걸음과의 차이 + "그냥 걸어가면 되는 방"일수록 벌점. 가장 낮은 후보를 고름
+ * - 후보는 fork/join으로 코어마다 나눠서 만듦. 후보 번호별 시드가 정해져 있어서
+ *   같은 seed면 스레드 수와 상관없이 같은 방이 나옴
+ *
+ * [한줄 요약]
+ * - generate(seed) → NightMap. 같은 타일 문자('w','g','h','b','m','p','d','c','l') 그대로 씀.
+ */
+public final class NightLevelGenerator {
+
+	/** 걸음 수 스프라이트(NightSteps)가 표시할 수 있는 최대 걸음 */
+	public static final int MAX_BUDGET = 23;
+
+	private static final int BATCH = 32;           // 한 번에 병렬로 만드는 후보 수
+	private static final int MAX_ROUNDS = 8;       // 목표에 못 맞추면 이만큼만 더 돌림
+	private static final int SOLVER_NODES = 200_000;
+	private static final int SEQUENTIAL = 4;       // 이 이하로 쪼개지면 한 스레드에서 처리
+	private static final int LOOP_CHANCE = 3;      // 고리를 낼 확률 1/n(두 번째 통로, 통로 사이 벽)
+	private static final int MONSTER_CHANCE = 4;   // 끌어온 물건이 몬스터일 확률 1/n
+	private static final int MIN_PIECES = 3;       // 한 방에 끌어올 물건 수 상한(MIN_PIECES ~ +2, 걸음 한도 안에서만)
+
+	// 점수 기준(손으로 만든 방: 18걸음, 가구 4번 밀기, 탐색 63개 ≒ 걸음당 3개)
+	private static final int MIN_PUSHES = 2;       // 최소 풀이에서 가구를 민 횟수
+	private static final int MIN_SEARCH = 3;       // 탐색 노드 / (최소 걸음 + 1). 1이면 외길
+
+	private static final byte[] FURNITURE = {
+		NightTile.PHONE, NightTile.DESK, NightTile.CHAIR, NightTile.LED
+	};
+
+	private final int width;
+	private final int height;
+	private final int targetMoves;
+
+	public NightLevelGenerator() {
+		this(9, 9, 18);
+	}
+
+	public NightLevelGenerator(int width, int height, int targetMoves) {
+		if (width < 5 || height < 5) throw new IllegalArgumentException("방이 너무 작음: " + width + "x" + height);
+		this.width = width;
+		this.height = height;
+		this.targetMoves = targetMoves;
+	}
+
+	/** 같은 seed면 항상 같은 방. 못 만들면 null */
+	public NightMap generate(long seed) {
+		Candidate best = null;
+
+		for (int round = 0; round < MAX_ROUNDS; round++) {
+			Candidate c = ForkJoinPool.commonPool().invoke(new Batch(seed, round * BATCH, round * BATCH + BATCH));
+			if (better(c, best)) best = c;
+			if (best != null && best.score() == 0) break;
+		}
+
+		return (best != null) ? best.toMap() : null;
+	}
+
+	// ===================== 후보 =====================
+
+	private final class Candidate {
+		final int index;
+		final byte[] cells;
+		final int player;
+		final int moves;
+		final int pushes;     // 최소 풀이에서 가구를 민 횟수
+		final int explored;   // 솔버가 확장한 노드 수
+		final boolean forced; // 가구를 벽으로 바꾸면 한도 안에 못 풂(= 밀어야만 풀림)
+
+		Candidate(int index, byte[] cells, int player, int moves, int pushes, int explored, boolean forced) {
+			this.index = index;
+			this.cells = cells;
+			this.player = player;
+			this.moves = moves;
+			this.pushes = pushes;
+			this.explored = explored;
+			this.forced = forced;
+		}
+
+		// 0이면 목표 걸음 ±1 + 밀어야만 풀림 + 가구 MIN_PUSHES번 이상 + 외길이 아님
+		int score() {
+			int score = Math.max(0, Math.abs(moves - targetMoves) - 1) * 2;
+			if (!forced) score += 4;
+			score += Math.max(0, MIN_PUSHES - pushes) * 2;
+			score += Math.max(0, MIN_SEARCH - explored / (moves + 1));
+			return score;
+		}
+
+		NightMap toMap() {
+			char[][] map = new char[height][width];
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					map[y][x] = (char) cells[y * width + x];
+				}
+			}
+			return new NightMap(map, player % width, player / width, budget(moves));
+		}
+	}
+
+	// 점수가 같으면 번호가 작은 쪽(스레드 순서와 상관없이 결과 고정)
+	private static boolean better(Candidate a, Candidate b) {
+		if (a == null) return false;
+		if (b == null) return true;
+		if (a.score() != b.score()) return a.score() < b.score();
+		return a.index < b.index;
+	}
+
+	private final class Batch extends RecursiveTask<Candidate> {
+		private final long seed;
+		private final int from, to;
+
+		Batch(long seed, int from, int to) {
+			this.seed = seed;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Candidate compute() {
+			if (to - from <= SEQUENTIAL) {
+				Candidate best = null;
+				for (int i = from; i < to; i++) {
+					Candidate c = build(i, new SplittableRandom(mix(seed, i)));
+					if (better(c, best)) best = c;
+				}
+				return best;
+			}
+
+			int mid = (from + to) >>> 1;
+			Batch left = new Batch(seed, from, mid);
+			left.fork();
+			Candidate right = new Batch(seed, mid, to).compute();
+			Candidate l = left.join();
+			return better(l, right) ? l : right;
+		}
+	}
+
+	private static long mix(long seed, int i) {
+		long z = seed + 0x9E3779B97F4A7C15L * (i + 1);
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	// ===================== 한 후보 만들기 =====================
+
+	private Candidate build(int index, SplittableRandom rnd) {
+		int n = width * height;
+		byte[] cells = new byte[n];
+		Arrays.fill(cells, NightTile.WALL);
+
+		// 1) 방 파기: 사분면마다 작은 방 하나, 시계(또는 반시계) 방향으로 ㄱ자 통로로 이음.
+		//    마지막 방과 첫 방은 안 이어서 침대까지 ㄷ자로 돌아가야 함. 방 안과 통로가 겹치는 곳은 고리가 됨
+		int midX = width / 2, midY = height / 2;
+		int quadrant = rnd.nextInt(4);
+		int turn = rnd.nextBoolean() ? 1 : 3;
+		int prev = -1;
+		int bed = -1;
+		for (int r = 0; r < 4; r++, quadrant = (quadrant + turn) & 3) {
+			boolean right = quadrant == 1 || quadrant == 2; // 0 왼위, 1 오위, 2 오아래, 3 왼아래
+			boolean bottom = quadrant >= 2;
+			int ax = right ? midX + 1 : 1, aw = right ? width - 2 - midX : midX - 1;
+			int ay = bottom ? midY + 1 : 1, ah = bottom ? height - 2 - midY : midY - 1;
+
+			int w = Math.min(aw, 2 + rnd.nextInt(2));
+			int h = Math.min(ah, 2 + rnd.nextInt(2));
+			int x0 = ax + rnd.nextInt(aw - w + 1);
+			int y0 = ay + rnd.nextInt(ah - h + 1);
+			for (int y = y0; y < y0 + h; y++) {
+				for (int x = x0; x < x0 + w; x++) cells[cellAt(x, y)] = NightTile.FLOOR;
+			}
+
+			int door = cellAt(x0 + rnd.nextInt(w), y0 + rnd.nextInt(h));
+			if (prev >= 0) {
+				boolean horizontalFirst = rnd.nextBoolean();
+				corridor(cells, prev, door, horizontalFirst);
+				// 가끔 반대 ㄱ자로 한 번 더 → 두 방 사이에 고리(막힌 물건을 돌아갈 길)
+				if (rnd.nextInt(LOOP_CHANCE) == 0) corridor(cells, prev, door, !horizontalFirst);
+			} else {
+				bed = door; // 침대는 첫 방 → 방을 이어 나갈수록 침대에서 멀어짐
+			}
+			prev = door;
+		}
+
+		// 2) 고리 더 만들기: 양옆(또는 위아래)만 바닥인 벽을 가끔 뚫음 → 가구를 돌아갈지 밀지 고르게 됨
+		for (int c = 0; c < n; c++) {
+			if (cells[c] == NightTile.WALL && isPassage(cells, c) && rnd.nextInt(LOOP_CHANCE) == 0) {
+				cells[c] = NightTile.FLOOR;
+			}
+		}
+
+		// 3) 침대 + 시작 칸(침대에서 벽만 피해서 가장 먼 칸) + 그 사이 최단 길
+		cells[bed] = NightTile.BED;
+		int[] bedDist = floorDistance(cells, bed);
+		int player = farthest(bedDist, rnd);
+		int len = bedDist[player];
+		if (len < 4) return null;
+
+		int[] route = new int[len + 1]; // route[0] = 침대, route[len] = 시작 칸
+		boolean[] onRoute = new boolean[n];
+		int[] startDist = floorDistance(cells, player);
+		route[len] = player;
+		onRoute[player] = true;
+		for (int i = len; i > 0; i--) {
+			int back = -1, ties = 0;
+			for (int dir = 0; dir < 4; dir++) {
+				int nb = interior(route[i], dir);
+				if (nb >= 0 && bedDist[nb] == i - 1 && rnd.nextInt(++ties) == 0) back = nb;
+			}
+			route[i - 1] = back;
+			onRoute[back] = true;
+		}
+
+		// 4) 거꾸로 걷기: 침대 옆에서 길을 따라 시작 칸까지 감. 곧은 길 칸 P를 지날 때마다,
+		//    옆 주머니 칸 B(길 밖, 아직 아무것도 안 지나간 칸)의 물건을 반대쪽 F로 물러나면서 P로 끌어옴(pullAcross).
+		//    끌고 나서는 P를 피해 돌아서 다음 길 칸으로 감(돌아갈 길이 없으면 거기선 안 끎)
+		//    → 정방향: 길을 막은 물건 때문에 F까지 돌아가서 B로 밀어 넣어야 함(벽만 보는 거리에는 안 보이는 우회)
+		boolean[] touched = new boolean[n]; // 지금까지(거꾸로 시간 기준) 플레이어나 물건이 있었던 칸
+		touched[bed] = true;
+		touched[route[1]] = true;
+
+		int pieces = MIN_PIECES + rnd.nextInt(3);
+		int placed = 0;
+		int steps = 1;
+		int[] dist = new int[n];
+
+		for (int i = 1; i < len; i++) {
+			int p = route[i];
+			int next = route[i + 1];
+			// 끌기 한 번 = 물러나기 1 + 돌아가기 2 이상. 남은 길까지 한도 안에 들어올 때만
+			boolean room = steps + 1 + (len - i) + 2 <= MAX_BUDGET;
+
+			// 곧은 구간에서만(꺾이는 칸은 옆 칸 하나가 이전/다음 길 칸이라 주머니가 안 나옴)
+			int ahead = direction(p, next);
+			if (placed < pieces && room && direction(route[i - 1], p) == ahead) {
+				int first = (ahead < 2) ? 2 + rnd.nextInt(2) : rnd.nextInt(2); // 길 방향에 수직
+				byte piece = (rnd.nextInt(MONSTER_CHANCE) == 0) ? NightTile.MONSTER : FURNITURE[rnd.nextInt(FURNITURE.length)];
+				int detour = -1;
+				for (int k = 0; k < 2 && detour < 0; k++) {
+					detour = pullAcross(cells, p, next, first ^ k, ahead, piece, touched, onRoute, startDist, dist);
+				}
+				if (detour >= 0) {
+					steps += 1 + detour;
+					placed++;
+					continue; // 이미 next에 도착
+				}
+			}
+
+			touched[next] = true;
+			steps++;
+		}
+		cells[player] = NightTile.HUMAN;
+
+		// 5) 솔버로 검증 + 실제 최소 걸음 + 가구를 밀어야만 풀리는지
+		NightBoard board = new NightBoard(width, height, cells.clone(), player);
+		NightSolver.Solution sol = NightSolver.solve(board, MAX_BUDGET, SOLVER_NODES);
+		if (!sol.solved || sol.moves() < 4) return null;
+
+		boolean forced = !NightSolver.solve(withoutFurniture(board), budget(sol.moves()), SOLVER_NODES).solved;
+		return new Candidate(index, cells, player, sol.moves(), furniturePushes(board, sol.path), sol.explored, forced);
+	}
+
+	/**
+	 * 길 칸 p에 옆 주머니(p에서 d 반대쪽)의 물건을 끌어옴. 플레이어는 d쪽 칸(F)으로 물러난 뒤 p를 피해 next까지 돌아감
+	 * - 주머니가 벽이면 막다른 칸으로 팜. F가 벽이면 F + 대각선 칸을 파서 p, next와 2x2 고리를 만듦
+	 * - 새로 판 칸은 p/next 말고 다른 바닥과 안 닿게 함 → 길(최단 거리)이 안 바뀜
+	 * @return F에서 next까지 돌아간 걸음 수. 못 끌면 -1(판은 그대로)
+	 */
+	private int pullAcross(byte[] cells, int p, int next, int d, int ahead, byte piece,
+			boolean[] touched, boolean[] onRoute, int[] startDist, int[] dist) {
+		int pocket = interior(p, d ^ 1);
+		int stand = interior(p, d);
+		if (pocket < 0 || stand < 0) return -1;
+
+		boolean carvePocket = cells[pocket] == NightTile.WALL;
+		if (carvePocket) {
+			if (!isolated(cells, pocket, p, -1)) return -1;
+		} else if (cells[pocket] != NightTile.FLOOR || touched[pocket] || onRoute[pocket]) {
+			return -1;
+		}
+
+		int corner = interior(stand, ahead);
+		boolean carveStand = cells[stand] == NightTile.WALL;
+		if (carveStand) {
+			if (corner < 0 || cells[corner] != NightTile.WALL) return -1;
+			if (!isolated(cells, stand, p, corner) || !isolated(cells, corner, stand, next)) return -1;
+		} else if (cells[stand] != NightTile.FLOOR || onRoute[stand] || startDist[stand] < startDist[p]) {
+			// F가 시작 칸에서 p로 오는 최단 길 위에 있으면 정방향에서 공짜로 밀림 → 우회가 안 됨
+			return -1;
+		}
+
+		if (carvePocket) cells[pocket] = NightTile.FLOOR;
+		if (carveStand) {
+			cells[stand] = NightTile.FLOOR;
+			cells[corner] = NightTile.FLOOR;
+		}
+		cells[p] = piece;
+
+		int detour = walk(cells, stand, next, dist);
+		if (detour < 0) {
+			cells[p] = NightTile.FLOOR;
+			if (carvePocket) cells[pocket] = NightTile.WALL;
+			if (carveStand) {
+				cells[stand] = NightTile.WALL;
+				cells[corner] = NightTile.WALL;
+			}
+			return -1;
+		}
+
+		touched[pocket] = true;
+		touched[stand] = true;
+		markPath(dist, next, touched);
+		return detour;
+	}
+
+	// 벽 칸 c를 파도 a, b 말고는 다른 바닥과 안 닿는지
+	private boolean isolated(byte[] cells, int c, int a, int b) {
+		for (int dir = 0; dir < 4; dir++) {
+			int nb = interior(c, dir);
+			if (nb >= 0 && nb != a && nb != b && cells[nb] != NightTile.WALL) return false;
+		}
+		return true;
+	}
+
+	// 두 칸 사이 ㄱ자 통로(가로 먼저 또는 세로 먼저)
+	private void corridor(byte[] cells, int from, int to, boolean horizontalFirst) {
+		int x = from % width, y = from / width;
+		int tx = to % width, ty = to / width;
+		int cx = horizontalFirst ? tx : x;
+
+		for (int i = Math.min(x, cx); i <= Math.max(x, cx); i++) cells[cellAt(i, y)] = NightTile.FLOOR;
+		for (int i = Math.min(y, ty); i <= Math.max(y, ty); i++) cells[cellAt(cx, i)] = NightTile.FLOOR;
+		for (int i = Math.min(cx, tx); i <= Math.max(cx, tx); i++) cells[cellAt(i, ty)] = NightTile.FLOOR;
+	}
+
+	// 좌우만 바닥이거나 위아래만 바닥인 벽(뚫으면 두 통로가 이어짐)
+	private boolean isPassage(byte[] cells, int cell) {
+		int x = cell % width, y = cell / width;
+		if (x < 1 || y < 1 || x >= width - 1 || y >= height - 1) return false;
+
+		boolean lr = open(cells, interior(cell, NightBoard.LEFT)) && open(cells, interior(cell, NightBoard.RIGHT));
+		boolean ud = open(cells, interior(cell, NightBoard.UP)) && open(cells, interior(cell, NightBoard.DOWN));
+		return lr != ud;
+	}
+
+	private static boolean open(byte[] cells, int cell) {
+		return cell >= 0 && cells[cell] != NightTile.WALL;
+	}
+
+	private int cellAt(int x, int y) {
+		return y * width + x;
+	}
+
+	// 테두리(바깥 벽) 안쪽 이웃만
+	private int interior(int cell, int dir) {
+		int x = cell % width + NightBoard.DX[dir];
+		int y = cell / width + NightBoard.DY[dir];
+		if (x < 1 || y < 1 || x >= width - 1 || y >= height - 1) return -1;
+		return cellAt(x, y);
+	}
+
+	/** 빈 바닥만 밟고 from → to 최단 걸음 수(못 가면 -1). 거꾸로 걷기 중이라 침대/물건은 못 밟음 */
+	private int walk(byte[] cells, int from, int to, int[] dist) {
+		Arrays.fill(dist, -1);
+		int[] queue = new int[cells.length];
+		int head = 0, tail = 0;
+		dist[from] = 0;
+		queue[tail++] = from;
+
+		while (head < tail) {
+			int c = queue[head++];
+			if (c == to) return dist[c];
+			for (int dir = 0; dir < 4; dir++) {
+				int nb = interior(c, dir);
+				if (nb < 0 || cells[nb] != NightTile.FLOOR || dist[nb] >= 0) continue;
+				dist[nb] = dist[c] + 1;
+				queue[tail++] = nb;
+			}
+		}
+		return -1;
+	}
+
+	// 침대에서 가장 먼 칸(같으면 랜덤)
+	private static int farthest(int[] bedDist, SplittableRandom rnd) {
+		int best = -1, ties = 0;
+		for (int c = 0; c < bedDist.length; c++) {
+			if (bedDist[c] == Integer.MAX_VALUE) continue;
+			if (best < 0 || bedDist[c] > bedDist[best]) {
+				best = c;
+				ties = 1;
+			} else if (bedDist[c] == bedDist[best] && rnd.nextInt(++ties) == 0) {
+				best = c;
+			}
+		}
+		return best;
+	}
+
+	// 이웃한 두 칸 사이 방향
+	private int direction(int from, int to) {
+		for (int dir = 0; dir < 4; dir++) {
+			if (interior(from, dir) == to) return dir;
+		}
+		return -1;
+	}
+
+	// walk()가 채운 거리표를 to에서 거꾸로 따라가며 지나간 칸 표시
+	private void markPath(int[] dist, int to, boolean[] marks) {
+		for (int c = to; dist[c] > 0; ) {
+			marks[c] = true;
+			int back = -1;
+			for (int dir = 0; dir < 4 && back < 0; dir++) {
+				int nb = interior(c, dir);
+				if (nb >= 0 && dist[nb] == dist[c] - 1) back = nb;
+			}
+			c = back;
+		}
+	}
+
+	// from에서 벽만 피해서 간 거리(물건은 무시)
+	private int[] floorDistance(byte[] cells, int from) {
+		int[] dist = new int[cells.length];
+		Arrays.fill(dist, Integer.MAX_VALUE);
+		int[] queue = new int[cells.length];
+		int head = 0, tail = 0;
+		dist[from] = 0;
+		queue[tail++] = from;
+
+		while (head < tail) {
+			int c = queue[head++];
+			for (int dir = 0; dir < 4; dir++) {
+				int nb = interior(c, dir);
+				if (nb < 0 || cells[nb] == NightTile.WALL || dist[nb] != Integer.MAX_VALUE) continue;
+				dist[nb] = dist[c] + 1;
+				queue[tail++] = nb;
+			}
+		}
+		return dist;
+	}
+
+	// 가구를 벽으로 바꾼 판(몬스터는 그대로). 이걸로도 풀리면 가구는 장식일 뿐
+	private static NightBoard withoutFurniture(NightBoard board) {
+		byte[] cells = new byte[board.size()];
+		for (int i = 0; i < cells.length; i++) {
+			byte t = board.cell(i);
+			cells[i] = (NightTile.is(t, NightTile.PUSHABLE) && t != NightTile.MONSTER) ? NightTile.WALL : t;
+		}
+		return new NightBoard(board.width, board.height, cells, board.playerCell());
+	}
+
+	// 최소 풀이를 따라가면서 가구를 민 횟수(몬스터 제외)
+	private static int furniturePushes(NightBoard board, int[] path) {
+		NightBoard b = board.copy();
+		int pushes = 0;
+		for (int dir : path) {
+			byte ahead = b.cell(b.neighbor(b.playerCell(), dir));
+			if (b.move(dir) == NightBoard.PUSHED && ahead != NightTile.MONSTER) pushes++;
+		}
+		return pushes;
+	}
+
+	// 최소 걸음에 여유를 조금 줌(원래 방: 18걸음 / 한도 23)
+	private static int budget(int moves) {
+		return Math.min(MAX_BUDGET, moves + Math.max(2, moves / 4));
+	}
+}
@@ -19,4 +19,17 @@ public class NightMap {
 		{'w', 'w', 'w', 'w', 'w', 'w', 'w', 'w', 'w'}
 	};
 	
+	// 기본(손으로 만든) 방
+	public NightMap() {
+	}
+	
+	// 생성기로 만든 방
+	public NightMap(char[][] map, int startX, int startY, int movecount) {
+		this.map = map;
+		this.start_index_x = startX;
+		this.start_index_y = startY;
+		this.start_x = 150 + 100 * startX;
+		this.start_y = 100 * startY;
+		this.movecount = movecount;
+	}
 }
@@ -0,0 +1,105 @@
+package game.stage.night;
+
+/**
+ * 밤 스테이지 이동 기록(되돌리기/다시하기)
+ * - 한 걸음 = 1바이트: 방향(2bit) + 밀었는지(1bit) + 들어간 칸의 원래 타일 번호(3bit)
+ * - 고정 크기 byte 링 버퍼. 꽉 차면 가장 오래된 걸음부터 버림(그 앞으로는 못 되돌림)
+ * - 판 전체를 복사하지 않으니까 큰 방에서도 되돌리기가 O(1)
+ */
+public final class NightMoveLog {
+
+	// 들어간 칸에 원래 있던 타일(되돌릴 때 복원). 인덱스가 3bit에 들어감
+	private static final byte[] TILES = {
+		NightTile.FLOOR, NightTile.MONSTER_DOWN, NightTile.BED,
+		NightTile.MONSTER, NightTile.PHONE, NightTile.DESK, NightTile.CHAIR, NightTile.LED
+	};
+	private static final byte[] TILE_INDEX = new byte[128];
+
+	static {
+		for (int i = 0; i < TILES.length; i++) TILE_INDEX[TILES[i]] = (byte) i;
+	}
+
+	private final byte[] buf;
+	private final int mask;
+	private int start;      // 가장 오래된 걸음 위치
+	private int size;       // 되돌릴 수 있는 걸음 수
+	private int redo;       // 다시하기 가능한 걸음 수(size 뒤에 남아 있음)
+	private boolean truncated;
+
+	/** @param capacity 2의 거듭제곱으로 올림 */
+	public NightMoveLog(int capacity) {
+		int cap = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		buf = new byte[cap];
+		mask = cap - 1;
+	}
+
+	public static byte encode(int dir, boolean pushed, byte enteredTile) {
+		return (byte) (dir | (pushed ? 4 : 0) | (TILE_INDEX[enteredTile & 0x7f] << 3));
+	}
+
+	public static int dir(byte delta) {
+		return delta & 3;
+	}
+
+	public static boolean pushed(byte delta) {
+		return (delta & 4) != 0;
+	}
+
+	public static byte enteredTile(byte delta) {
+		return TILES[(delta >> 3) & 7];
+	}
+
+	/** 새 걸음 기록(다시하기 기록은 버려짐) */
+	public void push(byte delta) {
+		buf[(start + size) & mask] = delta;
+		if (size == buf.length) {
+			start = (start + 1) & mask;
+			truncated = true;
+		} else {
+			size++;
+		}
+		redo = 0;
+	}
+
+	public boolean canUndo() {
+		return size > 0;
+	}
+
+	public boolean canRedo() {
+		return redo > 0;
+	}
+
+	public byte undo() {
+		size--;
+		redo++;
+		return buf[(start + size) & mask];
+	}
+
+	public byte redo() {
+		byte d = buf[(start + size) & mask];
+		size++;
+		redo--;
+		return d;
+	}
+
+	/** 되돌릴 수 있는 걸음 수 */
+	public int size() {
+		return size;
+	}
+
+	/** 처음부터의 기록이 다 남아 있는지(false면 리셋 시 방을 새로 만들어야 함) */
+	public boolean reachesStart() {
+		return !truncated;
+	}
+
+	public void clearRedo() {
+		redo = 0;
+	}
+
+	public void clear() {
+		start = 0;
+		size = 0;
+		redo = 0;
+		truncated = false;
+	}
+}
@@ -1,567 +1,247 @@
 package game.stage.night;
 
+import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 
-import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
 
+import game.core.InputLog;
+import game.core.ResourceManager;
+
 public class NightObject implements KeyListener {
-	private BufferedImage backgroundImage;
-	private BufferedImage wall;
-	private BufferedImage MC;
-	private BufferedImage Bed;
-	private BufferedImage Monster;
-	private BufferedImage Phone;
-	private BufferedImage Desk;
-	private BufferedImage Chair;
-	private BufferedImage LED;
+	// ResourceManager 씬 이름
+	public static final String SCENE = "night";
+	
+	// 판 스프라이트/배경은 NightBoardView가 칸 크기로 스케일해서 가짐
+	private final NightBoardView view = new NightBoardView();
 	private BufferedImage Heart;
 	private BufferedImage HalfHeart;
 	private BufferedImage GUI;
 	private NightMap loadmap;
-	private char[][] map = new char[9][9];
+	private NightBoard board;
 	private NightState loadstate;
 	private NightState state;
 	private BufferedImage Steps;
+	private final BufferedImage[] stepFrames = new BufferedImage[NightLevelGenerator.MAX_BUDGET + 1];
+	
+	// 판/상태가 바뀌면 호출(NightScreen이 repaint 요청)
+	private Runnable onChange = () -> {};
+	
+	// 입력 기록 순번
+	private int inputSeq = 0;
+	
+	// 힌트(H 키): 다음에 밟을 칸 번호. -1 없음, -2 이 걸음 수로는 못 품
+	private int hintCell = -1;
+	private static final Color HINT = new Color(255, 230, 80, 110);
+	private static final Color NO_HINT = new Color(220, 40, 40, 110);
+	// 힌트는 키 입력(EDT)에서 바로 풀어서 상한을 작게(생성된 방은 수백 개면 풀림, 넘으면 힌트 없음으로 표시)
+	private static final int HINT_NODES = 10_000;
+	
+	// 처음 만든 방(리셋하면 이 방으로 돌아감)
+	private final NightMap level;
+	
+	// 되돌리기(Z)/다시하기(Y) 기록
+	private static final int UNDO_CAPACITY = 4096;
+	private final NightMoveLog log = new NightMoveLog(UNDO_CAPACITY);
 	
 	public NightObject() {
-		loadstate = new NightState();
-		state=loadstate;
+		this(new NightMap());
+	}
+	
+	public NightObject(NightMap level) {
+		this.level = level;
 		loadImage();
 		loadMap();
 	}
 	
 	private void loadImage() {
-		try {
-			this.backgroundImage = ImageIO.read(new File("assets/images/night/NightBackground.png"));
-			this.wall = ImageIO.read(new File("assets/images/night/NightWall.png"));
-			this.MC = ImageIO.read(new File("assets/images/night/NightHuman.png"));
-			this.Bed = ImageIO.read(new File("assets/images/night/NightBed.png"));
-			this.Monster = ImageIO.read(new File("assets/images/night/NightMonster.png"));
-			this.Phone = ImageIO.read(new File("assets/images/night/NightPhone.png"));
-			this.Desk = ImageIO.read(new File("assets/images/night/NightDesk.png"));
-			this.Chair = ImageIO.read(new File("assets/images/night/NightChair.png"));
-			this.LED = ImageIO.read(new File("assets/images/night/NightLED.png"));
-			this.Heart = ImageIO.read(new File("assets/images/night/NightHeart.png"));
-			this.HalfHeart = ImageIO.read(new File("assets/images/night/NightHalfHeart.png"));
-			this.GUI = ImageIO.read(new File("assets/images/night/NightGUI.png"));
-			this.Steps = ImageIO.read(new File("assets/images/night/NightSteps.png"));
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		this.Heart = scaled("NightHeart", 100, 100);
+		this.HalfHeart = scaled("NightHalfHeart", 100, 100);
+		this.GUI = scaled("NightGUI", 140, 195);
+		this.Steps = image("NightSteps");
+	}
+	
+	private static BufferedImage image(String name) {
+		return ResourceManager.image(SCENE, "assets/images/night/" + name + ".png");
 	}
 	
+	private static BufferedImage scaled(String name, int w, int h) {
+		return ResourceManager.scaled(SCENE, "assets/images/night/" + name + ".png", w, h, true);
+	}
+	
+	// 저녁 진행 중에 백그라운드 스레드에서 호출(창 뜰 때는 캐시에서 바로 꺼냄)
+	public static void preloadAssets() {
+		NightBoardView.preload(100);
+		scaled("NightHeart", 100, 100);
+		scaled("NightHalfHeart", 100, 100);
+		scaled("NightGUI", 140, 195);
+		image("NightSteps");
+	}
+	
+	// loadstate는 방 시작 상태(안 바뀜), state는 플레이 중 상태(따로 복사본)
 	private void loadMap() {
-		loadmap = new NightMap();
-		for(int i=0; i<9; i++) {
-			for(int j=0; j<9; j++) {
-				map[i][j] = loadmap.map[i][j];
-			}
-		}
-		state.index_x = loadmap.start_index_x;
-		state.index_y = loadmap.start_index_y;
-		state.moveCount = loadmap.movecount;
-		state.x = loadmap.start_x;
-		state.y = loadmap.start_y;
+		loadmap = level;
+		board = NightBoard.from(loadmap);
+		log.clear();
+		
+		loadstate = new NightState();
+		loadstate.index_x = loadmap.start_index_x;
+		loadstate.index_y = loadmap.start_index_y;
+		loadstate.moveCount = loadmap.movecount;
+		loadstate.x = loadmap.start_x;
+		loadstate.y = loadmap.start_y;
+		state = loadstate.copy();
 	}
 	
 	public void draw(Graphics g, NightScreen screen) {
-		drawObject(map, g, screen);
+		drawObject(g, screen);
 		drawGUI(g, screen);
+		drawHint(g);
 	}
 	
-	public void drawObject(char[][] map, Graphics g, NightScreen screen) {
-		g.drawImage(backgroundImage, 150, 0, 900, 900, null);
-		for(int i=0; i<9; i++) {
-			for(int j=0; j<9; j++) {
-				int x = 150 + 100*j;
-				int y = 100 * i;
-				
-				switch(map[i][j]) {
-				case 'w':
-					g.drawImage(wall, x, y, 100, 100, null);
-					break;
-				case 'g':
-					break;
-				case 'h':
-					g.drawImage(MC, x, y, 100, 100, null);
-					break;
-				case 'b':
-					g.drawImage(Bed, x, y, 100, 100, null);
-					break;
-				case 'm':
-					g.drawImage(Monster, x, y, 100, 100, null);
-					break;
-				case 'n':
-					g.drawImage(Monster, x, y, 100, 100, null);
-					break;
-				case 'p':
-					g.drawImage(Phone, x, y, 100, 100, null);
-					break;
-				case 'd':
-					g.drawImage(Desk, x, y, 100, 100, null);
-					break;
-				case 'c':
-					g.drawImage(Chair, x, y, 100, 100, null);
-					break;
-				case 'l':
-					g.drawImage(LED, x, y, 100, 100, null);
-					break;
-				}
-			}
-		}
+	// 판은 레이어 캐시에서(바뀐 칸만 다시 그림)
+	public void drawObject(Graphics g, NightScreen screen) {
+		view.draw(g, board);
 	}
 	
 	public void drawGUI(Graphics g, NightScreen screen) {
-		g.drawImage(GUI, 0, 5, 140, 195, null);
+		g.drawImage(GUI, 0, 5, null);
 		if(state.heartCount == 2) {
-			g.drawImage(Heart, 1075, 25, 100, 100, null);
+			g.drawImage(Heart, 1075, 25, null);
 		}
 		else if(state.heartCount == 1) {
-			g.drawImage(HalfHeart, 1075, 25, 100, 100, null);
+			g.drawImage(HalfHeart, 1075, 25, null);
+		}
+		BufferedImage frame = stepFrame(state.moveCount);
+		if (frame != null) {
+			g.drawImage(frame, 1075, 775, null);
 		}
-		g.drawImage(Steps, 1075, 775, 1075 + 100, 775 + 100, 100 * state.moveCount, 0, 100 * state.moveCount + 100, 100, null);
 	}
 	
-	public void left() {
-		switch(map[state.index_y][state.index_x - 1]) {
-		case 'w':
-			break;
-		case 'g':
-			map[state.index_y][state.index_x - 1] = 'h';
-			map[state.index_y][state.index_x] = 'g';
-			state.index_x = state.index_x - 1;
-			state.moveCount = state.moveCount - 1;
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'b':
-			map[state.index_y][state.index_x - 1] = 'h';
-			map[state.index_y][state.index_x] = 'g';
-			state.index_x = state.index_x - 1;
-			state.moveCount = state.moveCount - 1;
-			gameWin();
-			break;
-		case 'm':
-			if(map[state.index_y][state.index_x - 2] == 'w') {
-				break;
-			}
-			else if(map[state.index_y][state.index_x - 2] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y][state.index_x - 2] = 'n';
-				map[state.index_y][state.index_x - 1] = 'h';
-				state.index_x = state.index_x - 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'n':
-			map[state.index_y][state.index_x] = 'g';
-			map[state.index_y][state.index_x - 1] = 'h';
-			state.index_x = state.index_x - 1;
-			state.moveCount = state.moveCount - 1;
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'p':
-			if(map[state.index_y][state.index_x - 2] == 'w') {
-				break;
-			}
-			else if(map[state.index_y][state.index_x - 2] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y][state.index_x - 2] = 'p';
-				map[state.index_y][state.index_x - 1] = 'h';
-				state.index_x = state.index_x - 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'd':
-			if(map[state.index_y][state.index_x - 2] == 'w') {
-				break;
-			}
-			else if(map[state.index_y][state.index_x - 2] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y][state.index_x - 2] = 'd';
-				map[state.index_y][state.index_x - 1] = 'h';
-				state.index_x = state.index_x - 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'c':
-			if(map[state.index_y][state.index_x - 2] == 'w') {
-				break;
-			}
-			else if(map[state.index_y][state.index_x - 2] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y][state.index_x - 2] = 'c';
-				map[state.index_y][state.index_x - 1] = 'h';
-				state.index_x = state.index_x - 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'l':
-			if(map[state.index_y][state.index_x - 2] == 'w') {
-				break;
-			}
-			else if(map[state.index_y][state.index_x - 2] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y][state.index_x - 2] = 'l';
-				map[state.index_y][state.index_x - 1] = 'h';
-				state.index_x = state.index_x - 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
+	// 걸음 수 시트(100px 칸)에서 n번째 칸을 한 번만 잘라 둠
+	private BufferedImage stepFrame(int n) {
+		if (Steps == null || n < 0 || n >= stepFrames.length || 100 * n + 100 > Steps.getWidth()) return null;
+		if (stepFrames[n] == null) {
+			BufferedImage f = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+			Graphics g = f.getGraphics();
+			g.drawImage(Steps.getSubimage(100 * n, 0, 100, Math.min(100, Steps.getHeight())), 0, 0, null);
+			g.dispose();
+			stepFrames[n] = f;
 		}
+		return stepFrames[n];
+	}
+	
+	private void drawHint(Graphics g) {
+		if (hintCell == -1) return;
+		
+		int cell = (hintCell >= 0) ? hintCell : board.playerCell();
+		g.setColor(hintCell >= 0 ? HINT : NO_HINT);
+		g.fillRect(view.cellX(cell), view.cellY(cell), view.tile(), view.tile());
+	}
+	
+	// 현재 판/남은 걸음으로 최소 풀이를 구해서 첫 걸음만 보여줌
+	public void hint() {
+		NightSolver.Solution s = NightSolver.solve(board, state.moveCount, HINT_NODES);
+		int dir = s.firstMove();
+		hintCell = (dir >= 0) ? board.neighbor(board.playerCell(), dir) : -2;
+	}
+	
+	public void left() {
+		move(NightBoard.LEFT);
 	}
 	public void right() {
-		switch(map[state.index_y][state.index_x + 1]) {
-		case 'w':
-			break;
-		case 'g':
-			map[state.index_y][state.index_x + 1] = 'h';
-			map[state.index_y][state.index_x] = 'g';
-			state.index_x = state.index_x + 1;
-			state.moveCount = state.moveCount - 1;
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'b':
-			map[state.index_y][state.index_x + 1] = 'h';
-			map[state.index_y][state.index_x] = 'g';
-			state.index_x = state.index_x + 1;
-			state.moveCount = state.moveCount - 1;
-			gameWin();
-			break;
-		case 'm':
-			if(map[state.index_y][state.index_x + 2] == 'w') {
-				break;
-			}
-			else if(map[state.index_y][state.index_x + 2] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y][state.index_x + 2] = 'n';
-				map[state.index_y][state.index_x + 1] = 'h';
-				state.index_x = state.index_x + 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'n':
-			map[state.index_y][state.index_x] = 'g';
-			map[state.index_y][state.index_x + 1] = 'h';
-			state.index_x = state.index_x + 1;
-			state.moveCount = state.moveCount - 1;
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'p':
-			if(map[state.index_y][state.index_x + 2] == 'w') {
-				break;
-			}
-			else if(map[state.index_y][state.index_x + 2] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y][state.index_x + 2] = 'p';
-				map[state.index_y][state.index_x + 1] = 'h';
-				state.index_x = state.index_x + 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'd':
-			if(map[state.index_y][state.index_x + 2] == 'w') {
-				break;
-			}
-			else if(map[state.index_y][state.index_x + 2] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y][state.index_x + 2] = 'd';
-				map[state.index_y][state.index_x + 1] = 'h';
-				state.index_x = state.index_x + 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'c':
-			if(map[state.index_y][state.index_x + 2] == 'w') {
-				break;
-			}
-			else if(map[state.index_y][state.index_x + 2] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y][state.index_x + 2] = 'c';
-				map[state.index_y][state.index_x + 1] = 'h';
-				state.index_x = state.index_x + 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'l':
-			if(map[state.index_y][state.index_x + 2] == 'w') {
-				break;
-			}
-			else if(map[state.index_y][state.index_x + 2] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y][state.index_x + 2] = 'l';
-				map[state.index_y][state.index_x + 1] = 'h';
-				state.index_x = state.index_x + 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		}
+		move(NightBoard.RIGHT);
 	}
 	public void down() {
-		switch(map[state.index_y + 1][state.index_x]) {
-		case 'w':
-			break;
-		case 'g':
-			map[state.index_y][state.index_x] = 'g';
-			map[state.index_y + 1][state.index_x] = 'h';
-			state.index_y = state.index_y + 1;
-			state.moveCount = state.moveCount - 1;
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'b':
-			map[state.index_y][state.index_x] = 'g';
-			map[state.index_y + 1][state.index_x] = 'h';
-			state.index_y = state.index_y + 1;
-			state.moveCount = state.moveCount - 1;
-			gameWin();
-			break;
-		case 'm':
-			if(map[state.index_y + 2][state.index_x] == 'w') {
-				break;
-			}
-			else if(map[state.index_y + 2][state.index_x] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y + 1][state.index_x] = 'h';
-				map[state.index_y + 2][state.index_x] = 'n';
-				state.index_y = state.index_y + 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'n':
-			map[state.index_y][state.index_x] = 'g';
-			map[state.index_y + 1][state.index_x] = 'h';
-			state.index_y = state.index_y + 1;
-			state.moveCount = state.moveCount - 1;
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'p':
-			if(map[state.index_y + 2][state.index_x] == 'w') {
-				break;
-			}
-			else if(map[state.index_y + 2][state.index_x] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y + 1][state.index_x] = 'h';
-				map[state.index_y + 2][state.index_x] = 'p';
-				state.index_y = state.index_y + 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'd':
-			if(map[state.index_y + 2][state.index_x] == 'w') {
-				break;
-			}
-			else if(map[state.index_y + 2][state.index_x] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y + 1][state.index_x] = 'h';
-				map[state.index_y + 2][state.index_x] = 'd';
-				state.index_y = state.index_y + 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'c':
-			if(map[state.index_y + 2][state.index_x] == 'w') {
-				break;
-			}
-			else if(map[state.index_y + 2][state.index_x] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y + 1][state.index_x] = 'h';
-				map[state.index_y + 2][state.index_x] = 'c';
-				state.index_y = state.index_y + 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'l':
-			if(map[state.index_y + 2][state.index_x] == 'w') {
-				break;
-			}
-			else if(map[state.index_y + 2][state.index_x] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y + 1][state.index_x] = 'h';
-				map[state.index_y + 2][state.index_x] = 'l';
-				state.index_y = state.index_y + 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		}
+		move(NightBoard.DOWN);
 	}
 	public void up() {
-		switch(map[state.index_y - 1][state.index_x]) {
-		case 'w':
-			break;
-		case 'g':
-			map[state.index_y][state.index_x] = 'g';
-			map[state.index_y - 1][state.index_x] = 'h';
-			state.index_y = state.index_y - 1;
-			state.moveCount = state.moveCount - 1;
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'b':
-			map[state.index_y][state.index_x] = 'g';
-			map[state.index_y - 1][state.index_x] = 'h';
-			state.index_y = state.index_y - 1;
-			state.moveCount = state.moveCount - 1;
+		move(NightBoard.UP);
+	}
+	
+	// 네 방향 공통: 판 규칙은 NightBoard/NightTile 표가 처리하고, 여기서는 걸음 수/승패만 반영
+	private void move(int dir) {
+		int to = board.neighbor(board.playerCell(), dir);
+		byte entered = (to >= 0) ? board.cell(to) : NightTile.WALL;
+		
+		int result = board.move(dir);
+		if (result == NightBoard.BLOCKED) return;
+		hintCell = -1;
+		log.push(NightMoveLog.encode(dir, result == NightBoard.PUSHED, entered));
+		afterMove(result);
+	}
+	
+	private void afterMove(int result) {
+		state.index_x = board.playerX();
+		state.index_y = board.playerY();
+		state.moveCount = state.moveCount - 1;
+		
+		if (result == NightBoard.GOAL) {
 			gameWin();
-			break;
-		case 'm':
-			if(map[state.index_y - 2][state.index_x] == 'w') {
-				break;
-			}
-			else if(map[state.index_y - 2][state.index_x] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y - 1][state.index_x] = 'h';
-				map[state.index_y - 2][state.index_x] = 'n';
-				state.index_y = state.index_y - 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'n':
-			map[state.index_y][state.index_x] = 'g';
-			map[state.index_y - 1][state.index_x] = 'h';
-			state.index_y = state.index_y - 1;
-			state.moveCount = state.moveCount - 1;
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'p':
-			if(map[state.index_y - 2][state.index_x] == 'w') {
-				break;
-			}
-			else if(map[state.index_y - 2][state.index_x] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y - 1][state.index_x] = 'h';
-				map[state.index_y - 2][state.index_x] = 'p';
-				state.index_y = state.index_y - 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'd':
-			if(map[state.index_y - 2][state.index_x] == 'w') {
-				break;
-			}
-			else if(map[state.index_y - 2][state.index_x] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y - 1][state.index_x] = 'h';
-				map[state.index_y - 2][state.index_x] = 'd';
-				state.index_y = state.index_y - 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'c':
-			if(map[state.index_y - 2][state.index_x] == 'w') {
-				break;
-			}
-			else if(map[state.index_y - 2][state.index_x] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y - 1][state.index_x] = 'h';
-				map[state.index_y - 2][state.index_x] = 'c';
-				state.index_y = state.index_y - 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
-		case 'l':
-			if(map[state.index_y - 2][state.index_x] == 'w') {
-				break;
-			}
-			else if(map[state.index_y - 2][state.index_x] == 'g') {
-				map[state.index_y][state.index_x] = 'g';
-				map[state.index_y - 1][state.index_x] = 'h';
-				map[state.index_y - 2][state.index_x] = 'l';
-				state.index_y = state.index_y - 1;
-				state.moveCount = state.moveCount - 1;
-			}
-			if(state.moveCount == 0) {
-				gameOver();
-			}
-			break;
+		}
+		else if (state.moveCount == 0) {
+			gameOver();
+		}
+	}
+	
+	// 한 걸음 되돌리기(걸음 수도 돌려줌)
+	public void undo() {
+		if (!log.canUndo()) return;
+		byte d = log.undo();
+		board.unmove(NightMoveLog.dir(d), NightMoveLog.pushed(d), NightMoveLog.enteredTile(d));
+		state.moveCount = state.moveCount + 1;
+		syncPlayer();
+	}
+	
+	public void redo() {
+		if (!log.canRedo()) return;
+		hintCell = -1;
+		afterMove(board.move(NightMoveLog.dir(log.redo())));
+	}
+	
+	// steps 걸음 전으로(기록에 남아 있는 만큼만)
+	public void rewind(int steps) {
+		for (int i = 0; i < steps && log.canUndo(); i++) undo();
+	}
+	
+	/**
+	 * 방 처음으로(하트는 그대로)
+	 * - 기록이 처음부터 남아 있으면 걸음만 되감음(판 복사 없음)
+	 */
+	public void reset() {
+		hintCell = -1;
+		if (log.reachesStart()) {
+			rewind(log.size());
+		} else {
+			int hearts = state.heartCount;
+			loadMap();
+			state.heartCount = hearts;
 		}
 	}
 	
+	private void syncPlayer() {
+		hintCell = -1;
+		state.index_x = board.playerX();
+		state.index_y = board.playerY();
+	}
+	
+	// 걸음을 다 써버림 → 방 처음으로 + 하트 반 칸 잃음(예전처럼 반 칸 밑으로는 안 내려감)
 	public void gameOver() {
-		loadMap();
-		state=loadstate;
-		state.heartCount = 1;
+		reset();
+		log.clearRedo();
+		state.heartCount = Math.max(1, state.heartCount - 1);
 	}
 	public void gameWin() {
 		
 	}
+	
+	public void setOnChange(Runnable onChange) {
+		this.onChange = (onChange != null) ? onChange : () -> {};
+	}
 
 	@Override
 	public void keyTyped(KeyEvent e) {
@@ -577,8 +257,18 @@ public class NightObject implements KeyListener {
 
 	@Override
 	public void keyReleased(KeyEvent e) {
-		// TODO Auto-generated method stub
-		switch(e.getKeyCode()) {
+		if (InputLog.isReplaying()) return; // 재생 중엔 NightScreen이 기록된 키를 넣음
+		InputLog.record("night", inputSeq++, e.getKeyCode());
+		handleKey(e.getKeyCode());
+	}
+	
+	// 키 하나 반영(실제 입력/재생 공통)
+	public void handleKey(int keyCode) {
+		// 움직였을 때만 다시 그리도록 전/후 상태 비교
+		int beforeX = state.index_x, beforeY = state.index_y;
+		int beforeMoves = state.moveCount, beforeHearts = state.heartCount;
+		
+		switch(keyCode) {
 		case KeyEvent.VK_LEFT:
 			left();
 			break;
@@ -592,7 +282,24 @@ public class NightObject implements KeyListener {
 			down();
 			break;
 		case KeyEvent.VK_R:
-			gameOver();
+			reset();
+			onChange.run();
+			return;
+		case KeyEvent.VK_Z:
+			undo();
+			break;
+		case KeyEvent.VK_Y:
+			redo();
+			break;
+		case KeyEvent.VK_H:
+			hint();
+			onChange.run();
+			return;
+		}
+		
+		if (state.index_x != beforeX || state.index_y != beforeY
+				|| state.moveCount != beforeMoves || state.heartCount != beforeHearts) {
+			onChange.run();
 		}
 	}
 }
@@ -6,52 +6,125 @@ import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
-import java.util.Timer;
-import java.util.TimerTask;
 
-import javax.swing.ImageIcon;
+import game.core.InputLog;
+import game.core.Scene;
+import game.core.SceneManager;
 
-public class NightScreen extends Canvas implements ComponentListener {	
+// 판이 바뀔 때(키 입력)만 다시 그림. 애니메이션용 시계는 SceneManager 루프에서 ANIM_HZ로만 돎
+public class NightScreen extends Canvas implements ComponentListener, Scene {
+	// 애니메이션 시계 상한(효과가 생겨도 초당 이 이상 다시 그리지 않음)
+	private static final int ANIM_HZ = 30;
+	// 재생 중 키 하나 넣는 간격
+	private static final int REPLAY_DELAY_MS = 250;
+	
 	private Graphics bg;
 	private Image offScreen;
 	private Dimension dim;
-	private NightObject object = new NightObject();
+	private final NightObject object;
 	private int countNumber = 0;
 	
+	// 다음 render 때 repaint 필요한지(키 입력 스레드=EDT, 루프 스레드 둘 다 건드림)
+	private volatile boolean dirty = true;
+	private volatile boolean animating = false;
+	
 	public NightScreen() {
+		this(new NightMap());
+	}
+	
+	public NightScreen(NightMap level) {
+		object = new NightObject(level);
 		addComponentListener(this);
 		addKeyListener(object);
 		setFocusable(true);
-		Timer timer = new Timer();
-		timer.schedule(new TimerTask() {
-
-			@Override
-			public void run() {
-				// TODO Auto-generated method stub
-				repaint();
-				counting();
-			}			
-		}, 0, 1);
+		object.setOnChange(this::requestRepaint);
+	}
+	
+	@Override
+	public void addNotify() {
+		super.addNotify();
+		SceneManager sm = SceneManager.shared();
+		sm.setScene(this);
+		sm.start();
 		
+		if (InputLog.isReplaying()) replayNext();
+	}
+	
+	// 기록된 키를 하나씩(밤 장면이 끝나면 SceneManager가 남은 예약을 같이 취소)
+	private void replayNext() {
+		SceneManager.shared().after(REPLAY_DELAY_MS, () -> {
+			int key = InputLog.next("night");
+			if (key == InputLog.NONE) return;
+			object.handleKey(key);
+			replayNext();
+		});
+	}
+	
+	@Override
+	public void removeNotify() {
+		SceneManager.shared().clearScene(this);
+		super.removeNotify();
+	}
+	
+	// 판이 바뀌었을 때 호출 → 표시만 해 두고, 다음 루프 틱의 render()가 한 번만 repaint
+	public void requestRepaint() {
+		dirty = true;
+	}
+	
+	// 효과가 도는 동안만 켜두면 ANIM_HZ로 다시 그림
+	public void setAnimating(boolean animating) {
+		this.animating = animating;
 	}
 	
 	public void counting() {
 		this.countNumber++;
 	}
 	
+	// 애니메이션 시계 틱 수(ANIM_HZ 기준)
 	public int getCount() {
 		return this.countNumber;
 	}
 	
+	// ===== Scene (SceneManager 루프 스레드) =====
+	@Override
+	public void init() {
+	}
+	
+	@Override
+	public void handleInput() {
+		// 키 입력은 NightObject(KeyListener)가 EDT에서 바로 처리
+	}
+	
+	@Override
+	public long updateIntervalNs() {
+		return 1_000_000_000L / ANIM_HZ;
+	}
+	
+	@Override
+	public void update() {
+		counting();
+		if (animating) dirty = true;
+	}
+	
+	@Override
+	public void render() {
+		if (!dirty) return;
+		dirty = false;
+		repaint();
+	}
+	
 	private void initBuffer() {
 		this.dim = getSize();
+		if (dim.width <= 0 || dim.height <= 0) return;
 		this.offScreen = createImage(dim.width, dim.height);
 		this.bg = this.offScreen.getGraphics();
 	}
 
 	@Override
 	public void paint(Graphics g) {
-		// TODO Auto-generated method stub
+		if (bg == null) initBuffer();
+		if (bg == null) return;
+		
 		bg.clearRect(0, 0, dim.width, dim.height);
 		object.draw(bg, this);
 		g.drawImage(offScreen, 0, 0, this);
@@ -68,6 +141,7 @@ public class NightScreen extends Canvas implements ComponentListener {
 	public void componentResized(ComponentEvent e) {
 		// TODO Auto-generated method stub
 		initBuffer();
+		requestRepaint();
 	}
 
 	@Override
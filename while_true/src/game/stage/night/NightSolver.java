@@ -0,0 +1,479 @@
+package game.stage.night;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 밤 스테이지 풀이기
+ * - NightBoard.move()/unmove()를 그대로 써서 A* 탐색(규칙은 한 곳에만 있음)
+ * - 상태 = 플레이어 칸 + 물건 목록(칸, 모양). 노드마다 판을 복사하지 않고 작업 판 하나에 올렸다 내리며 펼침
+ * - 물건이 안 바뀐 걸음은 부모의 물건 목록을 그대로 같이 씀. Zobrist 해시로 전치표에 기록
+ * - 노드는 번호별 배열에, 열린 목록은 (f, h) 버킷(걸음이 작은 정수라 힙 대신)
+ * - 휴리스틱: 벽만 고려한 침대까지 거리(물건은 무시하니까 과대평가 안 함)
+ * - 가지치기: 민 물건이 얼어붙으면(가로/세로 다 못 밂, 서로 기댄 물건끼리 포함) 벽으로 보고 침대 가는 길이 막혔으면 버림
+ *
+ * [한줄 요약]
+ * - solve(board, 남은 걸음) → 최소 걸음 수와 방향 목록. 레벨 검증/힌트 키에서 씀.
+ */
+public final class NightSolver {
+
+	private static final int INF = Integer.MAX_VALUE;
+
+	/** 탐색 노드 상한(이 이상이면 포기하고 "모름"으로 반환) */
+	public static final int DEFAULT_MAX_NODES = 2_000_000;
+
+	// 얼음 검사에서 옆 물건을 따라가는 깊이(더 깊으면 안 얼었다고 봄: 덜 자를 뿐 틀리게 자르진 않음)
+	private static final int FREEZE_DEPTH = 2;
+
+	// 타일 → Zobrist 종류 번호(0은 해시에 안 넣음: 바닥/벽/침대처럼 안 바뀌는 것)
+	private static final byte[] KIND = new byte[128];
+	private static final int KINDS = 8;
+
+	static {
+		KIND[NightTile.HUMAN] = 1;
+		KIND[NightTile.MONSTER] = 2;
+		KIND[NightTile.MONSTER_DOWN] = 3;
+		KIND[NightTile.PHONE] = 4;
+		KIND[NightTile.DESK] = 5;
+		KIND[NightTile.CHAIR] = 6;
+		KIND[NightTile.LED] = 7;
+	}
+
+	private NightSolver() {}
+
+	/** 풀이 결과 */
+	public static final class Solution {
+		/** true면 path가 최소 걸음 풀이 */
+		public final boolean solved;
+		/** false면 탐색 상한에 걸려서 풀 수 있는지 모름 */
+		public final boolean exhausted;
+		/** NightBoard.LEFT/RIGHT/UP/DOWN 순서 */
+		public final int[] path;
+		public final int explored;
+
+		Solution(boolean solved, boolean exhausted, int[] path, int explored) {
+			this.solved = solved;
+			this.exhausted = exhausted;
+			this.path = path;
+			this.explored = explored;
+		}
+
+		public int moves() {
+			return solved ? path.length : -1;
+		}
+
+		/** 첫 걸음(힌트용). 풀이 없으면 -1 */
+		public int firstMove() {
+			return (solved && path.length > 0) ? path[0] : -1;
+		}
+	}
+
+	public static Solution solve(NightBoard start, int maxMoves) {
+		return solve(start, maxMoves, DEFAULT_MAX_NODES);
+	}
+
+	/**
+	 * @param maxMoves 걸음 수 한도(0 이하면 무제한)
+	 * @param maxNodes 확장할 노드 수 상한
+	 */
+	public static Solution solve(NightBoard start, int maxMoves, int maxNodes) {
+		int budget = (maxMoves > 0) ? maxMoves : INF;
+
+		int[] dist = distanceToBed(start);
+		long[] zobrist = zobrist(start.size());
+
+		int h0 = dist[start.playerCell()];
+		if (h0 == INF || h0 > budget) return new Solution(false, false, new int[0], 0);
+
+		// 처음부터 얼어붙은 물건이 침대 길을 막고 있으면 탐색할 것도 없음(BFS 버퍼는 한 번만 만들어 계속 씀)
+		int[] queue = new int[start.size()];
+		boolean[] reached = new boolean[start.size()];
+		NightBoard work = start.copy();
+		if (!bedReachable(work, queue, reached)) return new Solution(false, false, new int[0], 0);
+
+		// 작업 판: 물건/플레이어 자리를 바닥으로 비워 두고, 노드를 펼칠 때만 올림
+		int[] startObjs = objects(start);
+		for (int o : startObjs) work.set(o >>> 8, NightTile.FLOOR);
+		work.set(start.playerCell(), NightTile.FLOOR);
+
+		Nodes nodes = new Nodes();
+		// 버킷 번호 = f * span + h: f가 작은 것부터, 같은 f면 h가 작은(= 더 깊은) 쪽 먼저
+		int span = maxFinite(dist) + 1;
+		OpenList open = new OpenList();
+		TranspositionTable seen = new TranspositionTable(1 << 12);
+
+		long startHash = hash(start, zobrist);
+		open.push(h0 * span + h0, nodes.add(-1, 0, 0, start.playerCell(), startObjs, startHash));
+		seen.put(startHash, 0);
+
+		int expanded = 0;
+		for (int cur = open.pop(); cur >= 0; cur = open.pop()) {
+			int g = nodes.g[cur];
+			long hash = nodes.hash[cur];
+			if (seen.get(hash) < g) continue; // 더 짧은 길로 이미 옴
+
+			if (++expanded > maxNodes) return new Solution(false, true, new int[0], expanded);
+
+			int from = nodes.player[cur];
+			int[] curObjs = nodes.objs[cur];
+			for (int o : curObjs) work.set(o >>> 8, (byte) o);
+			work.set(from, NightTile.HUMAN);
+			work.setPlayer(from);
+
+			g++;
+			for (int dir = 0; dir < 4; dir++) {
+				int to = work.neighbor(from, dir);
+				if (to < 0) continue;
+
+				// 벽이면 move도 안 불러 봄(걷기/밀기 둘 다 아닌 칸)
+				byte entered = work.cell(to);
+				if (NightTile.flags(entered) == 0) continue;
+
+				int result = work.move(dir);
+				if (result == NightBoard.BLOCKED) continue;
+
+				if (result == NightBoard.GOAL) {
+					int id = nodes.add(cur, dir, g, to, curObjs, 0);
+					return new Solution(true, false, nodes.path(id), expanded);
+				}
+
+				boolean pushed = result == NightBoard.PUSHED;
+				int h = dist[to];
+				boolean keep = h != INF && g + h <= budget;
+
+				long hh = hash
+						^ z(zobrist, from, NightTile.HUMAN) ^ z(zobrist, from, NightTile.FLOOR)
+						^ z(zobrist, to, entered) ^ z(zobrist, to, NightTile.HUMAN);
+
+				// 들어간 칸에 물건이 있었으면(밀었거나 쓰러진 몬스터를 밟았거나) 목록만 새로 만듦
+				int[] objs = curObjs;
+				if (keep && KIND[entered & 0x7f] != 0) {
+					int k = indexOf(objs, to);
+					if (pushed) {
+						int beyond = to + work.offset(dir);
+						byte moved = work.cell(beyond);
+						hh ^= z(zobrist, beyond, NightTile.FLOOR) ^ z(zobrist, beyond, moved);
+
+						// 얼어붙은 물건은 벽이나 마찬가지 → 침대 가는 길이 막혔으면 가지치기
+						if (NightTile.is(moved, NightTile.PUSHABLE) && frozen(work, beyond)
+								&& !bedReachable(work, queue, reached)) {
+							keep = false;
+						}
+						objs = objs.clone();
+						objs[k] = (beyond << 8) | (moved & 0xff);
+					} else {
+						objs = remove(objs, k);
+					}
+				}
+
+				work.unmove(dir, pushed, entered);
+				if (!keep) continue;
+
+				int prev = seen.get(hh);
+				if (prev <= g) continue;
+				seen.put(hh, g);
+
+				open.push((g + h) * span + h, nodes.add(cur, dir, g, to, objs, hh));
+			}
+
+			for (int o : curObjs) work.set(o >>> 8, NightTile.FLOOR);
+			work.set(from, NightTile.FLOOR);
+		}
+
+		return new Solution(false, false, new int[0], expanded);
+	}
+
+	// ===================== 내부 =====================
+
+	/** 노드 기록: 번호별 배열(노드마다 객체를 안 만듦). 부모 번호 + 들어온 방향으로 경로 복원 */
+	private static final class Nodes {
+		int[] parent = new int[1024];
+		byte[] via = new byte[1024];
+		int[] g = new int[1024];
+		int[] player = new int[1024];
+		int[][] objs = new int[1024][]; // (칸 << 8) | 타일. 자식끼리 같이 쓰니까 고치지 않음
+		long[] hash = new long[1024];
+		private int count;
+
+		int add(int parentId, int dir, int steps, int cell, int[] objects, long h) {
+			if (count == parent.length) {
+				int n = count * 2;
+				parent = Arrays.copyOf(parent, n);
+				via = Arrays.copyOf(via, n);
+				g = Arrays.copyOf(g, n);
+				player = Arrays.copyOf(player, n);
+				objs = Arrays.copyOf(objs, n);
+				hash = Arrays.copyOf(hash, n);
+			}
+			parent[count] = parentId;
+			via[count] = (byte) dir;
+			g[count] = steps;
+			player[count] = cell;
+			objs[count] = objects;
+			hash[count] = h;
+			return count++;
+		}
+
+		int[] path(int id) {
+			int len = 0;
+			for (int i = id; parent[i] >= 0; i = parent[i]) len++;
+
+			int[] out = new int[len];
+			for (int i = id, k = len - 1; parent[i] >= 0; i = parent[i], k--) {
+				out[k] = via[i];
+			}
+			return out;
+		}
+	}
+
+	/**
+	 * 열린 목록: 버킷 번호별 스택(번호가 작은 버킷부터, 같은 버킷 안에서는 나중에 넣은 것 먼저)
+	 * - 번호는 작은 정수라 힙 대신 배열 인덱스로. 지금 위치보다 작은 번호가 들어오면 거기로 돌아감
+	 */
+	private static final class OpenList {
+		private int[][] buckets = new int[32][];
+		private int[] sizes = new int[32];
+		private int lo = Integer.MAX_VALUE;
+
+		void push(int key, int id) {
+			if (key >= buckets.length) {
+				int n = Math.max(key + 1, buckets.length * 2);
+				buckets = Arrays.copyOf(buckets, n);
+				sizes = Arrays.copyOf(sizes, n);
+			}
+			int[] b = buckets[key];
+			if (b == null) b = buckets[key] = new int[64];
+			else if (sizes[key] == b.length) b = buckets[key] = Arrays.copyOf(b, b.length * 2);
+			b[sizes[key]++] = id;
+			if (key < lo) lo = key;
+		}
+
+		/** 비었으면 -1 */
+		int pop() {
+			for (; lo < sizes.length; lo++) {
+				if (sizes[lo] > 0) return buckets[lo][--sizes[lo]];
+			}
+			return -1;
+		}
+	}
+
+	// 판에서 움직이거나 사라질 수 있는 물건(플레이어 제외)만 뽑음
+	private static int[] objects(NightBoard b) {
+		int n = 0;
+		int[] out = new int[b.size()];
+		for (int i = 0; i < b.size(); i++) {
+			byte t = b.cell(i);
+			if (KIND[t & 0x7f] != 0 && t != NightTile.HUMAN) out[n++] = (i << 8) | (t & 0xff);
+		}
+		return Arrays.copyOf(out, n);
+	}
+
+	private static int indexOf(int[] objs, int cell) {
+		for (int i = 0; i < objs.length; i++) {
+			if (objs[i] >>> 8 == cell) return i;
+		}
+		throw new IllegalStateException("물건 목록에 없는 칸: " + cell);
+	}
+
+	private static int[] remove(int[] objs, int k) {
+		int[] out = new int[objs.length - 1];
+		System.arraycopy(objs, 0, out, 0, k);
+		System.arraycopy(objs, k + 1, out, k, out.length - k);
+		return out;
+	}
+
+	private static long z(long[] zobrist, int cell, byte tile) {
+		int kind = KIND[tile & 0x7f];
+		return (kind == 0) ? 0 : zobrist[cell * KINDS + kind];
+	}
+
+	private static long hash(NightBoard b, long[] zobrist) {
+		long h = 0;
+		for (int i = 0; i < b.size(); i++) h ^= z(zobrist, i, b.cell(i));
+		return h;
+	}
+
+	// 같은 크기 판이면 같은 표(결과 재현 가능하도록 고정 시드)
+	private static long[] zobrist(int cells) {
+		SplittableRandom rnd = new SplittableRandom(0x6E696768745AL);
+		long[] z = new long[cells * KINDS];
+		for (int i = 0; i < z.length; i++) z[i] = rnd.nextLong();
+		return z;
+	}
+
+	// 침대에서 거꾸로 BFS. 벽만 막힌 것으로 봄
+	private static int[] distanceToBed(NightBoard b) {
+		int[] dist = new int[b.size()];
+		Arrays.fill(dist, INF);
+
+		ArrayDeque<Integer> q = new ArrayDeque<>();
+		for (int i = 0; i < b.size(); i++) {
+			if (b.cell(i) == NightTile.BED) {
+				dist[i] = 0;
+				q.add(i);
+			}
+		}
+
+		while (!q.isEmpty()) {
+			int c = q.poll();
+			for (int dir = 0; dir < 4; dir++) {
+				int nb = b.neighbor(c, dir);
+				if (nb < 0 || b.cell(nb) == NightTile.WALL || dist[nb] != INF) continue;
+				dist[nb] = dist[c] + 1;
+				q.add(nb);
+			}
+		}
+		return dist;
+	}
+
+	private static int maxFinite(int[] dist) {
+		int max = 0;
+		for (int d : dist) {
+			if (d != INF && d > max) max = d;
+		}
+		return max;
+	}
+
+	/**
+	 * 물건이 다시는 못 움직이는지(가로/세로 둘 다 막힘)
+	 * - 옆 물건도 얼었는지 다시 보는데, 그때 이 물건은 벽으로 둠(서로 기대면 둘 다 얼음)
+	 */
+	private static boolean frozen(NightBoard b, int cell) {
+		return frozen(b, cell, FREEZE_DEPTH);
+	}
+
+	private static boolean frozen(NightBoard b, int cell, int depth) {
+		byte t = b.cell(cell);
+		b.set(cell, NightTile.WALL);
+		boolean f = axisBlocked(b, cell, NightBoard.LEFT, NightBoard.RIGHT, depth)
+				&& axisBlocked(b, cell, NightBoard.UP, NightBoard.DOWN, depth);
+		b.set(cell, t);
+		return f;
+	}
+
+	/**
+	 * 이 축으로는 어느 쪽으로도 못 밂
+	 * - 한쪽이 영영 막혔으면 거기 설 수도, 그쪽으로 밀 수도 없음
+	 * - 양쪽 다 쓰러진 몬스터면 설 수는 있어도 밀려갈 바닥이 없음(물건은 바닥으로만 밀림)
+	 */
+	private static boolean axisBlocked(NightBoard b, int cell, int d1, int d2, int depth) {
+		int a = b.neighbor(cell, d1);
+		int c = b.neighbor(cell, d2);
+		if (fixed(b, a, depth) || fixed(b, c, depth)) return true;
+		return b.cell(a) == NightTile.MONSTER_DOWN && b.cell(c) == NightTile.MONSTER_DOWN;
+	}
+
+	// 영영 막힌 칸: 판 밖/벽/침대(올라서면 끝)/얼어붙은 물건
+	private static boolean fixed(NightBoard b, int cell, int depth) {
+		if (cell < 0) return true;
+		byte t = b.cell(cell);
+		if (t == NightTile.WALL || t == NightTile.BED) return true;
+		return depth > 0 && NightTile.is(t, NightTile.PUSHABLE) && frozen(b, cell, depth - 1);
+	}
+
+	// 벽 + 얼어붙은 물건만 막힌 것으로 보고 플레이어가 침대까지 갈 수 있는지
+	private static boolean bedReachable(NightBoard b, int[] queue, boolean[] seen) {
+		Arrays.fill(seen, false);
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = b.playerCell();
+		seen[b.playerCell()] = true;
+
+		while (head < tail) {
+			int c = queue[head++];
+			if (b.cell(c) == NightTile.BED) return true;
+
+			for (int dir = 0; dir < 4; dir++) {
+				int nb = b.neighbor(c, dir);
+				if (nb < 0 || seen[nb]) continue;
+
+				byte t = b.cell(nb);
+				if (t == NightTile.WALL) continue;
+				if (NightTile.is(t, NightTile.PUSHABLE) && frozen(b, nb)) continue;
+
+				seen[nb] = true;
+				queue[tail++] = nb;
+			}
+		}
+		return false;
+	}
+
+	/** 전치표: Zobrist 해시 → 그 상태에 도달한 최소 걸음(열린 주소법, 키 0 = 빈 칸) */
+	private static final class TranspositionTable {
+		private long[] keys;
+		private int[] values;
+		private int size;
+
+		TranspositionTable(int capacity) {
+			keys = new long[capacity];
+			values = new int[capacity];
+		}
+
+		int get(long key) {
+			key = nonZero(key);
+			int mask = keys.length - 1;
+			for (int i = mix(key) & mask; keys[i] != 0; i = (i + 1) & mask) {
+				if (keys[i] == key) return values[i];
+			}
+			return INF;
+		}
+
+		void put(long key, int value) {
+			if ((size + 1) * 2 > keys.length) grow();
+
+			key = nonZero(key);
+			int mask = keys.length - 1;
+			int i = mix(key) & mask;
+			while (keys[i] != 0 && keys[i] != key) i = (i + 1) & mask;
+
+			if (keys[i] == 0) {
+				keys[i] = key;
+				size++;
+			}
+			values[i] = value;
+		}
+
+		private void grow() {
+			long[] oldKeys = keys;
+			int[] oldValues = values;
+
+			keys = new long[oldKeys.length * 2];
+			values = new int[oldKeys.length * 2];
+			size = 0;
+
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != 0) put(oldKeys[i], oldValues[i]);
+			}
+		}
+
+		// 해시가 정말 0이 나오면 1로(빈 칸 표시와 안 겹치게)
+		private static long nonZero(long key) {
+			return (key == 0) ? 1 : key;
+		}
+
+		private static int mix(long key) {
+			return (int) (key ^ (key >>> 32));
+		}
+	}
+
+	// 레벨 검증: 기본 NightMap이 걸음 수 안에 풀리는지 확인(안 풀리면 종료 코드 1)
+	public static void main(String[] args) {
+		NightMap map = new NightMap();
+		long t0 = System.nanoTime();
+		Solution s = solve(NightBoard.from(map), map.movecount);
+		long ms = (System.nanoTime() - t0) / 1_000_000;
+
+		if (s.solved) {
+			System.out.println("[NightSolver] 최소 " + s.moves() + "걸음 / 한도 " + map.movecount
+					+ " (탐색 " + s.explored + "개, " + ms + "ms)");
+			StringBuilder sb = new StringBuilder();
+			for (int d : s.path) sb.append("LRUD".charAt(d));
+			System.out.println("[NightSolver] 경로: " + sb);
+		} else {
+			System.out.println("[NightSolver] " + (s.exhausted ? "탐색 상한 초과" : "풀 수 없음")
+					+ " (한도 " + map.movecount + ", 탐색 " + s.explored + "개)");
+			System.exit(1);
+		}
+	}
+}
@@ -7,4 +7,15 @@ public class NightState {
 	public int y = 0;
 	public int moveCount = 0;
 	public int heartCount = 2;
+	
+	public NightState copy() {
+		NightState s = new NightState();
+		s.index_x = index_x;
+		s.index_y = index_y;
+		s.x = x;
+		s.y = y;
+		s.moveCount = moveCount;
+		s.heartCount = heartCount;
+		return s;
+	}
 }
@@ -0,0 +1,54 @@
+package game.stage.night;
+
+// 밤 스테이지 타일 동작 표. 타일 문자(NightMap과 같은 'w','g',...)를 인덱스로 바로 찾음
+public final class NightTile {
+	public static final byte WALL = 'w';
+	public static final byte FLOOR = 'g';
+	public static final byte HUMAN = 'h';
+	public static final byte BED = 'b';
+	public static final byte MONSTER = 'm';
+	public static final byte MONSTER_DOWN = 'n'; // 밀어서 쓰러진 몬스터(밟고 지나갈 수 있음)
+	public static final byte PHONE = 'p';
+	public static final byte DESK = 'd';
+	public static final byte CHAIR = 'c';
+	public static final byte LED = 'l';
+	
+	// 동작 플래그
+	public static final int WALKABLE = 1;  // 그냥 걸어 들어갈 수 있음
+	public static final int PUSHABLE = 2;  // 뒤 칸이 바닥이면 밀 수 있음
+	public static final int GOAL = 4;      // 들어가면 클리어
+	
+	private static final byte[] FLAGS = new byte[128];
+	private static final byte[] PUSHED_AS = new byte[128]; // 밀린 뒤 놓이는 타일
+	
+	static {
+		FLAGS[FLOOR] = WALKABLE;
+		FLAGS[MONSTER_DOWN] = WALKABLE;
+		FLAGS[BED] = WALKABLE | GOAL;
+		
+		pushable(MONSTER, MONSTER_DOWN);
+		pushable(PHONE, PHONE);
+		pushable(DESK, DESK);
+		pushable(CHAIR, CHAIR);
+		pushable(LED, LED);
+	}
+	
+	private NightTile() {}
+	
+	private static void pushable(byte tile, byte pushedAs) {
+		FLAGS[tile] = PUSHABLE;
+		PUSHED_AS[tile] = pushedAs;
+	}
+	
+	public static int flags(byte tile) {
+		return FLAGS[tile & 0x7f];
+	}
+	
+	public static boolean is(byte tile, int flag) {
+		return (FLAGS[tile & 0x7f] & flag) != 0;
+	}
+	
+	public static byte pushedAs(byte tile) {
+		return PUSHED_AS[tile & 0x7f];
+	}
+}
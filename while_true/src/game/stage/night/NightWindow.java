@@ -1,13 +1,73 @@
 package game.stage.night;
 
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
 import javax.swing.JFrame;
 
+import game.core.GameRandom;
+import game.core.ResourceManager;
+
 public class NightWindow extends JFrame {
+	// 저녁 동안 preload 스레드에서 만들어 두는 다음 방(생성에 수십~백여 ms라 EDT에서 안 돌림)
+	private static FutureTask<NightMap> nextLevel;
+	
+	// 루프마다 새 방(판 시드에서 나온 밤 스트림 → 재생하면 같은 방). 생성 실패하면 기본 방
 	public NightWindow() {
+		this(takeLevel());
+	}
+	
+	public NightWindow(NightMap level) {
 		setTitle("밤 스테이지 - while true");
 		setSize(1200, 900);
-		add(new NightScreen());
+		add(new NightScreen(level));
+		addWindowListener(new WindowAdapter() {
+			@Override
+			public void windowClosed(WindowEvent e) {
+				ResourceManager.release(NightObject.SCENE);
+			}
+		});
 		setVisible(true);
 		setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 	}
+	
+	public static NightMap newLevel(long seed) {
+		NightMap generated = new NightLevelGenerator().generate(seed);
+		return (generated != null) ? generated : new NightMap();
+	}
+	
+	// 다음 방을 preload 스레드에서 만듦(NightObject.preloadAssets와 같이 부름). 새 판이면 이전 것은 버림
+	public static void preloadLevel() {
+		FutureTask<NightMap> task = levelTask();
+		synchronized (NightWindow.class) {
+			nextLevel = task;
+		}
+		ResourceManager.preload(task);
+	}
+	
+	// 미리 만든 방을 꺼냄. preload 스레드가 아직 안 잡았으면 여기서 바로 돌리고, 도는 중이면 끝날 때까지 기다림
+	private static NightMap takeLevel() {
+		FutureTask<NightMap> task;
+		synchronized (NightWindow.class) {
+			task = (nextLevel != null) ? nextLevel : levelTask();
+			nextLevel = null;
+		}
+		task.run(); // 이미 돌았거나 도는 중이면 아무것도 안 함
+		
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			System.out.println("[NightWindow] 방 생성 실패: " + e.getCause());
+		}
+		return new NightMap();
+	}
+	
+	private static FutureTask<NightMap> levelTask() {
+		long seed = GameRandom.stream("night").nextLong();
+		return new FutureTask<>(() -> newLevel(seed));
+	}
 }
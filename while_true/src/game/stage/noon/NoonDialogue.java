@@ -0,0 +1,470 @@
+package game.stage.noon;
+
+import game.core.GameOverReason;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NoonDialogue (점심 대화 그래프)
+ * - 노드 = 대화 한 번(화자 대사, 루프 힌트, 선택지 3개) 또는 엔딩(게임오버/클리어)
+ * - 선택지마다 스탯 변화와 다음 노드가 있음
+ * - 조건(스탯 <= 값 등)은 선택을 반영한 뒤 순서대로 검사해서, 맞으면 그 엔딩 노드로 감
+ * - Builder로 짠 그래프를 compile()에서 배열로 굳힘
+ *   - 문장은 표 하나(strings)에 모으고, 노드/선택지/조건은 전부 int 배열
+ *   - 선택지 효과는 int 하나에 스탯 4개(부호 있는 8비트씩), 조건도 int 하나(스탯 | 연산 | 값)
+ * - 진행 상태(현재 노드/스탯)는 NoonGameLogic이 들고, 여기는 읽기만 함
+ *
+ * [한줄 요약]
+ * - NoonDialogue.campus() 가 점심 스테이지 대화 전체. 대사/수치는 여기서만 고치면 됨.
+ */
+public final class NoonDialogue {
+
+    // 스탯 번호
+    public static final int HP = 0, MENTAL = 1, KNOWLEDGE = 2, SOCIAL = 3;
+    public static final int STATS = 4;
+    static final String[] STAT_NAMES = { "체력", "멘탈", "지식", "사교" };
+
+    /** 노드마다 선택지 수(버튼 3개) */
+    public static final int CHOICES = 3;
+
+    /** 다음 노드 없음 / 맞는 조건 없음 */
+    public static final int END = -1;
+
+    // 노드 종류
+    public static final int TALK = 0, GAME_OVER = 1, CLEAR = 2;
+
+    // 조건 연산
+    public static final int LE = 0, GE = 1;
+
+    // ===================== 굳힌 그래프 =====================
+
+    private final String[] strings;
+
+    // 노드별
+    private final int[] kind;
+    private final int[] npc;            // 초상화 번호(엔딩은 0)
+    private final int[] lineFrom;       // lines[lineFrom, lineTo) 가 그 노드 문장
+    private final int[] lineTo;
+    private final int[] hint;           // 힌트 문장 번호(없으면 END)
+    private final int[] reason;         // GameOverReason ordinal(엔딩 아니면 NONE)
+
+    private final int[] lines;          // strings 번호
+
+    // 노드 * CHOICES + 선택
+    private final int[] choiceLabel;
+    private final int[] choiceEffect;
+    private final int[] choiceNext;
+
+    // 조건 → 엔딩 노드
+    private final int[] ruleCond;
+    private final int[] ruleNode;
+
+    private final int start;
+    private final int talkCount;
+    private final int initialStats;     // 효과와 같은 방식으로 묶음
+    private final double hintChance;
+    private final int[] opening, closed, finished;
+
+    private NoonDialogue(Builder b) {
+        Map<String, Integer> pool = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        List<Integer> lineIds = new ArrayList<>();
+
+        int n = b.nodes.size();
+        kind = new int[n];
+        npc = new int[n];
+        lineFrom = new int[n];
+        lineTo = new int[n];
+        hint = new int[n];
+        reason = new int[n];
+        choiceLabel = new int[n * CHOICES];
+        choiceEffect = new int[n * CHOICES];
+        choiceNext = new int[n * CHOICES];
+
+        int talks = 0;
+        for (int i = 0; i < n; i++) {
+            Builder.Node src = b.nodes.get(i);
+            kind[i] = src.kind;
+            npc[i] = src.npc;
+            reason[i] = src.reason.ordinal();
+            hint[i] = (src.hint != null) ? intern(src.hint, pool, table) : END;
+
+            lineFrom[i] = lineIds.size();
+            for (String s : src.lines) lineIds.add(intern(s, pool, table));
+            lineTo[i] = lineIds.size();
+
+            if (src.kind == TALK) talks++;
+            for (int c = 0; c < CHOICES; c++) {
+                int at = i * CHOICES + c;
+                choiceLabel[at] = intern(src.labels[c], pool, table);
+                choiceEffect[at] = src.effects[c];
+                // 따로 안 정했으면 다음에 추가된 노드로(마지막 대화 다음은 클리어 노드)
+                choiceNext[at] = (src.kind != TALK) ? END
+                        : (src.next[c] != null) ? b.index(src.next[c]) : b.nextTalkOrClear(i);
+            }
+        }
+
+        ruleCond = new int[b.rules.size()];
+        ruleNode = new int[b.rules.size()];
+        for (int r = 0; r < ruleCond.length; r++) {
+            ruleCond[r] = b.rules.get(r)[0];
+            ruleNode[r] = b.rules.get(r)[1];
+        }
+
+        start = b.firstTalk();
+        talkCount = talks;
+        initialStats = b.initialStats;
+        hintChance = b.hintChance;
+        opening = internAll(b.opening, pool, table);
+        closed = internAll(b.closed, pool, table);
+        finished = internAll(b.finished, pool, table);
+
+        strings = table.toArray(new String[0]);
+        lines = lineIds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int intern(String s, Map<String, Integer> pool, List<String> table) {
+        return pool.computeIfAbsent(s, k -> {
+            table.add(k);
+            return table.size() - 1;
+        });
+    }
+
+    private static int[] internAll(List<String> src, Map<String, Integer> pool, List<String> table) {
+        int[] out = new int[src.size()];
+        for (int i = 0; i < out.length; i++) out[i] = intern(src.get(i), pool, table);
+        return out;
+    }
+
+    // ===================== 조회 =====================
+
+    public int start() { return start; }
+
+    /** 클리어까지 필요한 대화 수 */
+    public int talkCount() { return talkCount; }
+
+    public int kind(int node) { return kind[node]; }
+
+    public int npc(int node) { return npc[node]; }
+
+    public GameOverReason reason(int node) { return GameOverReason.values()[reason[node]]; }
+
+    public boolean hasHint(int node) { return hint[node] != END; }
+
+    public String hint(int node) { return hasHint(node) ? strings[hint[node]] : null; }
+
+    public double hintChance() { return hintChance; }
+
+    public String[] lines(int node) { return texts(lines, lineFrom[node], lineTo[node]); }
+
+    public String[] choiceLabels(int node) {
+        return texts(choiceLabel, node * CHOICES, node * CHOICES + CHOICES);
+    }
+
+    /** choice: 0 ~ CHOICES-1 */
+    public int effect(int node, int choice, int stat) {
+        return unpack(choiceEffect[node * CHOICES + choice], stat);
+    }
+
+    public int next(int node, int choice) { return choiceNext[node * CHOICES + choice]; }
+
+    public int initialStat(int stat) { return unpack(initialStats, stat); }
+
+    /** 조건을 순서대로 검사해서 처음 맞는 엔딩 노드(없으면 END) */
+    public int ending(int[] stats) {
+        for (int r = 0; r < ruleCond.length; r++) {
+            if (holds(ruleCond[r], stats)) return ruleNode[r];
+        }
+        return END;
+    }
+
+    /** 게임 시작 안내 */
+    public String[] opening() { return texts(opening, 0, opening.length); }
+
+    /** 게임오버 뒤에 또 눌렀을 때 */
+    public String[] closed() { return texts(closed, 0, closed.length); }
+
+    /** 클리어 뒤에 또 눌렀을 때 */
+    public String[] finished() { return texts(finished, 0, finished.length); }
+
+    private String[] texts(int[] ids, int from, int to) {
+        String[] out = new String[to - from];
+        for (int i = from; i < to; i++) out[i - from] = strings[ids[i]];
+        return out;
+    }
+
+    // ===================== 묶기 =====================
+
+    // 스탯 4개 → int 하나(스탯마다 부호 있는 8비트)
+    static int pack(int[] v) {
+        int p = 0;
+        for (int s = 0; s < STATS; s++) p |= (v[s] & 0xff) << (8 * s);
+        return p;
+    }
+
+    static int unpack(int packed, int stat) {
+        return (byte) (packed >> (8 * stat));
+    }
+
+    // 조건: 스탯(4비트) | 연산(4비트) | 값(부호 있는 8비트)
+    static int cond(int stat, int op, int value) {
+        return stat | op << 4 | (value & 0xff) << 8;
+    }
+
+    private static boolean holds(int cond, int[] stats) {
+        int v = stats[cond & 0xf];
+        int target = (byte) (cond >> 8);
+        return ((cond >> 4) & 0xf) == LE ? v <= target : v >= target;
+    }
+
+    // ===================== 점심 스테이지 내용 =====================
+
+    public static NoonDialogue campus() {
+        Builder b = new Builder()
+                .stats(5, 5, 5, 0)
+                .hintChance(0.3)
+                .opening("=== 점심 스테이지: 캠퍼스 미연시 시작 ===",
+                        "주인공: 컴공과 2학년. 반복되는 하루 속에서 이미 루프를 자각하고 있다.",
+                        "NPC들의 작은 힌트들을 통해, 오늘 루프에서 틈을 찾고자 한다.")
+                .closed("[시스템] 이미 이 루프는 끝났습니다.")
+                .finished("=== 점심 스테이지는 이미 종료되었다 ===",
+                        "NPC들의 반복되는 말들이 머리를 스친다.",
+                        "이 점심 루프에서는 더 바꿀 수 있는 게 없는 것 같다.",
+                        "다음 루프에서는… 다른 시간대에서 실마리를 찾아야 한다.")
+                .labels("대화에 응한다", "적당히 넘긴다", "무시한다");
+
+        b.talk(1, "교수님", "과제 어디까지 진행됐습니까?")
+                .hint("표정이… 아까와 똑같이 느껴진다.")
+                .on(1, KNOWLEDGE, 2, MENTAL, -1)
+                .on(2, MENTAL, -1, SOCIAL, -1)
+                .on(3, KNOWLEDGE, -1, MENTAL, -2, SOCIAL, -2);
+        b.talk(2, "버스기사", "오늘 학교 가?")
+                .hint("이 버스, 몇 번째 타고 있는 거지…?")
+                .on(1, SOCIAL, 1)
+                .on(3, SOCIAL, -1, MENTAL, -1);
+        b.talk(3, "학교 친구", "코딩 어디까지 했냐?")
+                .hint("너… 계속 같은 질문을 하는 것 같은데?")
+                .on(1, SOCIAL, 1, MENTAL, -1)
+                .on(2, MENTAL, 1, SOCIAL, -1)
+                .on(3, MENTAL, -1, SOCIAL, -2);
+        b.talk(4, "선배", "이 방향 맞는 거야?")
+                .hint("아까도 여기서 길을 물어본 것 같았다.")
+                .on(1, KNOWLEDGE, 1, MENTAL, -1)
+                .on(2, MENTAL, 1, SOCIAL, -1)
+                .on(3, MENTAL, -2, SOCIAL, -2);
+        b.talk(5, "후배", "선배님 이 코드 좀…")
+                .hint("오늘도 같은 자리에서 기다리고 있었네.")
+                .on(1, SOCIAL, 1, MENTAL, -1)
+                .on(3, SOCIAL, -2, MENTAL, -1);
+        b.talk(6, "동아리 사람", "오늘 연습 가능?")
+                .hint("이 말, 오늘만 몇 번째지…?")
+                .on(1, SOCIAL, 1, HP, -1)
+                .on(2, MENTAL, 1, SOCIAL, -1)
+                .on(3, MENTAL, 1, SOCIAL, -1);
+        b.talk(7, "헬창", "하체 언제 할 거야?")
+                .hint("루틴만 반복하면… 시간 감각이 흐려지더라.")
+                .on(1, HP, 1)
+                .on(2, SOCIAL, -1)
+                .on(3, MENTAL, 1, SOCIAL, -1);
+        b.talk(8, "식당 주인", "밥 먹고 가!")
+                .hint("오늘 메뉴도… 똑같이 시키려나?")
+                .on(1, HP, 2, SOCIAL, 1)
+                .on(3, HP, -1, SOCIAL, -1, MENTAL, -1);
+        b.talk(9, "대학원생", "코딩은 사고의 문제입니다.")
+                .hint("방금 그 말… 전에 들은 적 있었는데.")
+                .on(1, KNOWLEDGE, 2, MENTAL, -2)
+                .on(2, MENTAL, 1)
+                .on(3, KNOWLEDGE, -1, MENTAL, -1, SOCIAL, -2);
+        b.talk(10, "스님", "하루를 되풀이하는 중생이여…",
+                        "너는 지금 몇 번째 시도인지 알고 있는가?",
+                        "나는… 전부 지켜보고 있다.")
+                .on(1, MENTAL, 2, KNOWLEDGE, 1)
+                .on(2, MENTAL, 1)
+                .on(3, MENTAL, 1);
+        b.talk(11, "과대표", "공지 좀 읽어줘.")
+                .hint("왜 자꾸 같은 말만 반복하는 걸까…?")
+                .on(1, KNOWLEDGE, 1, SOCIAL, 1, MENTAL, -1)
+                .on(2, MENTAL, 1, SOCIAL, -1)
+                .on(3, MENTAL, 1, SOCIAL, -2);
+        b.talk(12, "조교", "보고서 형식 다시 보세요.")
+                .hint("이 피드백… 계속 반복되는 느낌이다.")
+                .on(1, KNOWLEDGE, 1, MENTAL, -1)
+                .on(2, SOCIAL, -1)
+                .on(3, KNOWLEDGE, -1, MENTAL, -1, SOCIAL, -2);
+
+        // 선택마다 이 순서로 검사(여러 개가 동시에 0이 되면 앞쪽 엔딩)
+        b.endIf(HP, LE, 0, GameOverReason.HP_ZERO, "Game Over - 체력 0 (기절 엔딩)");
+        b.endIf(MENTAL, LE, 0, GameOverReason.MENTAL_ZERO, "Game Over - 멘탈 0 (침잠 엔딩)");
+        b.endIf(KNOWLEDGE, LE, 0, GameOverReason.KNOWLEDGE_ZERO, "Game Over - 지식 0 (학사경고 엔딩)");
+
+        b.clear("=== 점심 스테이지 종료 ===",
+                "오늘 점심도… 결국 같은 흐름으로 흘러갔다.",
+                "NPC들의 말 속에서 스쳐 지나간 ‘익숙함’과 ‘데자뷰’. ",
+                "주인공은 확신한다. 이건 단순한 기분 탓이 아니라…",
+                "분명히 루프다.",
+                "다음 루프에서는 다른 선택지를 찾아봐야 한다.");
+
+        return b.compile();
+    }
+
+    // ===================== Builder =====================
+
+    /**
+     * 그래프 짜기용(compile 전까지만 씀)
+     * - talk(...) 뒤에 hint/on/go를 이어 부르면 방금 추가한 대화 노드에 붙음
+     * - 다음 노드를 따로 안 정한 선택지는 그다음에 추가된 대화 노드로, 마지막 대화 다음은 clear 노드로 감
+     */
+    public static final class Builder {
+
+        private static final class Node {
+            final String key;
+            final int kind;
+            final int npc;
+            final List<String> lines = new ArrayList<>();
+            final String[] labels = new String[CHOICES];
+            final int[] effects = new int[CHOICES];
+            final String[] next = new String[CHOICES];
+            GameOverReason reason = GameOverReason.NONE;
+            String hint;
+
+            Node(String key, int kind, int npc) {
+                this.key = key;
+                this.kind = kind;
+                this.npc = npc;
+            }
+        }
+
+        private final List<Node> nodes = new ArrayList<>();
+        private final List<int[]> rules = new ArrayList<>();
+        private final List<String> opening = new ArrayList<>();
+        private final List<String> closed = new ArrayList<>();
+        private final List<String> finished = new ArrayList<>();
+        private final String[] labels = { "1", "2", "3" };
+        private int initialStats = 0;
+        private double hintChance = 0;
+        private Node last;
+
+        public Builder stats(int hp, int mental, int knowledge, int social) {
+            initialStats = pack(new int[] { hp, mental, knowledge, social });
+            return this;
+        }
+
+        public Builder hintChance(double chance) {
+            hintChance = chance;
+            return this;
+        }
+
+        public Builder opening(String... s) {
+            opening.addAll(List.of(s));
+            return this;
+        }
+
+        public Builder closed(String... s) {
+            closed.addAll(List.of(s));
+            return this;
+        }
+
+        public Builder finished(String... s) {
+            finished.addAll(List.of(s));
+            return this;
+        }
+
+        /** 이후에 추가하는 대화 노드의 선택지 문구 */
+        public Builder labels(String l1, String l2, String l3) {
+            labels[0] = l1;
+            labels[1] = l2;
+            labels[2] = l3;
+            return this;
+        }
+
+        /** 대화 노드. key는 "npc" + 번호(go로 가리킬 때 씀) */
+        public Builder talk(int npcNo, String speaker, String... says) {
+            Node n = add(new Node("npc" + npcNo, TALK, npcNo));
+            for (String s : says) n.lines.add(speaker + ": \"" + s + "\"");
+            System.arraycopy(labels, 0, n.labels, 0, CHOICES);
+            return this;
+        }
+
+        public Builder hint(String s) {
+            talking().hint = s;
+            return this;
+        }
+
+        /** choice(1~3)를 고르면 (스탯, 변화량) 쌍들만큼 바뀜 */
+        public Builder on(int choice, int... statDelta) {
+            if (statDelta.length % 2 != 0) throw new IllegalArgumentException("(스탯, 변화량) 쌍이어야 함");
+            int[] d = new int[STATS];
+            for (int i = 0; i < statDelta.length; i += 2) d[statDelta[i]] += statDelta[i + 1];
+            talking().effects[choice - 1] = pack(d);
+            return this;
+        }
+
+        /** choice(1~3)를 고르면 key 노드로(안 부르면 다음 노드) */
+        public Builder go(int choice, String key) {
+            talking().next[choice - 1] = key;
+            return this;
+        }
+
+        /** 선택 뒤 스탯이 조건에 맞으면 게임오버 노드로 */
+        public Builder endIf(int stat, int op, int value, GameOverReason why, String... says) {
+            Node n = add(new Node("gameover" + rules.size(), GAME_OVER, 0));
+            n.reason = why;
+            n.lines.addAll(List.of(says));
+            rules.add(new int[] { cond(stat, op, value), nodes.size() - 1 });
+            return this;
+        }
+
+        /** 모든 대화를 끝냈을 때 */
+        public Builder clear(String... says) {
+            Node n = add(new Node("clear", CLEAR, 0));
+            n.lines.addAll(List.of(says));
+            return this;
+        }
+
+        public NoonDialogue compile() {
+            if (firstTalk() == END) throw new IllegalStateException("대화 노드가 없음");
+            return new NoonDialogue(this);
+        }
+
+        private Node add(Node n) {
+            for (Node o : nodes) {
+                if (o.key.equals(n.key)) throw new IllegalArgumentException("노드 key 중복: " + n.key);
+            }
+            nodes.add(n);
+            if (n.kind == TALK) last = n;
+            return n;
+        }
+
+        private Node talking() {
+            if (last == null) throw new IllegalStateException("talk(...) 먼저");
+            return last;
+        }
+
+        private int index(String key) {
+            for (int i = 0; i < nodes.size(); i++) {
+                if (nodes.get(i).key.equals(key)) return i;
+            }
+            throw new IllegalArgumentException("없는 노드: " + key);
+        }
+
+        private int firstTalk() {
+            for (int i = 0; i < nodes.size(); i++) {
+                if (nodes.get(i).kind == TALK) return i;
+            }
+            return END;
+        }
+
+        private int nextTalkOrClear(int from) {
+            for (int i = from + 1; i < nodes.size(); i++) {
+                if (nodes.get(i).kind == TALK) return i;
+            }
+            for (int i = 0; i < nodes.size(); i++) {
+                if (nodes.get(i).kind == CLEAR) return i;
+            }
+            return END;
+        }
+    }
+}
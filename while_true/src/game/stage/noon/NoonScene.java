@@ -1,9 +1,10 @@
 package game.stage.noon;
 
+import game.core.GameRandom;
 import game.core.Scene;
 
-import java.util.Random;
 import java.util.Scanner;
+import java.util.SplittableRandom;
 
 /**
  * NoonScene 클래스
@@ -29,7 +30,7 @@ public class NoonScene implements Scene {
     private static final int BLACK_ZONE_THRESHOLD = -5;
 
     private final Scanner scanner = new Scanner(System.in);
-    private final Random random = new Random();
+    private final SplittableRandom random = GameRandom.stream("noon");
 
     @Override
     public void init() {
@@ -0,0 +1,175 @@
+package game.stage.noon;
+
+import game.core.GameOverReason;
+
+/**
+ * NoonTurn (점심 선택 한 번의 결과)
+ * - NoonGameLogic.start()/handleChoice()가 문자열 대신 이걸 돌려줌
+ * - 몇 회차 누구였는지, 스탯 변화/현재 스탯, 게임오버 이유, 다음 대화(Encounter)를 값으로 들고 있음
+ * - 화면에 찍을 문장은 dialogueText()/statusText()를 부를 때만 만듦(GUI가 문장을 다시 파싱할 일 없음)
+ */
+public final class NoonTurn {
+
+    public enum Kind {
+        START,       // 첫 대화
+        NEXT,        // 선택 반영 → 다음 대화
+        GAME_OVER,   // 선택 반영 → 스탯 조건에 걸림
+        CLEARED,     // 선택 반영 → 마지막 대화까지 끝
+        CLOSED       // 이미 끝난 루프에서 또 누름(아무것도 안 바뀜)
+    }
+
+    private final Kind kind;
+    private final int round;          // 결과가 나온 회차(START/CLOSED면 0)
+    private final int npc;            // 결과가 나온 NPC(START/CLOSED면 0)
+    private final int delta;          // 스탯 변화(NoonDialogue.pack 형식)
+    private final int[] stats;        // 반영 뒤 스탯
+    private final GameOverReason reason;
+    private final String[] message;   // 시작 안내 / 엔딩 / 종료 안내
+    private final Encounter next;     // 다음 대화(없으면 null)
+
+    NoonTurn(Kind kind, int round, int npc, int delta, int[] stats,
+             GameOverReason reason, String[] message, Encounter next) {
+        this.kind = kind;
+        this.round = round;
+        this.npc = npc;
+        this.delta = delta;
+        this.stats = stats.clone();
+        this.reason = reason;
+        this.message = message;
+        this.next = next;
+    }
+
+    public Kind kind() { return kind; }
+
+    public int round() { return round; }
+
+    public int npc() { return npc; }
+
+    /** NoonDialogue.HP/MENTAL/KNOWLEDGE/SOCIAL */
+    public int delta(int stat) { return NoonDialogue.unpack(delta, stat); }
+
+    public int stat(int stat) { return stats[stat]; }
+
+    /** 게임오버가 아니면 NONE */
+    public GameOverReason reason() { return reason; }
+
+    public Encounter next() { return next; }
+
+    /** 화면 가운데 NPC: 다음 대화가 있으면 그 NPC, 없으면 방금 결과가 나온 NPC(없으면 0) */
+    public int portraitNpc() {
+        return (next != null) ? next.npc : npc;
+    }
+
+    // ===================== 문장 =====================
+
+    /** 대사 영역에 찍을 전체 문장 */
+    public String dialogueText() {
+        StringBuilder sb = new StringBuilder();
+
+        switch (kind) {
+            case START -> {
+                for (String s : message) sb.append(s).append('\n');
+                sb.append('\n').append(next.text());
+            }
+            case CLOSED -> sb.append(String.join("\n", message));
+            default -> {
+                sb.append("---------- [대화 ").append(round).append("회차 결과] ----------\n");
+                appendStatus(sb);
+                if (kind == Kind.NEXT) {
+                    sb.append("\n---------- [대화 ").append(next.round).append("회차] ----------\n");
+                    sb.append(next.text());
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 왼쪽 상태 영역 문장(변화 로그 + 현재 상태 + 엔딩). 이미 끝난 루프면 빈 문자열 */
+    public String statusText() {
+        StringBuilder sb = new StringBuilder();
+        switch (kind) {
+            case START -> {
+                // 시작 화면은 예전 GUI 문구 그대로("체력 5", 콜론 없음)
+                sb.append("현재 상태 →");
+                for (int s = 0; s < NoonDialogue.STATS; s++) {
+                    sb.append(s == 0 ? " " : " / ").append(NoonDialogue.STAT_NAMES[s]).append(' ').append(stats[s]);
+                }
+            }
+            case CLOSED -> { }
+            default -> {
+                appendStatus(sb);
+                if (kind == Kind.NEXT) sb.append('\n'); // 다음 회차 구분선 앞 빈 줄까지
+            }
+        }
+        return sb.toString();
+    }
+
+    private void appendStatus(StringBuilder sb) {
+        sb.append("[변화 로그]");
+        for (int s = 0; s < NoonDialogue.STATS; s++) {
+            sb.append(s == 0 ? " " : " / ").append(NoonDialogue.STAT_NAMES[s]).append(' ').append(sign(delta(s)));
+        }
+        sb.append("\n\n");
+        appendStats(sb);
+        sb.append('\n');
+
+        if (kind == Kind.GAME_OVER) {
+            sb.append('\n').append(String.join("\n", message)).append('\n');
+        } else if (kind == Kind.CLEARED) {
+            sb.append('\n').append(String.join("\n", message));
+        }
+    }
+
+    private void appendStats(StringBuilder sb) {
+        sb.append("현재 상태 →");
+        for (int s = 0; s < NoonDialogue.STATS; s++) {
+            sb.append(s == 0 ? " " : " / ").append(NoonDialogue.STAT_NAMES[s]).append(": ").append(stats[s]);
+        }
+    }
+
+    private static String sign(int v) {
+        if (v > 0) return "+" + v;
+        if (v < 0) return String.valueOf(v);
+        return "0";
+    }
+
+    // ===================== 다음 대화 =====================
+
+    /** 대화 한 번: 회차, NPC, 대사, (나왔으면) 루프 힌트, 선택지 문구 */
+    public static final class Encounter {
+
+        private final int round;
+        private final int npc;
+        private final String[] lines;
+        private final String hint;
+        private final String[] choices;
+
+        Encounter(int round, int npc, String[] lines, String hint, String[] choices) {
+            this.round = round;
+            this.npc = npc;
+            this.lines = lines;
+            this.hint = hint;
+            this.choices = choices;
+        }
+
+        public int round() { return round; }
+
+        public int npc() { return npc; }
+
+        /** 이번에 힌트가 안 나왔으면 null */
+        public String hint() { return hint; }
+
+        String text() {
+            StringBuilder sb = new StringBuilder();
+            for (String s : lines) sb.append(s).append('\n');
+            if (hint != null) sb.append("   (").append(hint).append(")\n");
+
+            sb.append('\n');
+            for (int c = 0; c < choices.length; c++) {
+                if (c > 0) sb.append("   ");
+                sb.append(c + 1).append(") ").append(choices[c]);
+            }
+            return sb.append('\n').toString();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package game.ui;
 
+import game.core.ResourceManager;
+
 import javax.swing.*;
 import java.awt.*;
 import java.util.Objects;
@@ -10,12 +12,13 @@ public class AmmoHud extends JPanel {
 
     private static final int ICON_SIZE = 32;
 
-    public AmmoHud(String blankPath, String livePath) {
+    // scene: 아이콘을 잡아둘 씬 이름(창 닫힐 때 ResourceManager.release)
+    public AmmoHud(String scene, String blankPath, String livePath) {
         setOpaque(false);
         setLayout(new FlowLayout(FlowLayout.RIGHT, 8, 6));
 
-        JLabel blankImg = new JLabel(scaledIcon(blankPath, ICON_SIZE, ICON_SIZE));
-        JLabel liveImg  = new JLabel(scaledIcon(livePath,  ICON_SIZE, ICON_SIZE));
+        JLabel blankImg = new JLabel(scaledIcon(scene, blankPath, ICON_SIZE, ICON_SIZE));
+        JLabel liveImg  = new JLabel(scaledIcon(scene, livePath,  ICON_SIZE, ICON_SIZE));
 
         Font f = new Font("맑은 고딕", Font.BOLD, 18);
         blankText.setFont(f);
@@ -40,9 +43,12 @@ public class AmmoHud extends JPanel {
         repaint();
     }
 
-    private ImageIcon scaledIcon(String path, int w, int h) {
-        ImageIcon icon = new ImageIcon(Objects.requireNonNull(getClass().getResource(path), "리소스 못 찾음: " + path));
-        Image img = icon.getImage().getScaledInstance(w, h, Image.SCALE_FAST);
-        return new ImageIcon(img);
+    // 창 만들기 전에 백그라운드에서 같은 크기 아이콘을 미리 만들어 둠
+    public static void preload(String scene, String... paths) {
+        for (String p : paths) ResourceManager.scaled(scene, p, ICON_SIZE, ICON_SIZE, false);
+    }
+
+    private ImageIcon scaledIcon(String scene, String path, int w, int h) {
+        return Objects.requireNonNull(ResourceManager.icon(scene, path, w, h), "리소스 못 찾음: " + path);
     }
 }
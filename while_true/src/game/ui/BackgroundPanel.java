@@ -1,5 +1,7 @@
 package game.ui;
 
+import game.core.ResourceManager;
+
 import javax.swing.*;
 import java.awt.*;
 import java.util.Objects;
@@ -9,14 +11,14 @@ public class BackgroundPanel extends JPanel {
     private final Image bg;
     private final int reservedBottom; // 하단 UI 영역 높이
 
-    public BackgroundPanel(String resourcePath, int reservedBottom) {
+    public BackgroundPanel(String scene, String resourcePath, int reservedBottom) {
         this.reservedBottom = reservedBottom;
 
-        // ✅ src 아래 리소스를 classpath에서 읽기
-        bg = new ImageIcon(Objects.requireNonNull(
-                getClass().getResource(resourcePath),
+        // ✅ 공용 ResourceManager에서 읽기(classpath → 작업 디렉터리)
+        bg = Objects.requireNonNull(
+                ResourceManager.image(scene, resourcePath),
                 "배경 리소스를 못 찾음: " + resourcePath
-        )).getImage();
+        );
 
         setOpaque(true); // 배경은 그려져야 하니까 true 유지
     }
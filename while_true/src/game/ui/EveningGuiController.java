@@ -1,11 +1,16 @@
 package game.ui;
 
+import game.core.InputLog;
+import game.core.Scene;
+import game.core.SceneManager;
+import game.stage.evening.EveningEvent;
 import game.stage.evening.EveningGameLogic;
 
 import javax.swing.*;
 import javax.swing.SwingUtilities;
 
-public class EveningGuiController {
+// 저녁 스테이지는 버튼 이벤트로 진행되고, 연출 대기만 SceneManager 루프에 맡김
+public class EveningGuiController implements Scene {
 
     private final EveningGameLogic logic;
     private final EveningWindow window;
@@ -17,6 +22,16 @@ public class EveningGuiController {
     private int itemsUsedThisTurn = 0;
     private static final int MAX_ITEMS_PER_TURN = 2;
 
+    // 입력 기록/재생용 버튼 번호 + 순번
+    private static final int INPUT_SHOOT_ENEMY = 1;
+    private static final int INPUT_SHOOT_SELF = 2;
+    private static final int INPUT_PROCRASTINATE = 3;
+    private static final int INPUT_REST = 4;
+    private static final int INPUT_GPT = 5;
+    private static final int INPUT_RESTART = 6;
+    private static final int REPLAY_DELAY_MS = 600;
+    private int inputSeq = 0;
+
     // 기존 호출 호환용
     public EveningGuiController() {
         this(null);
@@ -27,29 +42,80 @@ public class EveningGuiController {
         this.onClear = (onClear != null) ? onClear : () -> {};
 
         this.logic = new EveningGameLogic();
+
+        // 창이 만들어지면서 예약하는 연출도 이 장면에 묶이도록 먼저 등록
+        SceneManager sm = SceneManager.shared();
+        sm.setScene(this);
+        sm.start();
+
         this.window = new EveningWindow(this, logic);
 
         startPlayerTurn();
-        window.appendLog("[SYSTEM] 저녁 스테이지 시작!");
+        log(EveningEvent.SYSTEM_START);
         window.refreshAll();
     }
 
     // ---------------- 플레이어 턴 시작 ----------------
     private void startPlayerTurn() {
         itemsUsedThisTurn = 0;
+        resumePlayerInput();
+    }
+
+    // 플레이어가 다시 누를 수 있는 시점(재생 중이면 기록된 다음 버튼을 누름)
+    private void resumePlayerInput() {
         window.setButtonsEnabled(true);
+        replayNext();
+    }
+
+    // ---------------- 입력 기록/재생 ----------------
+    // 버튼 → 기록 후 실행. 재생 중이면 실제 버튼은 무시
+    private boolean accept(int input) {
+        if (InputLog.isReplaying()) return false;
+        InputLog.record("evening", inputSeq++, input);
+        return true;
+    }
+
+    private void replayNext() {
+        if (!InputLog.isReplaying() || logic.isGameOver()) return;
+
+        after(REPLAY_DELAY_MS, () -> {
+            int input = InputLog.next("evening");
+            if (input == InputLog.NONE) return;
+            inputSeq++;
+
+            switch (input) {
+                case INPUT_SHOOT_ENEMY -> {
+                    window.playPlayerShotAnimation();
+                    shootEnemy();
+                }
+                case INPUT_SHOOT_SELF -> {
+                    window.playDemonShotAnimation();
+                    shootSelf();
+                }
+                case INPUT_PROCRASTINATE -> useItemWithLimit(logic::useProcrastinate, false);
+                case INPUT_REST -> useItemWithLimit(logic::useRest, false);
+                case INPUT_GPT -> useItemWithLimit(logic::useGpt, false);
+                case INPUT_RESTART -> useItemWithLimit(logic::useRestart, true);
+                default -> replayNext();
+            }
+        });
     }
 
     // ---------------- 발사 버튼 ----------------
     public void onShootEnemy() {
+        if (accept(INPUT_SHOOT_ENEMY)) shootEnemy();
+    }
+
+    public void onShootSelf() {
+        if (accept(INPUT_SHOOT_SELF)) shootSelf();
+    }
+
+    private void shootEnemy() {
         if (logic.isGameOver()) return;
 
         window.setButtonsEnabled(false);
 
-        StringBuilder log = new StringBuilder();
-        logic.shootEnemy(log);
-
-        window.appendLog("[플레이어] " + log);
+        logic.shootEnemy();
         window.refreshAll();
 
         if (logic.isGameOver()) {
@@ -60,15 +126,12 @@ public class EveningGuiController {
         maybeReloadThen(this::startDemonTurnSequence);
     }
 
-    public void onShootSelf() {
+    private void shootSelf() {
         if (logic.isGameOver()) return;
 
         window.setButtonsEnabled(false);
 
-        StringBuilder log = new StringBuilder();
-        EveningGameLogic.TurnResult result = logic.shootSelf(log);
-
-        window.appendLog("[플레이어] " + log);
+        EveningGameLogic.TurnResult result = logic.shootSelf();
         window.refreshAll();
 
         if (logic.isGameOver()) {
@@ -78,7 +141,7 @@ public class EveningGuiController {
 
         if (result == EveningGameLogic.TurnResult.TURN_CONTINUE) {
             // 내 턴 유지(아이템 사용 횟수도 유지)
-            maybeReloadThen(() -> window.setButtonsEnabled(true));
+            maybeReloadThen(this::resumePlayerInput);
         } else {
             // 턴 종료 -> 악마 턴
             maybeReloadThen(this::startDemonTurnSequence);
@@ -87,39 +150,37 @@ public class EveningGuiController {
 
     // ---------------- 아이템 버튼 ----------------
     public void onUseProcrastinate() {
-        useItemWithLimit((sb) -> logic.useProcrastinate(sb), false);
+        if (accept(INPUT_PROCRASTINATE)) useItemWithLimit(logic::useProcrastinate, false);
     }
 
     public void onUseRest() {
-        useItemWithLimit((sb) -> logic.useRest(sb), false);
+        if (accept(INPUT_REST)) useItemWithLimit(logic::useRest, false);
     }
 
     public void onUseGpt() {
-        useItemWithLimit((sb) -> logic.useGpt(sb), false);
+        if (accept(INPUT_GPT)) useItemWithLimit(logic::useGpt, false);
     }
 
     public void onUseRestart() {
         // 재장전는 "즉시 reload"는 로직이 처리, 연출(2초)만 컨트롤러에서
-        useItemWithLimit((sb) -> logic.useRestart(sb), true);
+        if (accept(INPUT_RESTART)) useItemWithLimit(logic::useRestart, true);
     }
 
     private interface ItemAction {
-        boolean run(StringBuilder sb);
+        boolean run();
     }
 
     private void useItemWithLimit(ItemAction action, boolean needsReloadAnim) {
         if (logic.isGameOver()) return;
 
         if (itemsUsedThisTurn >= MAX_ITEMS_PER_TURN) {
-            window.appendLog("[SYSTEM] 이번 턴에는 아이템을 더 사용할 수 없다. (최대 " + MAX_ITEMS_PER_TURN + "개)");
+            log(EveningEvent.SYSTEM_ITEM_LIMIT, MAX_ITEMS_PER_TURN, 0);
             window.refreshAll();
+            replayNext();
             return;
         }
 
-        StringBuilder sb = new StringBuilder();
-        boolean used = action.run(sb);
-
-        window.appendLog("[플레이어] " + sb);
+        boolean used = action.run();
         window.refreshAll();
 
         if (used) itemsUsedThisTurn++;
@@ -127,14 +188,16 @@ public class EveningGuiController {
         if (used && needsReloadAnim) {
             // 재장전 연출(턴 유지)
             window.setButtonsEnabled(false);
-            window.appendLog("[SYSTEM] 재장전 중입니다...");
+            log(EveningEvent.SYSTEM_RELOADING);
             window.refreshAll();
 
             after(2000, () -> {
-                window.appendLog("[SYSTEM] 장전 완료! (실탄 " + logic.getLiveCount() + " / 공포탄 " + logic.getBlankCount() + ")");
+                log(EveningEvent.SYSTEM_RELOADED, logic.getLiveCount(), logic.getBlankCount());
                 window.refreshAll();
-                window.setButtonsEnabled(true);
+                resumePlayerInput();
             });
+        } else {
+            replayNext();
         }
     }
 
@@ -147,24 +210,20 @@ public class EveningGuiController {
 
         // 과제미루기: 악마 턴 스킵
         if (logic.consumeDemonSkip()) {
-            window.appendLog("[과제 악마] ...이번 턴은 미뤄졌다. (턴 스킵)");
+            log(EveningEvent.DEMON_SKIP);
             window.refreshAll();
             startPlayerTurn();
             return;
         }
 
         // 1) 고민 2초
-        window.appendLog("[과제 악마] 누구에게 총을 겨눌지 고민합니다...");
+        log(EveningEvent.DEMON_THINK);
         window.refreshAll();
 
         after(2000, () -> {
             // 2) 겨누기 2초 (plan)
             EveningGameLogic.DemonTarget target = logic.planDemonTurn();
-            if (target == EveningGameLogic.DemonTarget.PLAYER) {
-                window.appendLog("[과제 악마] 당신에게 총구를 겨눴다...");
-            } else {
-                window.appendLog("[과제 악마] 자기 자신에게 총구를 겨눴다...");
-            }
+            log(EveningEvent.DEMON_AIM, target == EveningGameLogic.DemonTarget.PLAYER ? 1 : 0, 0);
             window.refreshAll();
 
             after(2000, () -> {
@@ -174,10 +233,7 @@ public class EveningGuiController {
 
                 // ✅ (2) 1초 뒤에 실제 데미지/로그 반영
                 after(1000, () -> {
-                    StringBuilder log = new StringBuilder();
-                    EveningGameLogic.TurnResult result = logic.executePlannedDemonTurn(log);
-
-                    window.appendLog("[과제 악마] " + log);
+                    EveningGameLogic.TurnResult result = logic.executePlannedDemonTurn();
                     window.refreshAll();
 
                     if (logic.isGameOver()) {
@@ -205,22 +261,38 @@ public class EveningGuiController {
         }
 
         window.setButtonsEnabled(false);
-        window.appendLog("[SYSTEM] 재장전 중입니다...");
+        log(EveningEvent.SYSTEM_RELOADING);
         window.refreshAll();
 
         after(2000, () -> {
             logic.reload();
-            window.appendLog("[SYSTEM] 장전 완료! (실탄 " + logic.getLiveCount() + " / 공포탄 " + logic.getBlankCount() + ")");
+            log(EveningEvent.SYSTEM_RELOADED, logic.getLiveCount(), logic.getBlankCount());
             window.refreshAll();
             next.run();
         });
     }
 
+    // ---------------- Scene ----------------
+    // 그릴 것/매 프레임 갱신할 것은 없음(Swing 컴포넌트가 알아서 다시 그림)
+    @Override public void init() {}
+    @Override public void update() {}
+    @Override public void render() {}
+    @Override public void handleInput() {}
+
+    // ---------------- 로그 ----------------
+    // 문장 대신 이벤트만 쌓음(창의 로그 보기가 보이는 줄만 문장으로 만듦)
+    private void log(int kind) {
+        logic.events().push(kind);
+    }
+
+    private void log(int kind, int a, int b) {
+        logic.events().push(kind, a, b);
+    }
+
     // ---------------- Timer utils ----------------
+    // 공용 루프에 예약 → EDT에서 실행. 저녁 장면이 끝나면 남은 예약은 같이 취소됨
     private void after(int ms, Runnable action) {
-        Timer t = new Timer(ms, e -> action.run());
-        t.setRepeats(false);
-        t.start();
+        SceneManager.shared().after(ms, action);
     }
 
     private void showResult() {
@@ -240,6 +312,7 @@ public class EveningGuiController {
 
         // ✅ 승리(클리어) 시 → 밤 스테이지로 이동
         if (cleared) {
+            SceneManager.shared().clearScene(this);
             window.dispose();
             SwingUtilities.invokeLater(onClear);
         }
@@ -0,0 +1,208 @@
+package game.ui;
+
+import game.stage.evening.EveningEventLog;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * 저녁 로그 보기(JTextArea 대신)
+ * - EveningEventLog 링 버퍼를 그대로 보여줌. 글자를 Document에 계속 붙이지 않아서 오래 해도 안 커짐
+ * - 이벤트마다 줄바꿈 후 줄 수만 한 번 재서 기억(폭이 바뀌면 다시 잼)
+ * - 문장은 화면에 보이는 이벤트만 만들어서 그림
+ */
+class EveningLogView extends JComponent implements Scrollable {
+
+    private static final int PAD = 4;
+
+    private final EveningEventLog log;
+    private final int visibleRows;
+
+    // 링 버퍼 칸 → 그 이벤트의 줄 수. [measuredFrom, measuredTo) 이벤트만 유효
+    private final int[] rows;
+    private long measuredFrom;
+    private long measuredTo;
+    private int measuredWidth = -1;
+    private int totalRows;
+
+    EveningLogView(EveningEventLog log, int visibleRows) {
+        this.log = log;
+        this.visibleRows = visibleRows;
+        this.rows = new int[Math.max(1, log.capacity())];
+
+        setFont(UIManager.getFont("TextArea.font"));
+        setForeground(Color.BLACK);
+        setBackground(Color.WHITE);
+        setOpaque(true);
+    }
+
+    /** 이벤트가 쌓인 뒤 호출: 새 이벤트 줄 수만 재고, 맨 아래로 스크롤 */
+    void refresh() {
+        int before = totalRows;
+        measure();
+        if (totalRows != before) revalidate();
+        repaint();
+
+        SwingUtilities.invokeLater(() -> {
+            int h = getPreferredSize().height;
+            scrollRectToVisible(new Rectangle(0, h - 1, 1, 1));
+        });
+    }
+
+    // ===================== 줄 수 =====================
+
+    private void measure() {
+        long oldest = log.oldest();
+        long total = log.total();
+        int width = textWidth();
+
+        // 폭이 바뀌었거나 한 번에 버퍼보다 많이 쌓였으면 처음부터
+        if (width != measuredWidth || measuredTo < oldest || total < measuredTo) {
+            measuredWidth = width;
+            totalRows = 0;
+            measuredFrom = oldest;
+            measuredTo = oldest;
+        }
+
+        // 덮어써진 이벤트 빼기(rows 칸은 아직 옛 값)
+        while (measuredFrom < oldest) {
+            totalRows -= rows[slot(measuredFrom++)];
+        }
+
+        FontMetrics fm = getFontMetrics(getFont());
+        while (measuredTo < total) {
+            int r = lineCount(log.text(measuredTo), fm, width);
+            rows[slot(measuredTo++)] = r;
+            totalRows += r;
+        }
+    }
+
+    private int slot(long seq) {
+        return (int) (seq & (rows.length - 1));
+    }
+
+    private int textWidth() {
+        Container p = getParent();
+        int w = (p instanceof JViewport) ? p.getWidth() : getWidth();
+        return (w > 2 * PAD) ? w - 2 * PAD : Integer.MAX_VALUE;
+    }
+
+    private static int lineCount(String s, FontMetrics fm, int width) {
+        int n = 0;
+        int start = 0;
+        do {
+            start = skipSpaces(s, lineEnd(s, start, fm, width));
+            n++;
+        } while (start < s.length());
+        return n;
+    }
+
+    // start부터 width 안에 들어가는 끝 위치(가능하면 공백에서 끊음, 최소 한 글자)
+    private static int lineEnd(String s, int start, FontMetrics fm, int width) {
+        int x = 0;
+        int i = start;
+        int lastSpace = -1;
+
+        while (i < s.length()) {
+            int cp = s.codePointAt(i);
+            int next = i + Character.charCount(cp);
+            x += fm.charWidth(cp);
+            if (x > width && i > start) {
+                return (lastSpace > start) ? lastSpace : i;
+            }
+            if (cp == ' ') lastSpace = i;
+            i = next;
+        }
+        return s.length();
+    }
+
+    private static int skipSpaces(String s, int i) {
+        while (i < s.length() && s.charAt(i) == ' ') i++;
+        return i;
+    }
+
+    // ===================== 그리기 =====================
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (textWidth() != measuredWidth) {
+            measure();
+            revalidate();
+        }
+
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+
+        if (isOpaque()) {
+            g.setColor(getBackground());
+            g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        }
+
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont(getFont());
+        g.setColor(getForeground());
+
+        FontMetrics fm = g.getFontMetrics();
+        int lineH = fm.getHeight();
+        int y = PAD;
+
+        // 위쪽 안 보이는 이벤트는 줄 수만 더해서 건너뜀
+        for (long seq = measuredFrom; seq < measuredTo; seq++) {
+            int h = rows[slot(seq)] * lineH;
+            if (y + h >= clip.y) {
+                if (y > clip.y + clip.height) break;
+                drawEvent(g, log.text(seq), fm, y);
+            }
+            y += h;
+        }
+    }
+
+    private void drawEvent(Graphics g, String s, FontMetrics fm, int top) {
+        int y = top + fm.getAscent();
+        int start = 0;
+        do {
+            int end = lineEnd(s, start, fm, measuredWidth);
+            g.drawString(s.substring(start, end), PAD, y);
+            y += fm.getHeight();
+            start = skipSpaces(s, end);
+        } while (start < s.length());
+    }
+
+    // ===================== 크기 / Scrollable =====================
+
+    private int lineHeight() {
+        return getFontMetrics(getFont()).getHeight();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(100, totalRows * lineHeight() + 2 * PAD);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(100, visibleRows * lineHeight() + 2 * PAD);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return lineHeight();
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return (orientation == SwingConstants.VERTICAL) ? visibleRect.height : visibleRect.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        Container p = getParent();
+        return (p instanceof JViewport) && p.getHeight() > getPreferredSize().height;
+    }
+}
@@ -1,13 +1,33 @@
 package game.ui;
 
+import game.core.ResourceManager;
+import game.core.SceneManager;
 import game.stage.evening.EveningGameLogic;
 
 import javax.swing.*;
 import javax.swing.border.Border;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 public class EveningWindow extends JFrame {
 
+    // ResourceManager 씬 이름(창 닫히면 이미지 참조 해제)
+    private static final String SCENE = "evening";
+
+    private static final String BG = "/assets/images/evening/bg_evening.png";
+    private static final String HEART_FULL = "/assets/images/evening/heart_full.png";
+    private static final String HEART_EMPTY = "/assets/images/evening/heart_empty.png";
+    private static final String BULLET_BLANK = "/assets/images/evening/bullet_blank.png";
+    private static final String BULLET_LIVE = "/assets/images/evening/bullet_live.png";
+    private static final String DEMON_IDLE = "/assets/images/evening/demon_laptop_idle.png";
+    private static final String SHOTGUN_IDLE = "/assets/images/evening/shotgun_idle.png";
+    private static final String SHOTGUN_PLAYER_SHOT = "/assets/images/evening/player_shot_shotgun.png";
+    private static final String SHOTGUN_DEMON_SHOT = "/assets/images/evening/demon_shot_shotgun.png";
+
+    private static final int DEMON_W = 420, DEMON_H = 280;
+    private static final int GUN_W = 420, GUN_H = 240;
+
     private final EveningGameLogic logic;
     private final EveningGuiController controller;
 
@@ -25,7 +45,6 @@ public class EveningWindow extends JFrame {
     private ImageIcon shotgunDemonShotIcon;  // 악마가(또는 플레이어에게) 쏠 때
 
     // 격발 애니메이션 상태
-    private Timer shotgunAnimTimer;
     private boolean isShotgunAnimating = false;
 
     // ===== 우측 탄약 HUD =====
@@ -34,7 +53,7 @@ public class EveningWindow extends JFrame {
     // ===== 하단 플레이어 HUD =====
     private HeartBar playerHeartBar;
     private JLabel statsLabel;
-    private JTextArea logArea;
+    private EveningLogView logView;
 
     // 버튼
     private JButton shootEnemyBtn;
@@ -62,12 +81,19 @@ public class EveningWindow extends JFrame {
         setLocationRelativeTo(null);
 
         // 배경
-        setContentPane(new BackgroundPanel("/assets/images/evening/bg_evening.png", 240));
+        setContentPane(new BackgroundPanel(SCENE, BG, 240));
         getContentPane().setLayout(new BorderLayout());
 
         initComponents();
         refreshAll();
 
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                ResourceManager.release(SCENE);
+            }
+        });
+
         setVisible(true);
     }
 
@@ -82,9 +108,10 @@ public class EveningWindow extends JFrame {
         topPanel.setOpaque(false);
 
         demonHeartBar = new HeartBar(
+                SCENE,
                 DEMON_MAX_HP,
-                "/assets/images/evening/heart_full.png",
-                "/assets/images/evening/heart_empty.png"
+                HEART_FULL,
+                HEART_EMPTY
         );
 
         JPanel hpWrap = new JPanel(new FlowLayout(FlowLayout.CENTER, 0, 24));
@@ -102,11 +129,11 @@ public class EveningWindow extends JFrame {
         centerPanel.setBorder(BorderFactory.createEmptyBorder(-100, 0, 0, 0)); // 필요시 조절
 
         // 아이콘 로드 (✅ 총은 너가 말한 420x240 고정)
-        demonIdleIcon = loadScaledIcon("/assets/images/evening/demon_laptop_idle.png", 420, 280);
+        demonIdleIcon = loadScaledIcon(DEMON_IDLE, DEMON_W, DEMON_H);
 
-        shotgunIdleIcon = loadScaledIcon("/assets/images/evening/shotgun_idle.png", 420, 240);
-        shotgunPlayerShotIcon = loadScaledIcon("/assets/images/evening/player_shot_shotgun.png", 420, 240);
-        shotgunDemonShotIcon = loadScaledIcon("/assets/images/evening/demon_shot_shotgun.png", 420, 240);
+        shotgunIdleIcon = loadScaledIcon(SHOTGUN_IDLE, GUN_W, GUN_H);
+        shotgunPlayerShotIcon = loadScaledIcon(SHOTGUN_PLAYER_SHOT, GUN_W, GUN_H);
+        shotgunDemonShotIcon = loadScaledIcon(SHOTGUN_DEMON_SHOT, GUN_W, GUN_H);
 
         demonImageLabel = new JLabel(demonIdleIcon);
         demonImageLabel.setOpaque(false);
@@ -157,8 +184,9 @@ public class EveningWindow extends JFrame {
         rightPanel.setOpaque(false);
 
         ammoHud = new AmmoHud(
-                "/assets/images/evening/bullet_blank.png",
-                "/assets/images/evening/bullet_live.png"
+                SCENE,
+                BULLET_BLANK,
+                BULLET_LIVE
         );
         rightPanel.add(ammoHud, BorderLayout.NORTH);
 
@@ -207,9 +235,10 @@ public class EveningWindow extends JFrame {
         bottomLeft.setOpaque(false);
 
         playerHeartBar = new HeartBar(
+                SCENE,
                 PLAYER_MAX_HP,
-                "/assets/images/evening/heart_full.png",
-                "/assets/images/evening/heart_empty.png"
+                HEART_FULL,
+                HEART_EMPTY
         );
 
         JPanel playerHpWrap = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 14));
@@ -227,12 +256,10 @@ public class EveningWindow extends JFrame {
         JPanel bottomCenter = new JPanel(new BorderLayout());
         bottomCenter.setOpaque(false);
 
-        logArea = new JTextArea(8, 20);
-        logArea.setEditable(false);
-        logArea.setLineWrap(true);
-        logArea.setWrapStyleWord(true);
+        // 로그 이벤트 링 버퍼를 보이는 줄만 그림(오래 해도 안 커짐)
+        logView = new EveningLogView(logic.events(), 8);
 
-        JScrollPane logScroll = new JScrollPane(logArea);
+        JScrollPane logScroll = new JScrollPane(logView);
         logScroll.setBorder(BorderFactory.createEmptyBorder());
         bottomCenter.add(logScroll, BorderLayout.CENTER);
 
@@ -291,11 +318,8 @@ public class EveningWindow extends JFrame {
         // 버튼 잠깐 잠그고 싶으면(원치 않으면 주석처리 가능)
         setButtonsEnabled(false);
 
-        if (shotgunAnimTimer != null && shotgunAnimTimer.isRunning()) {
-            shotgunAnimTimer.stop();
-        }
-
-        shotgunAnimTimer = new Timer(1000, e -> {
+        // 1초 뒤 원래 총으로(공용 루프에서 예약, EDT에서 실행)
+        SceneManager.shared().after(1000, () -> {
             shotgunLabel.setIcon(shotgunIdleIcon);
 
             isShotgunAnimating = false;
@@ -304,8 +328,6 @@ public class EveningWindow extends JFrame {
             shotgunLabel.revalidate();
             shotgunLabel.repaint();
         });
-        shotgunAnimTimer.setRepeats(false);
-        shotgunAnimTimer.start();
     }
 
     // ✅ 과제악마가 “자동으로” 쏠 때는 컨트롤러에서 이걸 호출하면 됨
@@ -333,6 +355,7 @@ public class EveningWindow extends JFrame {
         ));
 
         refreshItems();
+        logView.refresh();
     }
 
     private void refreshItems() {
@@ -347,11 +370,6 @@ public class EveningWindow extends JFrame {
         btnRestart.setEnabled(logic.getItemRestart() > 0);
     }
 
-    public void appendLog(String msg) {
-        logArea.append(msg + "\n");
-        logArea.setCaretPosition(logArea.getDocument().getLength());
-    }
-
     public void setButtonsEnabled(boolean enabled) {
         shootEnemyBtn.setEnabled(enabled);
         shootSelfBtn.setEnabled(enabled);
@@ -362,12 +380,26 @@ public class EveningWindow extends JFrame {
         btnRestart.setEnabled(enabled && logic.getItemRestart() > 0);
     }
 
+    // =======================
+    // 미리 로드
+    // =======================
+
+    /** 점심 진행 중에 백그라운드 스레드에서 호출: 생성자가 쓸 이미지를 같은 크기로 미리 만들어 둠 */
+    public static void preloadAssets() {
+        ResourceManager.image(SCENE, BG);
+        HeartBar.preload(SCENE, HEART_FULL, HEART_EMPTY);
+        AmmoHud.preload(SCENE, BULLET_BLANK, BULLET_LIVE);
+
+        ResourceManager.scaled(SCENE, DEMON_IDLE, DEMON_W, DEMON_H, false);
+        ResourceManager.scaled(SCENE, SHOTGUN_IDLE, GUN_W, GUN_H, false);
+        ResourceManager.scaled(SCENE, SHOTGUN_PLAYER_SHOT, GUN_W, GUN_H, false);
+        ResourceManager.scaled(SCENE, SHOTGUN_DEMON_SHOT, GUN_W, GUN_H, false);
+    }
+
     // =======================
     // 유틸
     // =======================
     private ImageIcon loadScaledIcon(String path, int w, int h) {
-        ImageIcon icon = new ImageIcon(getClass().getResource(path));
-        Image img = icon.getImage().getScaledInstance(w, h, Image.SCALE_FAST);
-        return new ImageIcon(img);
+        return ResourceManager.icon(SCENE, path, w, h);
     }
 }
@@ -1,5 +1,7 @@
 package game.ui;
 
+import game.core.ResourceManager;
+
 import javax.swing.*;
 import java.awt.*;
 import java.util.Objects;
@@ -12,12 +14,13 @@ public class HeartBar extends JPanel {
     // 아이콘 표시 크기(픽셀) — 16x16이면 32로 올려서 확실히 보이게
     private static final int ICON_SIZE = 32;
 
-    public HeartBar(int maxHp, String fullPath, String emptyPath) {
+    // scene: 아이콘을 잡아둘 씬 이름(창 닫힐 때 ResourceManager.release)
+    public HeartBar(String scene, int maxHp, String fullPath, String emptyPath) {
         setOpaque(false);
         setLayout(new FlowLayout(FlowLayout.LEFT, 4, 0));
 
-        full  = scaledIcon(fullPath, ICON_SIZE, ICON_SIZE);
-        empty = scaledIcon(emptyPath, ICON_SIZE, ICON_SIZE);
+        full  = scaledIcon(scene, fullPath, ICON_SIZE, ICON_SIZE);
+        empty = scaledIcon(scene, emptyPath, ICON_SIZE, ICON_SIZE);
 
         hearts = new JLabel[maxHp];
         for (int i = 0; i < maxHp; i++) {
@@ -38,9 +41,12 @@ public class HeartBar extends JPanel {
         repaint();
     }
 
-    private ImageIcon scaledIcon(String path, int w, int h) {
-        ImageIcon icon = new ImageIcon(Objects.requireNonNull(getClass().getResource(path), "리소스 못 찾음: " + path));
-        Image img = icon.getImage().getScaledInstance(w, h, Image.SCALE_FAST);
-        return new ImageIcon(img);
+    // 창 만들기 전에 백그라운드에서 같은 크기 아이콘을 미리 만들어 둠
+    public static void preload(String scene, String... paths) {
+        for (String p : paths) ResourceManager.scaled(scene, p, ICON_SIZE, ICON_SIZE, false);
+    }
+
+    private ImageIcon scaledIcon(String scene, String path, int w, int h) {
+        return Objects.requireNonNull(ResourceManager.icon(scene, path, w, h), "리소스 못 찾음: " + path);
     }
 }
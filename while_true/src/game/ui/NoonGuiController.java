@@ -1,12 +1,16 @@
 package game.ui;
 
 import game.stage.noon.NoonGameLogic;
+import game.stage.noon.NoonTurn;
 import game.ui.gameover.GameOverOverlay;
-import game.core.GameOverReason;
+import game.core.InputLog;
+import game.core.Scene;
+import game.core.SceneManager;
 
 import javax.swing.SwingUtilities;
 
-public class NoonGuiController {
+// 점심 스테이지는 버튼 이벤트로 진행되고, 재생 대기만 SceneManager 루프에 맡김
+public class NoonGuiController implements Scene {
 
     private final NoonWindow window;
     private final NoonGameLogic logic;
@@ -14,6 +18,10 @@ public class NoonGuiController {
     // ✅ 점심 클리어 시 실행할 콜백(저녁 스테이지 시작용)
     private final Runnable onClear;
 
+    // 입력 기록/재생용 선택 순번
+    private int choiceSeq = 0;
+    private static final int REPLAY_DELAY_MS = 400;
+
     public NoonGuiController() {
         this(null);
     }
@@ -21,95 +29,85 @@ public class NoonGuiController {
     public NoonGuiController(Runnable onClear) {
         this.onClear = (onClear != null) ? onClear : () -> {};
 
+        // 재생 예약이 이 장면에 묶이도록 먼저 등록(장면이 끝나면 남은 예약은 같이 취소됨)
+        SceneManager sm = SceneManager.shared();
+        sm.setScene(this);
+        sm.start();
+
         window = new NoonWindow();
         logic  = new NoonGameLogic();
 
         bindEvents();
 
-        String firstText = logic.start();
-        window.printDialogue(firstText);
-
-        window.setStatusText("현재 상태 → 체력 5 / 멘탈 5 / 지식 5 / 사교 0");
-        window.setNpcImage(1);
+        show(logic.start());
 
         window.setVisible(true);
 
-        // ✅ 점심 스테이지 도움말: 시작 시 1회만 표시
-        SwingUtilities.invokeLater(() -> GameHelpOverlay_Noon.showOnce(window));
+        // ✅ 점심 스테이지 도움말: 시작 시 1회만 표시(재생 중엔 생략)
+        if (InputLog.isReplaying()) {
+            replayNext();
+        } else {
+            SwingUtilities.invokeLater(() -> GameHelpOverlay_Noon.showOnce(window));
+        }
     }
 
     private void bindEvents() {
-        window.getBtn1().addActionListener(e -> onUserChoice(1));
-        window.getBtn2().addActionListener(e -> onUserChoice(2));
-        window.getBtn3().addActionListener(e -> onUserChoice(3));
+        window.getBtn1().addActionListener(e -> onButton(1));
+        window.getBtn2().addActionListener(e -> onButton(2));
+        window.getBtn3().addActionListener(e -> onButton(3));
     }
 
-    private void onUserChoice(int choice) {
-        String fullText = logic.handleChoice(choice);
+    // 재생 중에는 실제 버튼 무시(기록된 선택만 반영)
+    private void onButton(int choice) {
+        if (InputLog.isReplaying()) return;
+        InputLog.record("noon", choiceSeq, choice);
+        onUserChoice(choice);
+    }
 
-        window.printDialogue(fullText);
-        updateStatusArea(fullText);
+    // 기록된 다음 선택을 조금 뒤에 반영(화면에서 따라갈 수 있게)
+    private void replayNext() {
+        SceneManager.shared().after(REPLAY_DELAY_MS, () -> {
+            int choice = InputLog.next("noon");
+            if (choice != InputLog.NONE) onUserChoice(choice);
+        });
+    }
 
-        int npcIndex = extractCurrentNpcIndex(fullText);
-        if (npcIndex >= 1 && npcIndex <= 12) {
-            window.setNpcImage(npcIndex);
-        }
+    private void onUserChoice(int choice) {
+        choiceSeq++;
+        NoonTurn turn = logic.handleChoice(choice);
+        show(turn);
 
         // ✅ GameOver 처리 (오버레이 + 버튼 잠금)
-        if (logic.isGameOver()) {
+        if (turn.kind() == NoonTurn.Kind.GAME_OVER) {
             window.setButtonsEnabled(false);
-
-            // ✅ "Game Over - ~ 0" 문장으로만 판별
-            GameOverReason reason = GameOverReason.UNKNOWN;
-            if (fullText.contains("Game Over - 멘탈 0")) {
-                reason = GameOverReason.MENTAL_ZERO;
-            } else if (fullText.contains("Game Over - 체력 0")) {
-                reason = GameOverReason.HP_ZERO;
-            } else if (fullText.contains("Game Over - 지식 0")) {
-                reason = GameOverReason.KNOWLEDGE_ZERO;
-            }
-
-            new GameOverOverlay(window, reason).setVisible(true);
+            new GameOverOverlay(window, turn.reason()).setVisible(true);
             return;
         }
 
         // ✅ 점심 클리어 시 → 저녁 스테이지로 전환
-        if (logic.isCleared()) {
+        if (turn.kind() == NoonTurn.Kind.CLEARED) {
+            SceneManager.shared().clearScene(this);
             window.dispose();
             SwingUtilities.invokeLater(onClear);
             return;
         }
-    }
-
-    private int extractCurrentNpcIndex(String text) {
-        String marker = "---------- [대화 ";
-        int idx = text.lastIndexOf(marker);
-        if (idx < 0) return -1;
-
-        int start = idx + marker.length();
-        int end = text.indexOf("회차", start);
-        if (end < 0) return -1;
 
-        try {
-            String numStr = text.substring(start, end).trim();
-            return Integer.parseInt(numStr);
-        } catch (Exception e) {
-            return -1;
-        }
+        if (InputLog.isReplaying()) replayNext();
     }
 
-    private void updateStatusArea(String fullText) {
-        String statusPart = "";
-
-        int idx = fullText.indexOf("[변화 로그]");
-        if (idx >= 0) {
-            statusPart = fullText.substring(idx);
-            int nextIdx = statusPart.indexOf("---------- [대화");
-            if (nextIdx > 0) {
-                statusPart = statusPart.substring(0, nextIdx);
-            }
-        }
+    // 결과 값으로 바로 그림(문장을 다시 뒤져서 회차/상태를 찾지 않음)
+    private void show(NoonTurn turn) {
+        window.printDialogue(turn.dialogueText());
+        window.setStatusText(turn.statusText());
 
-        window.setStatusText(statusPart);
+        int npc = turn.portraitNpc();
+        if (npc > 0) window.setNpcImage(npc);
     }
+
+    // ---------------- Scene ----------------
+    // 그릴 것/매 프레임 갱신할 것은 없음(Swing 컴포넌트가 알아서 다시 그림)
+    @Override public void init() {}
+    @Override public void update() {}
+    @Override public void render() {}
+    @Override public void handleInput() {}
 }
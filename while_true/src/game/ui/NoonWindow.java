@@ -1,7 +1,11 @@
 package game.ui;
 
+import game.core.ResourceManager;
+
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 
 /**
  * 점심 스테이지 전용 GUI 창
@@ -11,6 +15,29 @@ import java.awt.*;
  */
 public class NoonWindow extends JFrame {
 
+    // ResourceManager 씬 이름(창 닫히면 이미지 참조 해제)
+    private static final String SCENE = "noon";
+
+    private static final String BG = "assets/images/noon/00_캠퍼스 배경.png";
+    private static final String NPC_DIR = "assets/images/noon/";
+    private static final String[] NPC_FILES = {
+            "01_교수님.png",
+            "02_버스기사.png",
+            "03_학교친구.png",
+            "04_선배.png",
+            "05_후배.png",
+            "06_동아리사람.png",
+            "07_헬창.png",
+            "08_식당주인.png",
+            "09_대학원생.png",
+            "10_스님.png",
+            "11_과대표.png",
+            "14_조교.png"
+    };
+
+    // 가운데 NPC 라벨 크기(초상화 스케일 기준)
+    private static final int NPC_W = 400, NPC_H = 500;
+
     private JTextArea statusArea;    // 왼쪽: 주인공 상태 로그
     private JTextArea dialogueArea;  // 가운데: N회차 + NPC 대사
 
@@ -34,7 +61,7 @@ public class NoonWindow extends JFrame {
         setLocationRelativeTo(null);
 
         // ===== 배경 이미지 로딩 =====
-        backgroundImage = new ImageIcon("assets/images/noon/00_캠퍼스 배경.png").getImage();
+        backgroundImage = ResourceManager.image(SCENE, BG);
 
         // 전체 레이아웃
         setLayout(new BorderLayout());
@@ -63,7 +90,7 @@ public class NoonWindow extends JFrame {
 
         playerLabel = new JLabel("", SwingConstants.CENTER);
         playerLabel.setVerticalAlignment(SwingConstants.TOP);
-        playerLabel.setPreferredSize(new Dimension(400, 500));
+        playerLabel.setPreferredSize(new Dimension(NPC_W, NPC_H));
         playerLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         characterPanel.add(playerLabel);
@@ -121,6 +148,13 @@ public class NoonWindow extends JFrame {
         // ===== NPC 이미지 로딩 + 시작 시 1번 NPC 표시 =====
         loadNpcIcons();
         setNpcImage(1);
+
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                ResourceManager.release(SCENE);
+            }
+        });
     }
 
     // ===== 외부에서 쓰는 메서드들 =====
@@ -155,44 +189,22 @@ public class NoonWindow extends JFrame {
     }
 
     private void loadNpcIcons() {
-        String basePath = "assets/images/noon/";
-
-        String[] files = {
-                "01_교수님.png",
-                "02_버스기사.png",
-                "03_학교친구.png",
-                "04_선배.png",
-                "05_후배.png",
-                "06_동아리사람.png",
-                "07_헬창.png",
-                "08_식당주인.png",
-                "09_대학원생.png",
-                "10_스님.png",
-                "11_과대표.png",
-                "14_조교.png"
-        };
-
         Dimension d = playerLabel.getPreferredSize();
         int targetW = d.width;
         int targetH = d.height;
 
-        for (int i = 0; i < files.length; i++) {
-            ImageIcon rawIcon = new ImageIcon(basePath + files[i]);
-            Image rawImg = rawIcon.getImage();
-
-            int imgW = rawIcon.getIconWidth();
-            int imgH = rawIcon.getIconHeight();
-
-            double scale = Math.min(
-                    (double) targetW / imgW,
-                    (double) targetH / imgH
-            );
-
-            int newW = (int) (imgW * scale);
-            int newH = (int) (imgH * scale);
+        for (int i = 0; i < NPC_FILES.length; i++) {
+            // 비율 유지 스케일본만 씬이 잡고, 원본은 LRU에서 정리됨
+            Image scaledImg = ResourceManager.scaledToFit(SCENE, NPC_DIR + NPC_FILES[i], targetW, targetH);
+            npcIcons[i] = (scaledImg != null) ? new ImageIcon(scaledImg) : null;
+        }
+    }
 
-            Image scaledImg = rawImg.getScaledInstance(newW, newH, Image.SCALE_SMOOTH);
-            npcIcons[i] = new ImageIcon(scaledImg);
+    /** 아침 진행 중에 백그라운드 스레드에서 호출: 배경/초상화를 생성자와 같은 크기로 미리 만들어 둠 */
+    public static void preloadAssets() {
+        ResourceManager.image(SCENE, BG);
+        for (String f : NPC_FILES) {
+            ResourceManager.scaledToFit(SCENE, NPC_DIR + f, NPC_W, NPC_H);
         }
     }
 
@@ -0,0 +1,284 @@
+package game.ui;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * RasterFx (오버레이 공용 화면 효과 커널)
+ * - TYPE_INT_RGB 버퍼의 int[]를 직접 고침(0xRRGGBB). Graphics2D로 같은 효과를 여러 번 그리는 것보다 훨씬 쌈
+ * - 큰 버퍼는 줄 묶음(band)으로 나눠 fork/join 공용 풀에서 돌림. 작으면 부른 스레드에서 바로
+ * - 커널 안에서는 난수를 안 씀(띠 오프셋/타일 위치 같은 건 부르는 쪽이 미리 정해서 넘김)
+ *   → 몇 스레드로 나눠 돌아도 결과가 같음
+ * - 게임오버/인트로 오버레이가 같이 씀
+ *
+ * [한줄 요약]
+ * - newImage로 버퍼 만들고 pixels로 int[] 꺼낸 뒤 shift/tear/rgbSplit/shade/darken/NoiseBank로 합성.
+ */
+public final class RasterFx {
+
+    private static final int BAND_PIXELS = 64 * 1024;   // 이 이하로 쪼개지면 한 스레드에서 처리
+
+    /** 줄 범위 [y0, y1)을 처리하는 작업 */
+    @FunctionalInterface
+    public interface RowKernel {
+        void rows(int y0, int y1);
+    }
+
+    private RasterFx() {}
+
+    // ===================== 버퍼 =====================
+
+    public static BufferedImage newImage(int w, int h) {
+        return new BufferedImage(Math.max(1, w), Math.max(1, h), BufferedImage.TYPE_INT_RGB);
+    }
+
+    /** INT_RGB/INT_ARGB 이미지의 픽셀 배열(복사 아님) */
+    public static int[] pixels(BufferedImage img) {
+        return ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+    }
+
+    // ===================== 병렬 분할 =====================
+
+    /** 0..h 줄을 나눠서 kernel 실행(작은 화면이나 1코어면 그냥 한 번에) */
+    public static void forRows(int w, int h, RowKernel kernel) {
+        int grain = Math.max(1, BAND_PIXELS / Math.max(1, w));
+        if (h <= grain || ForkJoinPool.commonPool().getParallelism() <= 1) {
+            kernel.rows(0, h);
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new Bands(kernel, 0, h, grain));
+    }
+
+    private static final class Bands extends RecursiveAction {
+        private final RowKernel kernel;
+        private final int y0, y1, grain;
+
+        Bands(RowKernel kernel, int y0, int y1, int grain) {
+            this.kernel = kernel;
+            this.y0 = y0;
+            this.y1 = y1;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (y1 - y0 <= grain) {
+                kernel.rows(y0, y1);
+                return;
+            }
+            int mid = (y0 + y1) >>> 1;
+            Bands top = new Bands(kernel, y0, mid, grain);
+            top.fork();
+            new Bands(kernel, mid, y1, grain).compute();
+            top.join();
+        }
+    }
+
+    // ===================== 이동 / 찢김 =====================
+
+    /** 화면 전체를 (dx, dy)만큼 밀어서 dst에(흔들림/글리치). 빈 곳은 검정 */
+    public static void shift(int[] src, int[] dst, int w, int h, int dx, int dy) {
+        forRows(w, h, (y0, y1) -> {
+            for (int y = y0; y < y1; y++) {
+                int sy = y - dy;
+                if (sy < 0 || sy >= h) Arrays.fill(dst, y * w, y * w + w, 0);
+                else copyRow(src, sy * w, dst, y * w, w, dx);
+            }
+        });
+    }
+
+    /** 띠(bandH 줄)마다 offsets[띠 번호]만큼 x로 밀기 */
+    public static void tear(int[] src, int[] dst, int w, int h, int bandH, int[] offsets) {
+        forRows(w, h, (y0, y1) -> {
+            for (int y = y0; y < y1; y++) {
+                copyRow(src, y * w, dst, y * w, w, offsets[y / bandH]);
+            }
+        });
+    }
+
+    private static void copyRow(int[] src, int srcBase, int[] dst, int dstBase, int w, int dx) {
+        dx = Math.max(-w, Math.min(w, dx));
+        int span = w - Math.abs(dx);
+        System.arraycopy(src, srcBase + Math.max(0, -dx), dst, dstBase + Math.max(0, dx), span);
+        if (dx > 0) Arrays.fill(dst, dstBase, dstBase + dx, 0);
+        else if (dx < 0) Arrays.fill(dst, dstBase + span, dstBase + w, 0);
+    }
+
+    // ===================== 색 =====================
+
+    /**
+     * RGB 분리(고스트): (dx, dy)만큼 밀린 src를 채널별 배율(8.8 고정소수점, 256 = 1배)로 물들여 alpha(0~256)로 얹음
+     * - 밀린 위치가 화면 밖이면 원래 픽셀 그대로
+     */
+    public static void rgbSplit(int[] src, int[] dst, int w, int h, int dx, int dy,
+                                int alpha, int rMul, int gMul, int bMul) {
+        forRows(w, h, (y0, y1) -> {
+            for (int y = y0; y < y1; y++) {
+                int sy = y - dy;
+                int row = y * w;
+                if (sy < 0 || sy >= h || alpha <= 0) {
+                    System.arraycopy(src, row, dst, row, w);
+                    continue;
+                }
+                int srow = sy * w;
+                for (int x = 0; x < w; x++) {
+                    int p = src[row + x];
+                    int sx = x - dx;
+                    if (sx < 0 || sx >= w) {
+                        dst[row + x] = p;
+                        continue;
+                    }
+                    int q = src[srow + sx];
+                    int r = Math.min(255, (((q >> 16) & 0xff) * rMul) >> 8);
+                    int g = Math.min(255, (((q >> 8) & 0xff) * gMul) >> 8);
+                    int b = Math.min(255, ((q & 0xff) * bMul) >> 8);
+                    dst[row + x] = blend(p, r << 16 | g << 8 | b, alpha);
+                }
+            }
+        });
+    }
+
+    /**
+     * 픽셀별 배율 표(table, 0~256)와 전체 배율(mul)로 곱하기(비네팅 + 페이드)
+     * - overlay(ARGB, 같은 크기)가 있으면 곱하기 전에 그 알파 × overlayAlpha(0~256)로 먼저 얹음
+     */
+    public static void shade(int[] px, int w, int h, char[] table, int mul, int[] overlay, int overlayAlpha) {
+        final boolean over = overlay != null && overlayAlpha > 0;
+        forRows(w, h, (y0, y1) -> {
+            for (int i = y0 * w, end = y1 * w; i < end; i++) {
+                int p = px[i];
+                if (over) {
+                    int n = overlay[i];
+                    int a = ((n >>> 24) * overlayAlpha) >> 8;
+                    if (a != 0) p = blend(p, n, a);
+                }
+                px[i] = scale(p, (table[i] * mul) >> 8);
+            }
+        });
+    }
+
+    /** 화면 전체를 mul(0~256)배로 어둡게 */
+    public static void darken(int[] px, int w, int h, int mul) {
+        if (mul >= 256) return;
+        forRows(w, h, (y0, y1) -> {
+            for (int i = y0 * w, end = y1 * w; i < end; i++) px[i] = scale(px[i], mul);
+        });
+    }
+
+    /** 가로 1픽셀 선(글리치 라인). 몇 개 안 되니까 그냥 한 스레드 */
+    public static void hline(int[] px, int w, int h, int x, int y, int len, int rgb, int alpha) {
+        if (y < 0 || y >= h) return;
+        int x0 = Math.max(0, x);
+        int x1 = Math.min(w, x + len);
+        for (int i = y * w + x0, end = y * w + x1; i < end; i++) px[i] = blend(px[i], rgb, alpha);
+    }
+
+    /** p 위에 rgb를 alpha(0~256)만큼 */
+    public static int blend(int p, int rgb, int alpha) {
+        int r = (p >> 16) & 0xff;
+        int g = (p >> 8) & 0xff;
+        int b = p & 0xff;
+        r += ((((rgb >> 16) & 0xff) - r) * alpha) >> 8;
+        g += ((((rgb >> 8) & 0xff) - g) * alpha) >> 8;
+        b += (((rgb & 0xff) - b) * alpha) >> 8;
+        return r << 16 | g << 8 | b;
+    }
+
+    private static int scale(int p, int mul) {
+        return ((((p >> 16) & 0xff) * mul) >> 8) << 16
+                | ((((p >> 8) & 0xff) * mul) >> 8) << 8
+                | (((p & 0xff) * mul) >> 8);
+    }
+
+    // ===================== 노이즈 =====================
+
+    /**
+     * 점 노이즈 타일 묶음(크기가 정해지면 한 번만 만듦)
+     * - 타일 안 점은 (위치, 순위, 크기)를 long 하나로 묶어 위치 순으로 정렬 → 띠마다 자기 줄 점만 이분 탐색으로 찾음
+     * - 찍을 때 amount(0~256)보다 순위가 낮은 점만 찍으니까, 밀도를 바꿔도 다시 만들 필요 없음
+     * - 어느 타일을 어디서부터 깔지는 부르는 쪽이 정함(SplittableRandom 등)
+     */
+    public static final class NoiseBank {
+
+        private final int tile;
+        private final int maxDot;
+        private final long[][] tiles;
+
+        /** dotsPerTile: amount=256일 때 타일 하나의 점 수, maxDot: 점 한 변 최대(1~maxDot 랜덤) */
+        public NoiseBank(int count, int tile, int dotsPerTile, int maxDot, SplittableRandom rnd) {
+            this.tile = tile;
+            this.maxDot = Math.max(1, maxDot);
+            this.tiles = new long[Math.max(1, count)][];
+            for (int t = 0; t < tiles.length; t++) {
+                long[] dots = new long[Math.max(0, dotsPerTile)];
+                for (int i = 0; i < dots.length; i++) {
+                    long pos = rnd.nextInt(tile * tile);
+                    int rank = rnd.nextInt(256);
+                    int size = 1 + rnd.nextInt(this.maxDot);
+                    dots[i] = pos << 16 | rank << 8 | size;
+                }
+                Arrays.sort(dots);
+                tiles[t] = dots;
+            }
+        }
+
+        public int count() { return tiles.length; }
+
+        public int tileSize() { return tile; }
+
+        /** index 타일을 (-ox, -oy)부터 화면에 깔아 rgb를 alpha(0~256)로 찍음. amount는 찍을 점 비율(0~256) */
+        public void stamp(int[] px, int w, int h, int index, int ox, int oy, int amount, int rgb, int alpha) {
+            if (amount <= 0 || alpha <= 0) return;
+            final long[] dots = tiles[Math.floorMod(index, tiles.length)];
+            final int sx = -Math.floorMod(ox, tile);
+            final int sy = -Math.floorMod(oy, tile);
+
+            forRows(w, h, (y0, y1) -> {
+                // 이 띠에 걸치는 타일 줄만
+                for (int ty = sy; ty < y1; ty += tile) {
+                    int ly0 = Math.max(0, y0 - ty - maxDot + 1);
+                    int ly1 = Math.min(tile, y1 - ty);
+                    if (ly0 >= ly1) continue;
+
+                    int from = lowerBound(dots, (long) ly0 * tile << 16);
+                    long stop = (long) ly1 * tile << 16;
+
+                    for (int k = from; k < dots.length && dots[k] < stop; k++) {
+                        long d = dots[k];
+                        if (((d >> 8) & 0xff) >= amount) continue;
+                        int pos = (int) (d >>> 16);
+                        int size = (int) (d & 0xff);
+                        int dy = ty + pos / tile;
+                        int dxInTile = pos % tile;
+
+                        int ya = Math.max(y0, dy);
+                        int yb = Math.min(y1, dy + size);
+                        for (int tx = sx; tx < w; tx += tile) {
+                            int xa = Math.max(0, tx + dxInTile);
+                            int xb = Math.min(w, tx + dxInTile + size);
+                            for (int y = ya; y < yb; y++) {
+                                for (int i = y * w + xa, end = y * w + xb; i < end; i++) {
+                                    px[i] = blend(px[i], rgb, alpha);
+                                }
+                            }
+                        }
+                    }
+                }
+            });
+        }
+
+        private static int lowerBound(long[] a, long key) {
+            int lo = 0, hi = a.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (a[mid] < key) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
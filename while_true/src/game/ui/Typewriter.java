@@ -0,0 +1,214 @@
+package game.ui;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.LineMetrics;
+import java.util.Arrays;
+
+/**
+ * Typewriter (인트로 공용 타자기 텍스트)
+ * - 대사 줄마다 GlyphVector를 처음에 한 번만 만듦(한글 글꼴 셰이핑이 비싸서 repaint마다 다시 안 함)
+ * - 글자는 인덱스로만 드러냄: 미리 잰 "k글자까지 보일 때 오른쪽 끝"까지 clip하고 같은 GlyphVector를 그림
+ * - typeNext()/nextLine() 뒤에는 dirty()에 방금 바뀐 글자(+커서) 영역만 들어 있음 → repaint(dirty())
+ * - 색/투명도는 그리는 쪽 Graphics 설정을 그대로 씀
+ *
+ * [한줄 요약]
+ * - new Typewriter(대사, 글꼴, x, 첫 줄 baseline, 줄 간격) → 타이머에서 typeNext, paint에서 paint.
+ */
+public final class Typewriter {
+
+    // 안티앨리어싱 끈 인트로 글자 기준(그리는 쪽도 TEXT_ANTIALIAS_OFF)
+    private static final FontRenderContext FRC = new FontRenderContext(null, false, false);
+    private static final int PAD = 2;
+
+    private final String[] lines;
+    private final int x, y, lineGap;
+    private final int ascent, descent;
+
+    private final GlyphVector[] glyphs;   // 빈 줄은 null
+    private final int[][] reveal;         // reveal[줄][k] = 앞 k글자가 보일 때 clip 오른쪽 끝(x 기준 상대값)
+
+    // 커서(없으면 null)
+    private GlyphVector cursor;
+    private int cursorGap;
+
+    private int line = 0;
+    private int chars = 0;
+    private final Rectangle dirty = new Rectangle();
+
+    public Typewriter(String[] lines, Font font, int x, int y, int lineGap) {
+        this.lines = lines.clone();
+        this.x = x;
+        this.y = y;
+        this.lineGap = lineGap;
+
+        LineMetrics lm = font.getLineMetrics("가Ag", FRC);
+        this.ascent = (int) Math.ceil(lm.getAscent());
+        this.descent = (int) Math.ceil(lm.getDescent());
+
+        this.glyphs = new GlyphVector[this.lines.length];
+        this.reveal = new int[this.lines.length][];
+        for (int i = 0; i < this.lines.length; i++) {
+            String s = this.lines[i];
+            if (s.isEmpty()) continue;
+
+            char[] cs = s.toCharArray();
+            GlyphVector gv = font.layoutGlyphVector(FRC, cs, 0, cs.length, Font.LAYOUT_LEFT_TO_RIGHT);
+            glyphs[i] = gv;
+            reveal[i] = revealEdges(gv, cs.length);
+        }
+
+        skipEmptyLines();
+    }
+
+    // k글자까지 보일 때 오른쪽 끝: 안 보일 글자 중 가장 왼쪽 잉크 직전(없으면 줄 전체 + 여유)
+    private static int[] revealEdges(GlyphVector gv, int n) {
+        int[] firstInk = new int[n + 1];
+        Arrays.fill(firstInk, Integer.MAX_VALUE);
+        int lineRight = 0;
+
+        for (int g = 0; g < gv.getNumGlyphs(); g++) {
+            int ci = gv.getGlyphCharIndex(g);
+            Rectangle ink = gv.getGlyphPixelBounds(g, FRC, 0, 0);
+            float advRight = (float) (gv.getGlyphPosition(g).getX() + gv.getGlyphMetrics(g).getAdvance());
+            int left = ink.isEmpty() ? (int) gv.getGlyphPosition(g).getX() : ink.x;
+            firstInk[ci] = Math.min(firstInk[ci], left);
+            lineRight = Math.max(lineRight, Math.max(ink.x + ink.width, (int) Math.ceil(advRight)));
+        }
+
+        int[] edge = new int[n + 1];
+        int next = lineRight + PAD;
+        edge[n] = next;
+        for (int k = n - 1; k >= 0; k--) {
+            next = Math.min(next, firstInk[k]);
+            edge[k] = next;
+        }
+        edge[0] = Math.min(edge[0], 0);
+        return edge;
+    }
+
+    /** 각 줄 끝에 커서 글리프(예: "▮")를 gap 픽셀 띄워 그림 */
+    public Typewriter withCursor(String glyph, Font font, int gap) {
+        this.cursor = font.createGlyphVector(FRC, glyph);
+        this.cursorGap = gap;
+        return this;
+    }
+
+    // ===================== 진행 =====================
+
+    /** 지금 줄에서 한 글자 더. 줄이 이미 다 나왔으면 false(바뀐 것 없음) */
+    public boolean typeNext() {
+        if (lineComplete()) return false;
+
+        Rectangle before = cursorBounds();
+        int from = reveal[line][chars];
+        chars++;
+        int to = reveal[line][chars];
+
+        dirty.setBounds(x + from - PAD, top(line), to - from + 2 * PAD, ascent + descent + 2 * PAD);
+        addCursor(before);
+        return true;
+    }
+
+    /** 다음 줄로(빈 줄은 건너뜀) */
+    public void nextLine() {
+        if (done()) return;
+        Rectangle before = cursorBounds();
+        line++;
+        chars = 0;
+        skipEmptyLines();
+
+        dirty.setBounds(0, 0, 0, 0);
+        addCursor(before);
+    }
+
+    /** 남은 글자를 전부 한 번에 */
+    public void revealAll() {
+        line = lines.length;
+        chars = 0;
+    }
+
+    public boolean lineComplete() {
+        return done() || chars >= lines[line].length();
+    }
+
+    public boolean done() {
+        return line >= lines.length;
+    }
+
+    /** 마지막 typeNext/nextLine으로 바뀐 영역(패널 좌표) */
+    public Rectangle dirty() {
+        return new Rectangle(dirty);
+    }
+
+    /** 텍스트 전체가 차지할 수 있는 영역 */
+    public Rectangle bounds() {
+        int right = 0;
+        for (int[] r : reveal) if (r != null) right = Math.max(right, r[r.length - 1]);
+        if (cursor != null) right += cursorGap + cursor.getPixelBounds(FRC, 0, 0).width;
+        return new Rectangle(x - PAD, top(0), right + 2 * PAD, lines.length * lineGap + ascent + descent + 2 * PAD);
+    }
+
+    private void skipEmptyLines() {
+        while (line < lines.length && lines[line].isEmpty()) line++;
+    }
+
+    private void addCursor(Rectangle before) {
+        if (cursor == null) return;
+        if (dirty.isEmpty()) dirty.setBounds(before);
+        else dirty.add(before);
+        dirty.add(cursorBounds());
+    }
+
+    private int top(int i) {
+        return y + i * lineGap - ascent - PAD;
+    }
+
+    private int cursorX() {
+        int reached = (line < lines.length && reveal[line] != null) ? reveal[line][chars] : 0;
+        return x + Math.max(0, reached - PAD) + cursorGap;
+    }
+
+    private Rectangle cursorBounds() {
+        if (cursor == null) return new Rectangle();
+        Rectangle r = cursor.getPixelBounds(FRC, cursorX(), y + line * lineGap);
+        r.grow(PAD, PAD);
+        return r;
+    }
+
+    // ===================== 그리기 =====================
+
+    /** 드러난 글자만 그림(clip 밖 줄은 건너뜀) */
+    public void paint(Graphics2D g) {
+        Rectangle clip = g.getClipBounds();
+        int last = Math.min(line, lines.length - 1);
+
+        for (int i = 0; i <= last; i++) {
+            GlyphVector gv = glyphs[i];
+            if (gv == null) continue;
+
+            int baseline = y + i * lineGap;
+            int top = top(i);
+            if (clip != null && (top > clip.y + clip.height || top + ascent + descent + 2 * PAD < clip.y)) continue;
+
+            if (i < line) {
+                g.drawGlyphVector(gv, x, baseline);
+            } else if (chars > 0) {
+                Shape old = g.getClip();
+                g.clipRect(x - PAD, top, reveal[i][chars] + PAD, ascent + descent + 2 * PAD);
+                g.drawGlyphVector(gv, x, baseline);
+                g.setClip(old);
+            }
+        }
+    }
+
+    /** 지금 줄 끝에 커서 */
+    public void paintCursor(Graphics2D g) {
+        if (cursor == null) return;
+        g.drawGlyphVector(cursor, cursorX(), y + line * lineGap);
+    }
+}
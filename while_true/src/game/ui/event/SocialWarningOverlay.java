@@ -1,9 +1,10 @@
 package game.ui.event;
 
+import game.core.ResourceManager;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.net.URL;
 
 /**
  * SocialWarningOverlay
@@ -51,11 +52,8 @@ public class SocialWarningOverlay extends JDialog {
     }
 
     private Image loadImage() {
-        URL url = getClass().getResource(IMAGE_PATH);
-        if (url != null) {
-            return new ImageIcon(url).getImage();
-        }
-        return null;
+        // 항상 200x200으로 그리니까 그 크기 스케일본만 받아옴
+        return ResourceManager.scaled(null, IMAGE_PATH, 200, 200, true);
     }
 
     private class Panel extends JPanel {
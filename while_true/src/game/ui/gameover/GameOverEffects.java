@@ -0,0 +1,205 @@
+package game.ui.gameover;
+
+import game.ui.RasterFx;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * GameOverEffects (게임오버 화면 후처리)
+ * - 스캔라인/비네팅/노이즈는 크기(와 강도)가 바뀔 때 한 번만 만들어 둠
+ *   - shade: 픽셀별 밝기 배율(스캔라인 × 비네팅), 0~256 고정소수점
+ *   - 노이즈: 이미지가 있으면 int[]로 풀어 둠, 없으면 RasterFx.NoiseBank 타일(프레임마다 한 장 골라 깔기)
+ * - 고스트/합성/찢김은 RasterFx 커널로 int[]를 직접 처리(큰 화면은 줄 묶음으로 병렬)
+ * - 버퍼 두 장을 번갈아 씀: 단계마다 src → dst 하고 자리 바꿈
+ */
+final class GameOverEffects {
+
+    private static final int TILE = 256;          // 노이즈 타일 한 변
+    private static final int TILE_BANK = 8;       // 노이즈 타일 장수
+    private static final int MAX_DOTS = 4000;     // 폴백 노이즈가 가장 셀 때 화면 전체 점 수
+
+    private int w, h;
+    private BufferedImage frame;                  // 배경/고스트를 그리는 버퍼
+    private BufferedImage spare;
+    private BufferedImage cur;                    // 지금까지 처리된 결과가 있는 쪽
+
+    // shade 캐시(비네팅/스캔라인 강도가 같으면 재사용)
+    private char[] shade;
+    private float shadeVignette = -1f;
+    private float shadeScanline = -1f;
+
+    // 노이즈 이미지(화면 크기로 맞춘 ARGB), 없으면 null
+    private final BufferedImage noiseSrc;
+    private int[] noisePx;
+
+    // 폴백 노이즈 타일
+    private RasterFx.NoiseBank dots;
+    private final SplittableRandom tileRnd;
+
+    // 찢김 띠별 오프셋(띠 수가 바뀔 때만 새로)
+    private int[] tearOffsets = new int[0];
+
+    GameOverEffects(BufferedImage noise, SplittableRandom tileRnd) {
+        this.noiseSrc = noise;
+        this.tileRnd = tileRnd;
+    }
+
+    /** 크기가 바뀌면 버퍼/레이어를 다시 만듦 */
+    void resize(int w, int h) {
+        if (w == this.w && h == this.h && frame != null) return;
+        this.w = w;
+        this.h = h;
+
+        frame = RasterFx.newImage(w, h);
+        spare = RasterFx.newImage(w, h);
+        cur = frame;
+
+        shade = null;
+        dots = null;
+        noisePx = (noiseSrc != null) ? toArgb(noiseSrc, w, h) : null;
+    }
+
+    /** 새 프레임: 여기에 배경을 그린 뒤 아래 단계들을 순서대로 부름 */
+    BufferedImage frame() {
+        cur = frame;
+        return frame;
+    }
+
+    // ===================== 단계 =====================
+
+    /** 검정 위에 alpha로 그린 것과 같은 결과(bright배 밝기) */
+    void darken(float bright) {
+        RasterFx.darken(RasterFx.pixels(cur), w, h, Math.round(256 * clamp01(bright)));
+    }
+
+    /**
+     * 그린 채널 고스트: (dx, dy)만큼 밀린 화면을 그린 톤으로 물들여 alpha로 얹음
+     * - gain: 배경이 어둡게(페이드) 그려졌을 때 고스트 밝기를 원래 이미지 수준으로 되돌리는 배율
+     */
+    void ghost(int dx, int dy, float alpha, float gain) {
+        int a = Math.round(256 * clamp01(alpha));
+        if (a <= 0) return;
+        int g = Math.round(256 * gain);
+        int r = Math.round(256 * 0.55f * gain);
+        BufferedImage dst = other();
+        RasterFx.rgbSplit(RasterFx.pixels(cur), RasterFx.pixels(dst), w, h, dx, dy, a, r, g, r);
+        cur = dst;
+    }
+
+    /**
+     * 노이즈 → 스캔라인 → 비네팅/페이드 순서(예전 그리기 순서 그대로)
+     * - noiseAlpha: 노이즈 이미지 알파(이미지가 있을 때) / noiseLevel: 폴백 점 노이즈 강도
+     * - fadeDark: 화면 전체를 검게 덮는 정도(0~1)
+     */
+    void composite(float vignette, float scanline, float noiseAlpha, float noiseLevel, float fadeDark,
+                   SplittableRandom rnd) {
+        int[] px = RasterFx.pixels(cur);
+
+        if (noisePx == null) {
+            if (dots == null) {
+                int perTile = Math.max(1, Math.round((float) MAX_DOTS * TILE * TILE / Math.max(1, w * h)));
+                dots = new RasterFx.NoiseBank(TILE_BANK, TILE, perTile, 2, tileRnd);
+            }
+            // 예전처럼 1500~4000개 흰 점(알파 0.08~0.18)
+            int amount = Math.round(256f * (1500 + 2500 * clamp01(noiseLevel)) / MAX_DOTS);
+            int alpha = Math.round(256 * (0.08f + 0.10f * noiseLevel));
+            dots.stamp(px, w, h, rnd.nextInt(TILE_BANK), rnd.nextInt(TILE), rnd.nextInt(TILE),
+                    amount, 0xffffff, alpha);
+        }
+
+        // 스캔라인은 shade 표에 같이 들어 있음 → 노이즈 이미지를 섞은 뒤에 한 번에 곱함
+        if (shade == null || vignette != shadeVignette || scanline != shadeScanline) {
+            buildShade(vignette, scanline);
+        }
+
+        int overlayAlpha = (noisePx != null) ? Math.round(256 * clamp01(noiseAlpha)) : 0;
+        int fade = Math.round(256 * (1f - clamp01(fadeDark)));
+        RasterFx.shade(px, w, h, shade, fade, noisePx, overlayAlpha);
+    }
+
+    /** 띠마다 x로 밀기. 결과 이미지를 돌려줌(tear가 0이면 그대로) */
+    BufferedImage tear(float tear, double phase, SplittableRandom rnd) {
+        if (tear <= 0.01f) return cur;
+
+        int bands = 6 + (int) (tear * 18);
+        int bandH = Math.max(6, h / bands);
+        int maxOff = (int) (6 + 40 * tear);
+
+        int n = (h + bandH - 1) / bandH;
+        if (tearOffsets.length != n) tearOffsets = new int[n];
+        for (int i = 0; i < n; i++) {
+            int off = (int) (Math.sin((phase * 0.25) + i * bandH * 0.05) * maxOff);
+            // 확률적으로 "툭" 튀는 찢김
+            if (rnd.nextDouble() < 0.08f * tear) {
+                off += rnd.nextInt(maxOff * 2 + 1) - maxOff;
+            }
+            tearOffsets[i] = off;
+        }
+
+        BufferedImage dst = other();
+        RasterFx.tear(RasterFx.pixels(cur), RasterFx.pixels(dst), w, h, bandH, tearOffsets);
+        cur = dst;
+        return cur;
+    }
+
+    private BufferedImage other() {
+        return (cur == frame) ? spare : frame;
+    }
+
+    // ===================== 레이어 만들기 =====================
+
+    // 비네팅: 중심 투명 → 65% 지점 알파 60 → 가장자리 220(바깥은 220 유지), 전체에 0.55 * vignette
+    // 스캔라인: step 줄마다 검정 0.12 * scanline(scanline 강할수록 촘촘)
+    private void buildShade(float vignette, float scanline) {
+        shadeVignette = vignette;
+        shadeScanline = scanline;
+        if (shade == null) shade = new char[w * h];
+
+        float[] row = new float[h];
+        Arrays.fill(row, 1f);
+        if (scanline > 0.01f) {
+            int step = Math.max(2, 5 - (int) (scanline * 3));
+            for (int y = 0; y < h; y += step) row[y] = 1f - 0.12f * scanline;
+        }
+
+        float vig = (vignette > 0.01f) ? 0.55f * vignette : 0f;
+        float cx = w / 2f;
+        float cy = h / 2f;
+        float radius = Math.max(w, h) * 0.65f;
+
+        for (int y = 0; y < h; y++) {
+            float dy = (y + 0.5f - cy) / radius;
+            for (int x = 0; x < w; x++) {
+                float mul = row[y];
+                if (vig > 0f) {
+                    float dx = (x + 0.5f - cx) / radius;
+                    float t = (float) Math.sqrt(dx * dx + dy * dy);
+                    float a = (t < 0.65f)
+                            ? 60f * (t / 0.65f)
+                            : (t < 1f ? 60f + 160f * ((t - 0.65f) / 0.35f) : 220f);
+                    mul *= 1f - vig * (a / 255f);
+                }
+                shade[y * w + x] = (char) Math.round(256 * mul);
+            }
+        }
+    }
+
+    // ===================== 유틸 =====================
+
+    private static int[] toArgb(BufferedImage src, int w, int h) {
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        g.drawImage(src, 0, 0, w, h, null);
+        g.dispose();
+        return RasterFx.pixels(out);
+    }
+
+    private static float clamp01(float v) {
+        if (v < 0f) return 0f;
+        if (v > 1f) return 1f;
+        return v;
+    }
+}
@@ -1,22 +1,26 @@
 package game.ui.gameover;
 
 import game.core.GameOverReason;
+import game.core.GameRandom;
+import game.core.ResourceManager;
+import game.core.Scene;
+import game.core.SceneManager;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
-import java.awt.image.RescaleOp;
-import java.net.URL;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * GameOverOverlay (v2)
  * - 스탯별 reason에 따라 텍스트/이펙트 강도/배경 이미지가 달라지는 GameOver 오버레이
  * - 효과: 페이드 + CRT 스캔라인 + 비네팅 + 화면 찢김(tear) + (선택) 그린 채널 분리/고스트 + 줌 펄스 + 텍스트 글리치
  * - 닫기: 클릭 / ESC / ENTER / SPACE
+ * - 시계는 SceneManager 루프(update=루프 스레드, paint=EDT라 lock으로 묶음)
+ * - 3초 컷 이후엔 화면이 멈춰 있으니 CUT_HZ로 낮추고, 합성해 둔 한 장만 다시 씀
  */
-public class GameOverOverlay extends JDialog {
+public class GameOverOverlay extends JDialog implements Scene {
 
     // ===================== 리소스 후보(프로젝트 구조가 달라도 최대한 찾아서 로드) =====================
     // ✅ 너희가 지금 쓰는 기본 이미지(이미 존재): /assets/images/gameover/gameover_bg.png
@@ -79,16 +83,18 @@ public class GameOverOverlay extends JDialog {
             "/assets/images/gameover/noise_social.png"
     };
 
+    // ResourceManager 씬 이름(닫힐 때 배경/노이즈 참조 해제)
+    private static final String SCENE = "gameover";
+
     // ===================== 상태 =====================
     private final JFrame owner;
     private final GameOverReason reason;
-    private final Random rnd = new Random();
+    private final SplittableRandom rnd = GameRandom.stream("gameover");
 
     private BufferedImage bg;        // 원본 배경
-    private BufferedImage bgGreen;   // 그린 틴트(고스트용)
     private BufferedImage noise;     // 노이즈 이미지(있으면)
 
-    private BufferedImage frameCache; // 찢김/줌 포함해서 한 프레임에 쓸 합성 캐시(성능/tear용)
+    private final GameOverEffects fx; // 프레임 버퍼 + 미리 만든 스캔라인/비네팅/노이즈 레이어
 
     // 애니메이션 파라미터
     private float fade = 0f;         // 0~1
@@ -103,9 +109,29 @@ public class GameOverOverlay extends JDialog {
     private int shakeX = 0;
     private int shakeY = 0;
 
-    private long tick = 0;
+    // 예전 33ms 프레임 단위로 센 경과 시간(update를 60Hz로 돌려도 움직임 속도는 그대로)
+    private double tick = 0;
+    private static final double BASE_FRAME_MS = 33.0;
+
+    // 효과가 도는 동안 / 컷 이후(정지 화면) update 주기
+    private static final int HZ = 60;
+    private static final int CUT_HZ = 4;
+
+    private final Object lock = new Object();
+    private final OverlayPanel panel;
+    private volatile boolean dirty = true;
+
+    // 엔딩별 목표 강도(startAnim에서 정함)
+    private float targetNoise, targetVignette, targetScan, targetTear;
+    private float targetGhost, targetPulse, targetTextGlitch;
+    private int shakePower;
 
-    private Timer timer;
+    // 컷 이후 정지 화면(텍스트 빼고). 크기가 바뀌면 다시 합성
+    private BufferedImage still;
+
+    // 창 너비 기준 글꼴(너비가 바뀔 때만 새로 만듦)
+    private Font titleFont, subFont, hintFont;
+    private int fontW = -1;
     
  // 시간 기반 효과 감쇠용
     private float timeFade = 1.0f;   // 1.0 → 0.0
@@ -138,12 +164,10 @@ public class GameOverOverlay extends JDialog {
         bg = loadReasonBg(this.reason, w, h);
         noise = loadReasonNoise(this.reason, w, h);
 
-        // 그린 틴트(멘탈/시스템쪽에서 쓰면 좋음)
-        if (bg != null) {
-            bgGreen = tint(bg, 0.55f, 1.00f, 0.55f); // R,G,B 스케일
-        }
+        fx = new GameOverEffects(noise, GameRandom.stream("gameover"));
 
-        setContentPane(new OverlayPanel());
+        panel = new OverlayPanel();
+        setContentPane(panel);
         setBackground(new Color(0, 0, 0, 0));
 
         // 닫기
@@ -173,22 +197,14 @@ public class GameOverOverlay extends JDialog {
     }
 
     private void close() {
-        if (timer != null) timer.stop();
+        SceneManager.shared().clearScene(this);
         dispose();
+        ResourceManager.release(SCENE);
     }
 
     // ===================== 애니메이션 강도(엔딩별) =====================
     private void startAnim() {
         // 엔딩별 “체감 차이” 확 나게 세팅함
-        final float targetNoise;
-        final float targetVignette;
-        final float targetScan;
-        final float targetTear;
-        final float targetGhost;
-        final float targetPulse;
-        final float targetTextGlitch;
-        final int shakePower;
-
         switch (reason) {
             case MENTAL_ZERO -> {
                 targetNoise = 0.55f;
@@ -244,13 +260,38 @@ public class GameOverOverlay extends JDialog {
         
         startTime = System.currentTimeMillis();
 
-        timer = new Timer(33, e -> {
-            tick++;
+        // 모달이라 setVisible이 EDT를 잡고 있어도 루프 스레드가 시계를 돌림
+        SceneManager sm = SceneManager.shared();
+        sm.setScene(this);
+        sm.start();
+    }
+
+    // ===================== Scene (SceneManager 루프 스레드) =====================
+
+    @Override
+    public void init() {
+    }
+
+    @Override
+    public void handleInput() {
+        // 닫기 입력은 리스너가 EDT에서 바로 처리
+    }
+
+    @Override
+    public long updateIntervalNs() {
+        return 1_000_000_000L / (cutDone ? CUT_HZ : HZ);
+    }
+
+    @Override
+    public void update() {
+        synchronized (lock) {
+            if (cutDone) return;
 
             long elapsed = System.currentTimeMillis() - startTime;
+            tick = elapsed / BASE_FRAME_MS;
 
             // 항상 페이드 인은 진행
-            fade = Math.min(1.0f, fade + 0.04f);
+            fade = Math.min(1.0f, (float) tick * 0.04f);
 
             // 🔥 3초 전: 정신없는 상태
             if (elapsed < EFFECT_DURATION_MS) {
@@ -269,27 +310,29 @@ public class GameOverOverlay extends JDialog {
             }
             // ❗ 3초 이후: 툭! 하고 정적
             else {
-
-                if (!cutDone) {
-                    // 한 번만 실행되는 컷 연출
-                    noiseAlpha = 0f;
-                    vignette   = 0f;
-                    scanline   = 0f;
-                    tear       = 0f;
-                    ghost      = 0f;
-                    pulse      = 0f;
-                    textGlitch = 0f;
-                    shakeX = 0;
-                    shakeY = 0;
-
-                    cutDone = true;
-                }
+                // 한 번만 실행되는 컷 연출(이후 update는 바로 돌아감)
+                fade       = 1f;
+                noiseAlpha = 0f;
+                vignette   = 0f;
+                scanline   = 0f;
+                tear       = 0f;
+                ghost      = 0f;
+                pulse      = 0f;
+                textGlitch = 0f;
+                shakeX = 0;
+                shakeY = 0;
+
+                cutDone = true;
             }
+        }
+        dirty = true;
+    }
 
-            repaint();
-        });
-        timer.start();
-
+    @Override
+    public void render() {
+        if (!dirty) return;
+        dirty = false;
+        panel.repaint();
     }
 
     private float approach(float cur, float target, float step) {
@@ -322,7 +365,7 @@ public class GameOverOverlay extends JDialog {
         if (s == null || s.isEmpty()) return s;
         // 확률적으로만 깨기
         float chance = 0.08f + 0.20f * textGlitch;
-        if (rnd.nextFloat() > chance) return s;
+        if (rnd.nextDouble() > chance) return s;
 
         char[] a = s.toCharArray();
         int n = 1 + rnd.nextInt(Math.max(1, a.length / 6));
@@ -343,154 +386,107 @@ public class GameOverOverlay extends JDialog {
             int W = getWidth();
             int H = getHeight();
 
-            // 프레임 캐시(tear/줌 처리용)
-            if (frameCache == null || frameCache.getWidth() != W || frameCache.getHeight() != H) {
-                frameCache = new BufferedImage(W, H, BufferedImage.TYPE_INT_ARGB);
+            synchronized (lock) {
+                // 컷 이후엔 멈춘 화면이라 래스터 합성은 크기가 바뀔 때만
+                BufferedImage img = still;
+                if (img == null || img.getWidth() != W || img.getHeight() != H) {
+                    img = composeFrame(W, H);
+                    still = cutDone ? img : null;
+                }
+
+                // 3) 실제 화면에 뿌리기
+                Graphics2D g2 = (Graphics2D) g.create();
+                g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, clamp01(fade)));
+                g2.drawImage(img, 0, 0, null);
+
+                // 4) 텍스트(글리치 포함)
+                drawCenteredText(g2, W, H);
+
+                g2.dispose();
             }
+        }
+
+        // 배경 + RasterFx 효과 + 찢김까지 합성한 프레임(fx 버퍼)
+        private BufferedImage composeFrame(int W, int H) {
+            fx.resize(W, H);
 
-            // 1) 프레임 합성(배경/고스트/노이즈/스캔라인/비네팅)
-            Graphics2D fg = frameCache.createGraphics();
-            fg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            // 1) 배경만 Graphics로(줌/흔들림 때문에 매 프레임 스케일)
+            Graphics2D fg = fx.frame().createGraphics();
 
             // base black
-            fg.setComposite(AlphaComposite.SrcOver);
+            fg.setComposite(AlphaComposite.Src);
             fg.setColor(Color.BLACK);
             fg.fillRect(0, 0, W, H);
 
-            // 줌 펄스(심박/불안)
-            float zoom = 1.0f + (float)Math.sin(tick * 0.10) * (0.03f + 0.05f * pulse);
+            // 줌 펄스(심박/불안). 컷 이후엔 원래 크기로 멈춤
+            float zoom = cutDone ? 1.0f : 1.0f + (float)Math.sin(tick * 0.10) * (0.03f + 0.05f * pulse);
             int zw = (int)(W * zoom);
             int zh = (int)(H * zoom);
             int zx = (W - zw) / 2;
             int zy = (H - zh) / 2;
 
-            // 배경 이미지
+            // 배경 이미지(불투명하게 그리고 0.60 * fade 밝기는 아래 darken으로: 알파 합성보다 훨씬 쌈)
             if (bg != null) {
-                fg.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.60f * clamp01(fade)));
+                fg.setComposite(AlphaComposite.SrcOver);
                 fg.drawImage(bg, zx + shakeX, zy + shakeY, zw, zh, null);
-
-                // 그린 고스트(채널 분리 느낌)
-                if (bgGreen != null && ghost > 0.01f) {
-                    int ox = shakeX + (int)(Math.sin(tick * 0.35) * (6 + 18 * ghost));
-                    int oy = shakeY + (int)(Math.cos(tick * 0.27) * (3 + 10 * ghost));
-                    fg.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.25f * ghost));
-                    fg.drawImage(bgGreen, zx + ox, zy + oy, zw, zh, null);
-                }
-            }
-
-            // 노이즈 이미지(있으면)
-            if (noise != null) {
-                float a = clamp01(noiseAlpha) * (0.65f + 0.35f * (float)Math.sin(tick * 0.18));
-                fg.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, a));
-                fg.drawImage(noise, 0, 0, W, H, null);
-            } else {
-                // 폴백 노이즈(점)
-                fg.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.08f + 0.10f * noiseAlpha));
-                fg.setColor(Color.WHITE);
-                int dots = 1500 + (int)(2500 * noiseAlpha);
-                for (int i = 0; i < dots; i++) {
-                    int x = rnd.nextInt(W);
-                    int y = rnd.nextInt(H);
-                    fg.drawRect(x, y, 1, 1);
-                }
             }
-
-            // CRT 스캔라인
-            if (scanline > 0.01f) {
-                fg.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.12f * scanline));
-                fg.setColor(Color.BLACK);
-                int step = Math.max(2, 5 - (int)(scanline * 3)); // scanline 강할수록 촘촘
-                for (int y = 0; y < H; y += step) {
-                    fg.drawLine(0, y, W, y);
-                }
-            }
-
-            // 비네팅(가장자리 어둡게)
-            if (vignette > 0.01f) {
-                Paint old = fg.getPaint();
-                fg.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.55f * vignette));
-                RadialGradientPaint rgp = new RadialGradientPaint(
-                        new Point(W / 2, H / 2),
-                        (float)Math.max(W, H) * 0.65f,
-                        new float[]{0.0f, 0.65f, 1.0f},
-                        new Color[]{
-                                new Color(0, 0, 0, 0),
-                                new Color(0, 0, 0, 60),
-                                new Color(0, 0, 0, 220)
-                        }
-                );
-                fg.setPaint(rgp);
-                fg.fillRect(0, 0, W, H);
-                fg.setPaint(old);
-            }
-
-            // 페이드(전체 어둡게 + 등장)
-            fg.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.90f * clamp01(fade)));
-            fg.setColor(new Color(0, 0, 0, 40));
-            fg.fillRect(0, 0, W, H);
-
             fg.dispose();
-
-            // 2) 찢김(tear) 적용해서 실제 화면에 뿌리기
-            Graphics2D g2 = (Graphics2D) g.create();
-            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, clamp01(fade)));
-
-            if (tear <= 0.01f) {
-                g2.drawImage(frameCache, 0, 0, null);
-            } else {
-                // 화면을 여러 띠로 나눠서 x오프셋을 다르게(tear)
-                int bands = 6 + (int)(tear * 18);
-                int bandH = Math.max(6, H / bands);
-
-                for (int y = 0; y < H; y += bandH) {
-                    int h = Math.min(bandH, H - y);
-
-                    // 띠별 오프셋: 멘탈에서 더 크게
-                    int maxOff = (int)(6 + 40 * tear);
-                    int off = (int)(Math.sin((tick * 0.25) + y * 0.05) * maxOff);
-                    // 확률적으로 “툭” 튀는 찢김
-                    if (rnd.nextFloat() < 0.08f * tear) {
-                        off += rnd.nextInt(maxOff * 2 + 1) - maxOff;
-                    }
-
-                    g2.drawImage(frameCache,
-                            off, y, off + W, y + h,
-                            0, y, W, y + h,
-                            null);
-                }
+            if (bg != null) fx.darken(0.60f * clamp01(fade));
+
+            // 2) 고스트/노이즈/스캔라인/비네팅/페이드는 RasterFx로 픽셀 직접 합성
+            // 그린 고스트(채널 분리 느낌): 그려진 배경을 밀어서 그린 톤으로 한 번 더
+            if (bg != null && ghost > 0.01f) {
+                int ox = (int)(Math.sin(tick * 0.35) * (6 + 18 * ghost));
+                int oy = (int)(Math.cos(tick * 0.27) * (3 + 10 * ghost));
+                float gain = Math.min(4f, 1f / Math.max(0.01f, 0.60f * clamp01(fade)));
+                fx.ghost(ox, oy, 0.25f * ghost, gain);
             }
 
-            // 3) 텍스트(글리치 포함)
-            drawCenteredText(g2, W, H);
+            float noiseA = clamp01(noiseAlpha) * (0.65f + 0.35f * (float)Math.sin(tick * 0.18));
+            float fadeDark = 0.90f * clamp01(fade) * (40f / 255f);
+            fx.composite(vignette, scanline, noiseA, noiseAlpha, fadeDark, rnd);
 
-            g2.dispose();
+            // 찢김(tear)
+            return fx.tear(tear, tick, rnd);
         }
 
         private void drawCenteredText(Graphics2D g2, int W, int H) {
             g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
+            if (fontW != W) {
+                titleFont = new Font("Dialog", Font.BOLD, Math.max(58, W / 16));
+                subFont = new Font("Dialog", Font.PLAIN, Math.max(22, W / 45));
+                hintFont = new Font("Dialog", Font.PLAIN, Math.max(16, W / 70));
+                fontW = W;
+            }
+
+            // 컷 이후엔 글자도 멈춤(다시 그려질 때마다 깨지지 않게)
             String t1 = endingTitle();
-            String t2 = glitchify(endingSubBase());
+            String t2 = cutDone ? endingSubBase() : glitchify(endingSubBase());
             String t3 = endingHint();
 
             int cx = W / 2;
             int cy = H / 2;
 
             // 타이틀(약간 흔들/글리치)
-            int tx = cx + (int)(Math.sin(tick * 0.40) * (2 + 6 * textGlitch));
-            int ty = cy - 60 + (int)(Math.cos(tick * 0.33) * (1 + 4 * textGlitch));
+            int tx = cx;
+            int ty = cy - 60;
+            if (!cutDone) {
+                tx += (int)(Math.sin(tick * 0.40) * (2 + 6 * textGlitch));
+                ty += (int)(Math.cos(tick * 0.33) * (1 + 4 * textGlitch));
+            }
 
             g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, clamp01(fade)));
-            g2.setFont(new Font("Dialog", Font.BOLD, Math.max(58, W / 16)));
+            g2.setFont(titleFont);
             drawStringCenterGlow(g2, t1, tx, ty, 2 + (int)(3 * textGlitch));
 
             // 서브
-            g2.setFont(new Font("Dialog", Font.PLAIN, Math.max(22, W / 45)));
+            g2.setFont(subFont);
             drawStringCenterGlow(g2, t2, cx, cy + 10, 1);
 
             // 힌트(하단)
             g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.65f));
-            g2.setFont(new Font("Dialog", Font.PLAIN, Math.max(16, W / 70)));
+            g2.setFont(hintFont);
             drawStringCenter(g2, t3, cx, H - 55, new Color(200, 255, 200));
         }
 
@@ -562,44 +558,17 @@ public class GameOverOverlay extends JDialog {
         return img;
     }
 
+    // 없는 후보는 ResourceManager가 기억해둬서 다음 오버레이부터는 바로 건너뜀
     private BufferedImage loadFirstImage(String[] candidates, int w, int h) {
         for (String p : candidates) {
             if (p == null || p.isBlank()) continue;
-            URL url = getClass().getResource(p);
-            if (url != null) {
-                ImageIcon icon = new ImageIcon(url);
-                Image image = icon.getImage();
-                return toBufferedScaled(image, w, h);
-            }
+            BufferedImage img = ResourceManager.scaled(SCENE, p, w, h, true);
+            if (img != null) return img;
         }
         return null;
     }
 
-    // ===================== 이미지 유틸 =====================
-    private BufferedImage toBufferedScaled(Image src, int w, int h) {
-        if (src == null) return null;
-        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2 = out.createGraphics();
-        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-        g2.drawImage(src, 0, 0, w, h, null);
-        g2.dispose();
-        return out;
-    }
-
-    // 간단 틴트(채널 스케일)
-    private BufferedImage tint(BufferedImage src, float r, float g, float b) {
-        BufferedImage out = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2 = out.createGraphics();
-        g2.drawImage(src, 0, 0, null);
-        g2.dispose();
-
-        float[] scales = new float[]{r, g, b, 1.0f};
-        float[] offsets = new float[]{0, 0, 0, 0};
-        RescaleOp op = new RescaleOp(scales, offsets, null);
-        op.filter(out, out);
-        return out;
-    }
-
+    // ===================== 유틸 =====================
     private float clamp01(float v) {
         if (v < 0f) return 0f;
         if (v > 1f) return 1f;
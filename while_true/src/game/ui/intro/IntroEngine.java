@@ -0,0 +1,590 @@
+package game.ui.intro;
+
+import game.core.GameRandom;
+import game.core.ResourceManager;
+import game.core.Scene;
+import game.core.SceneManager;
+import game.ui.RasterFx;
+import game.ui.Typewriter;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.awt.font.GlyphVector;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * IntroEngine (인트로 재생기)
+ *
+ * [역할]
+ * - IntroScript 씬들을 창 하나(JWindow)에서 순서대로 재생함. 씬이 바뀔 때 창을 새로 띄우지 않음
+ * - 시계는 SceneManager 루프 하나: update 한 번 = 1/60초
+ *   - 타이핑/페이드/줌/흔들림/노이즈/전환 문구가 전부 이 틱 수로 움직임(씬마다 Swing Timer 여러 개 대신)
+ * - 지금 씬이 도는 동안 다음 씬 배경을 ResourceManager.preload로 미리 디코딩/스케일해 둠
+ *
+ * [그리기]
+ * - base(배경 + 노이즈/라인) → frame(base + 박스/대사) 두 단계
+ * - 효과/줌/페이드가 바뀐 틱만 base부터 다시, 타이핑만 바뀐 틱은 바뀐 글자 영역만 frame에 다시 그림
+ * - 상태는 루프 스레드(update)와 EDT(paint)가 같이 보니까 lock으로 묶음
+ *
+ * [한줄 요약]
+ * - new IntroEngine(씬 목록, 끝나면 할 일).play() 로 인트로 전체 재생.
+ */
+final class IntroEngine extends JWindow implements Scene {
+
+    /** ResourceManager에 배경을 잡아둘 장면 이름 */
+    private static final String RES = "intro";
+
+    private static final int W = 1200, H = 900;
+    private static final int HZ = 60;
+    private static final Rectangle SCREEN = new Rectangle(0, 0, W, H);
+
+    // 노이즈 타일(점 1~2px)
+    private static final int NOISE_TILE = 256;
+    private static final int NOISE_TILES = 4;
+
+    // 전환 문구(end interlude): 크게 나왔다가 틱마다 줄어듦
+    private static final String INTERLUDE_FONT = "맑은 고딕";
+    private static final int INTERLUDE_SIZE = 70;
+    private static final float INTERLUDE_SCALE = 2.4f;
+    private static final float INTERLUDE_SHRINK = 0.18f;
+    private static final int INTERLUDE_FLASH_TICKS = 6;
+    private static final int INTERLUDE_DOTS = 180;
+
+    private static final Font HINT_FONT = new Font("맑은 고딕", Font.PLAIN, 18);
+    private static final Color HINT_COLOR = new Color(170, 255, 190, 191);
+
+    private enum Phase { TYPING, HOLD, FADE_OUT, INTERLUDE, WAIT, DONE }
+
+    private final List<IntroScript.SceneDef> scenes;
+    private final Runnable onAllFinished;
+    private final SplittableRandom rnd = GameRandom.stream("intro");
+    private final Object lock = new Object();
+
+    // 합성 버퍼(창 크기가 고정이라 한 번만 만듦)
+    private final BufferedImage bgRaster = RasterFx.newImage(W, H);
+    private final BufferedImage base = RasterFx.newImage(W, H);
+    private final BufferedImage frame = RasterFx.newImage(W, H);
+
+    // ===== 지금 씬 =====
+    private int index = -1;
+    private IntroScript.SceneDef cur;
+    private Typewriter typer;
+    private RasterFx.NoiseBank noise;
+    private int noiseMax;
+    private Phase phase = Phase.DONE;
+    private long tick;                       // 씬 시작 뒤 update 횟수
+    private long phaseMs, nextTypeMs, nextFxMs;
+
+    // ===== 연출 값 =====
+    private float fade = 1f, fadeFrom = 1f;
+    private float zoom = 1f;
+    private int zoomW = W;
+    private int darkAlpha = 0;
+    private int shakeX, shakeY, shakeLeft;
+    private int noiseIndex, noiseOx, noiseOy, noiseAmount, noiseAlpha;
+    private int[] lineSpec = new int[5 * 32];   // (x, y, len, rgb, alpha) 5개씩
+    private int lineN = 0;
+    private boolean cursorOn = false;
+
+    // ===== 전환 문구 =====
+    private float interScale;
+    private int interFlash, interShake, flashY;
+    private long interDoneMs;
+    private final Map<Integer, GlyphVector> interGlyphs = new HashMap<>();
+
+    // ===== 다시 그릴 범위 =====
+    private boolean baseDirty, frameStale, repaintAll;
+    private final Rectangle dirty = new Rectangle();
+
+    // 입력(EDT → 다음 update). -1 없음, 0 마우스, 그 외 키 코드
+    private volatile int pendingInput = -1;
+
+    private final JComponent panel = new JComponent() {
+        @Override
+        protected void paintComponent(Graphics g) {
+            paintFrame(g);
+        }
+    };
+
+    IntroEngine(List<IntroScript.SceneDef> scenes, Runnable onAllFinished) {
+        this.scenes = List.copyOf(scenes);
+        this.onAllFinished = onAllFinished;
+
+        setSize(W, H);
+        setLocationRelativeTo(null);
+        setAlwaysOnTop(true);
+
+        panel.setOpaque(true);
+        setContentPane(panel);
+
+        // 스킵 판정은 씬마다 달라서 update에서(여기선 입력만 넘김)
+        addMouseListener(new MouseAdapter() {
+            @Override public void mousePressed(MouseEvent e) { pendingInput = 0; }
+        });
+        addKeyListener(new KeyAdapter() {
+            @Override public void keyPressed(KeyEvent e) { pendingInput = e.getKeyCode(); }
+        });
+    }
+
+    /** EDT에서 호출: 첫 씬을 준비하고 창을 띄운 뒤 루프에 붙임 */
+    void play() {
+        synchronized (lock) {
+            enter(0);
+        }
+        setVisible(true);
+        requestFocus();
+
+        SceneManager sm = SceneManager.shared();
+        sm.setScene(this);
+        sm.start();
+    }
+
+    // ===================== 씬 전환 =====================
+
+    private void enter(int i) {
+        index = i;
+        cur = scenes.get(i);
+
+        // 미리 로드가 아직 돌고 있으면 그 결과를 같이 기다림
+        BufferedImage bg = ResourceManager.scaled(RES, cur.bg, W, H, true);
+        Graphics2D g = bgRaster.createGraphics();
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, W, H);
+        if (bg != null) g.drawImage(bg, 0, 0, null);
+        g.dispose();
+
+        if (i + 1 < scenes.size()) {
+            String nextBg = scenes.get(i + 1).bg;
+            ResourceManager.preload(() -> ResourceManager.scaled(RES, nextBg, W, H, true));
+        }
+
+        typer = new Typewriter(cur.lines.toArray(new String[0]), cur.font,
+                cur.boxX + cur.textDx, cur.boxY + cur.textDy, cur.lineGap);
+        if (cur.cursorBlinkMs > 0) typer.withCursor("▮", cur.font, 6);
+
+        // 가장 많이 찍을 때 기준 밀도로 타일을 만들고, 틱마다 비율(amount)만 바꿈
+        noiseMax = Math.max(cur.noiseDots.max(), cur.end == IntroScript.End.INTERLUDE ? INTERLUDE_DOTS : 0);
+        noise = null;
+        if (noiseMax > 0) {
+            int perTile = Math.max(1, Math.round((float) noiseMax * NOISE_TILE * NOISE_TILE / (W * H)));
+            noise = new RasterFx.NoiseBank(NOISE_TILES, NOISE_TILE, perTile, 2, rnd.split());
+        }
+        interGlyphs.clear();
+
+        tick = 0;
+        phase = Phase.TYPING;
+        phaseMs = 0;
+        nextTypeMs = cur.typeMs;
+        nextFxMs = 0;
+
+        fade = fadeFrom = (cur.fadeMs > 0) ? 0f : 1f;
+        zoom = 1f;
+        zoomW = W;
+        darkAlpha = 0;
+        shakeX = shakeY = shakeLeft = 0;
+        noiseAmount = 0;
+        lineN = 0;
+        cursorOn = false;
+        interDoneMs = -1;
+        markBaseStale();
+    }
+
+    private void next() {
+        if (index + 1 < scenes.size()) {
+            enter(index + 1);
+            return;
+        }
+
+        phase = Phase.DONE;
+        SceneManager.shared().clearScene(this);
+        SwingUtilities.invokeLater(() -> {
+            setVisible(false);
+            dispose();
+            ResourceManager.release(RES);
+            if (onAllFinished != null) onAllFinished.run();
+        });
+    }
+
+    // ===================== Scene (루프 스레드) =====================
+
+    @Override
+    public void init() {
+    }
+
+    @Override
+    public void handleInput() {
+        // 입력은 리스너가 pendingInput에 넣고 update에서 꺼냄
+    }
+
+    @Override
+    public long updateIntervalNs() {
+        return 1_000_000_000L / HZ;
+    }
+
+    @Override
+    public void update() {
+        synchronized (lock) {
+            if (cur == null || phase == Phase.DONE) return;
+            long ms = tick++ * 1000 / HZ;
+
+            int in = pendingInput;
+            if (in >= 0) {
+                pendingInput = -1;
+                if (skip(in, ms)) return;
+            }
+
+            if (advance(ms)) return;
+            effects(ms);
+        }
+    }
+
+    @Override
+    public void render() {
+        boolean all;
+        Rectangle r = null;
+        synchronized (lock) {
+            all = repaintAll;
+            repaintAll = false;
+            if (!all && !dirty.isEmpty()) r = new Rectangle(dirty);
+            dirty.setBounds(0, 0, 0, 0);
+        }
+        if (all) panel.repaint();
+        else if (r != null) panel.repaint(r);
+    }
+
+    // ===================== 진행 =====================
+
+    /** 입력 처리. 다음 씬으로 넘어갔으면 true */
+    private boolean skip(int in, long ms) {
+        if (cur.skip == IntroScript.Skip.CUT) {
+            next();
+            return true;
+        }
+        boolean skipKey = in == 0 || in == KeyEvent.VK_SPACE || in == KeyEvent.VK_ENTER;
+        if (skipKey && phase != Phase.FADE_OUT) startFadeOut(ms);
+        return false;
+    }
+
+    /** 단계 진행. 다음 씬으로 넘어갔으면 true */
+    private boolean advance(long ms) {
+        switch (phase) {
+            case TYPING -> type(ms);
+            case HOLD -> {
+                if (ms - phaseMs < cur.holdMs) break;
+                switch (cur.end) {
+                    case FADE -> startFadeOut(ms);
+                    case CUT -> {
+                        next();
+                        return true;
+                    }
+                    case WAIT -> phase = Phase.WAIT;
+                    case INTERLUDE -> startInterlude(ms);
+                }
+            }
+            case FADE_OUT -> {
+                float f = (cur.fadeMs > 0) ? fadeFrom - (ms - phaseMs) / (float) cur.fadeMs : 0f;
+                if (f <= 0f) {
+                    next();
+                    return true;
+                }
+                setFade(f);
+            }
+            case INTERLUDE -> {
+                if (interDoneMs < 0) {
+                    interScale = Math.max(1f, interScale - INTERLUDE_SHRINK);
+                    if (interFlash > 0) interFlash--;
+                    flashY = H / 2 + rnd.nextInt(41) - 20;
+                    if (interScale <= 1f) interDoneMs = ms;
+                    markBaseStale();
+                } else if (ms - interDoneMs >= cur.interludeHoldMs) {
+                    next();
+                    return true;
+                }
+            }
+            case WAIT, DONE -> { }
+        }
+        return false;
+    }
+
+    // 한 글자씩. 줄이 끝나면 다음 줄로 넘기고 linePauseMs 뒤에 다음 글자
+    private void type(long ms) {
+        if (ms < nextTypeMs) return;
+
+        if (typer.done()) {
+            phase = Phase.HOLD;
+            phaseMs = ms;
+            return;
+        }
+        if (typer.typeNext()) {
+            nextTypeMs += cur.typeMs;
+        } else {
+            typer.nextLine();
+            nextTypeMs += cur.linePauseMs;
+        }
+        addDirty(typer.dirty());
+    }
+
+    private void startFadeOut(long ms) {
+        fadeFrom = fade;
+        phase = Phase.FADE_OUT;
+        phaseMs = ms;
+    }
+
+    private void startInterlude(long ms) {
+        phase = Phase.INTERLUDE;
+        phaseMs = ms;
+        interScale = INTERLUDE_SCALE;
+        interFlash = INTERLUDE_FLASH_TICKS;
+        interShake = 0;
+        interDoneMs = -1;
+        shakeX = shakeY = 0;
+        roll(1f);
+    }
+
+    // 페이드 인/줌/어둡게/커서/효과 틱
+    private void effects(long ms) {
+        float t = (cur.rampMs > 0) ? Math.min(1f, ms / (float) cur.rampMs) : 1f;
+
+        if (phase != Phase.FADE_OUT && cur.fadeMs > 0) setFade(ms / (float) cur.fadeMs);
+
+        if (cur.zoomMs > 0 && phase != Phase.FADE_OUT) {
+            zoom = 1f + (cur.zoomEnd - 1f) * Math.min(1f, ms / (float) cur.zoomMs);
+            int zw = Math.round(W * zoom);
+            if (zw != zoomW) {
+                zoomW = zw;
+                markBaseStale();
+            }
+        }
+
+        int d = cur.darken.isZero() ? 0 : cur.darken.at(t, rnd);
+        if (d != darkAlpha) {
+            darkAlpha = d;
+            markStale();
+        }
+
+        if (cur.cursorBlinkMs > 0 && phase != Phase.INTERLUDE) {
+            boolean on = (ms / cur.cursorBlinkMs) % 2 == 0;
+            if (on != cursorOn) {
+                cursorOn = on;
+                addDirty(typer.bounds());
+            }
+        }
+
+        if (cur.fxMs > 0 && ms >= nextFxMs) {
+            nextFxMs += cur.fxMs;
+            roll(t);
+        }
+    }
+
+    private void setFade(float f) {
+        f = Math.max(0f, Math.min(1f, f));
+        if (f == fade) return;
+        fade = f;
+        markStale();
+    }
+
+    // 효과 틱: 흔들림/노이즈/라인을 새로 뽑음(그리기는 paint에서 이 값으로만)
+    private void roll(float t) {
+        lineN = 0;
+
+        if (phase == Phase.INTERLUDE) {
+            interShake = (rnd.nextInt(100) < 25) ? sign() * (1 + rnd.nextInt(3)) : 0;
+            rollNoise(INTERLUDE_DOTS, 31);
+            for (int i = 0; i < 6; i++) addLine(80 + rnd.nextInt(260), 0x78ffa0, 26);
+            markBaseStale();
+            return;
+        }
+
+        if (shakeLeft > 0) {
+            shakeLeft--;
+        } else if (!cur.shakeChance.isZero() && rnd.nextInt(100) < cur.shakeChance.at(t, rnd)) {
+            shakeX = sign() * cur.shakeX.at(t, rnd);
+            shakeY = sign() * cur.shakeY.at(t, rnd);
+            shakeLeft = Math.max(0, cur.shakeHold.at(t, rnd) - 1);
+        } else {
+            shakeX = shakeY = 0;
+        }
+
+        if (!cur.noiseDots.isZero()) rollNoise(cur.noiseDots.at(t, rnd), cur.noiseAlpha.at(t, rnd));
+
+        int count = cur.lineCount.at(t, rnd);
+        int alpha = cur.lineAlpha.at(t, rnd);
+        for (int i = 0; i < count; i++) {
+            int len = cur.lineLen.at(t, rnd);
+            int at = addLine(len, cur.lineRgb, alpha);
+
+            // 가끔 바로 아래에 흰 줄 하나 더(찢김)
+            if (!cur.lineDouble.isZero() && rnd.nextInt(100) < cur.lineDouble.at(t, rnd)) {
+                putLine(lineSpec[at] + rnd.nextInt(15), Math.min(H - 1, lineSpec[at + 1] + 2),
+                        Math.max(5, len - rnd.nextInt(30)), 0xffffff, alpha / 2);
+            }
+        }
+        markBaseStale();
+    }
+
+    private void rollNoise(int dots, int alpha) {
+        if (noise == null) return;
+        noiseIndex = rnd.nextInt(noise.count());
+        noiseOx = rnd.nextInt(NOISE_TILE);
+        noiseOy = rnd.nextInt(NOISE_TILE);
+        noiseAmount = Math.min(256, dots * 256 / noiseMax);
+        noiseAlpha = alpha;
+    }
+
+    // 화면 안 임의 위치에 len 길이 줄. 넣은 칸 번호를 돌려줌
+    private int addLine(int len, int rgb, int alpha) {
+        int y = rnd.nextInt(H);
+        int x = rnd.nextInt(Math.max(1, W - len));
+        return putLine(x, y, len, rgb, alpha);
+    }
+
+    private int putLine(int x, int y, int len, int rgb, int alpha) {
+        int at = lineN * 5;
+        if (at + 5 > lineSpec.length) lineSpec = Arrays.copyOf(lineSpec, lineSpec.length * 2);
+        lineSpec[at] = x;
+        lineSpec[at + 1] = y;
+        lineSpec[at + 2] = len;
+        lineSpec[at + 3] = rgb;
+        lineSpec[at + 4] = alpha;
+        lineN++;
+        return at;
+    }
+
+    private int sign() {
+        return rnd.nextBoolean() ? 1 : -1;
+    }
+
+    private void markBaseStale() {
+        baseDirty = true;
+        markStale();
+    }
+
+    private void markStale() {
+        frameStale = true;
+        repaintAll = true;
+    }
+
+    private void addDirty(Rectangle r) {
+        if (r.isEmpty()) return;
+        if (dirty.isEmpty()) dirty.setBounds(r);
+        else dirty.add(r);
+    }
+
+    // ===================== 그리기 (EDT) =====================
+
+    private void paintFrame(Graphics g) {
+        synchronized (lock) {
+            if (cur == null) return;
+
+            if (baseDirty) {
+                composeBase();
+                baseDirty = false;
+                frameStale = true;
+            }
+
+            // 페이드/어둡게가 걸려 있으면 글자 영역만 다시 그릴 수 없음(곱하기가 frame 전체에 들어가 있음)
+            int mul = Math.round(256 * fade * (255 - darkAlpha) / 255f);
+            Rectangle clip = g.getClipBounds();
+            if (frameStale || mul < 256 || clip == null) {
+                composeFrame(SCREEN);
+                if (mul < 256) RasterFx.darken(RasterFx.pixels(frame), W, H, mul);
+                frameStale = false;
+            } else {
+                Rectangle r = clip.intersection(SCREEN);
+                if (!r.isEmpty()) composeFrame(r);
+            }
+            g.drawImage(frame, 0, 0, null);
+        }
+    }
+
+    // 배경(줌/흔들림) + 노이즈 + 라인. 전환 중엔 검은 바탕에 노이즈/플래시만
+    private void composeBase() {
+        int[] px = RasterFx.pixels(base);
+
+        if (phase == Phase.INTERLUDE) {
+            Arrays.fill(px, 0);
+        } else if (zoomW == W) {
+            RasterFx.shift(RasterFx.pixels(bgRaster), px, W, H, shakeX, shakeY);
+        } else {
+            Graphics2D g = base.createGraphics();
+            g.setColor(Color.BLACK);
+            g.fillRect(0, 0, W, H);
+            int dh = Math.round(H * zoom);
+            g.drawImage(bgRaster, (W - zoomW) / 2 + shakeX, (H - dh) / 2 + shakeY, zoomW, dh, null);
+            g.dispose();
+        }
+
+        if (noise != null && noiseAmount > 0) {
+            noise.stamp(px, W, H, noiseIndex, noiseOx, noiseOy, noiseAmount, 0xffffff, noiseAlpha);
+        }
+        for (int i = 0; i < lineN; i++) {
+            int at = i * 5;
+            RasterFx.hline(px, W, H, lineSpec[at], lineSpec[at + 1], lineSpec[at + 2], lineSpec[at + 3], lineSpec[at + 4]);
+        }
+
+        if (phase == Phase.INTERLUDE && interFlash > 0) {
+            RasterFx.hline(px, W, H, 0, flashY, W, 0x78ffa0, 51);
+            RasterFx.hline(px, W, H, 0, flashY + 1, W, 0x78ffa0, 51);
+        }
+    }
+
+    // base의 r 영역을 frame에 복사하고 그 위에 박스/대사(또는 전환 문구)
+    private void composeFrame(Rectangle r) {
+        int[] src = RasterFx.pixels(base);
+        int[] dst = RasterFx.pixels(frame);
+        for (int y = r.y, end = r.y + r.height; y < end; y++) {
+            System.arraycopy(src, y * W + r.x, dst, y * W + r.x, r.width);
+        }
+
+        Graphics2D g = frame.createGraphics();
+        g.clipRect(r.x, r.y, r.width, r.height);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+        if (phase == Phase.INTERLUDE) paintInterlude(g);
+        else paintText(g);
+        g.dispose();
+    }
+
+    private void paintText(Graphics2D g) {
+        if (cur.boxFill != null) {
+            g.setColor(cur.boxFill);
+            g.fillRoundRect(cur.boxX, cur.boxY, cur.boxW, cur.boxH, cur.boxArc, cur.boxArc);
+        }
+        if (cur.boxBorder != null) {
+            g.setColor(cur.boxBorder);
+            g.drawRoundRect(cur.boxX, cur.boxY, cur.boxW, cur.boxH, cur.boxArc, cur.boxArc);
+        }
+
+        g.setColor(cur.textColor);
+        typer.paint(g);
+        if (cursorOn) typer.paintCursor(g);
+
+        if (cur.hint != null) {
+            g.setFont(HINT_FONT);
+            g.setColor(HINT_COLOR);
+            g.drawString(cur.hint, cur.boxX + 40, cur.boxY + cur.boxH + 40);
+        }
+    }
+
+    // 중앙 문구(수축이 끝나면 같은 크기라 글리프 재사용)
+    private void paintInterlude(Graphics2D g) {
+        int size = Math.max(12, Math.round(INTERLUDE_SIZE * interScale));
+        GlyphVector gv = interGlyphs.computeIfAbsent(size, s ->
+                new Font(INTERLUDE_FONT, Font.BOLD, s).createGlyphVector(g.getFontRenderContext(), cur.interludeText));
+
+        int textW = (int) Math.round(gv.getLogicalBounds().getWidth());
+        int x = (W - textW) / 2 + interShake;
+        int y = H / 2 + interShake;
+
+        // 외곽선(네온) + 본문
+        g.setColor(new Color(120, 255, 160, 217));
+        g.drawGlyphVector(gv, x + 2, y + 2);
+        g.setColor(new Color(230, 255, 235));
+        g.drawGlyphVector(gv, x, y);
+    }
+}
@@ -0,0 +1,286 @@
+package game.ui.intro;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * IntroScript (인트로 스크립트 읽기)
+ * - assets/intro/intro_script.txt 를 씬 목록(SceneDef)으로 바꿈. 형식 설명은 파일 맨 위 주석
+ * - 한 줄 = "키 값..." 하나. 대사/연출 숫자를 고칠 때 자바 코드는 안 건드려도 됨
+ * - 잘못된 줄이 있으면 몇 번째 줄인지 담아서 IOException
+ *
+ * [한줄 요약]
+ * - IntroScript.load() → IntroEngine이 순서대로 재생.
+ */
+final class IntroScript {
+
+    static final String PATH = "/assets/intro/intro_script.txt";
+
+    /** 타이핑이 끝나고 hold 뒤에 할 일 */
+    enum End { FADE, CUT, WAIT, INTERLUDE }
+
+    /** 입력이 왔을 때: FADE = 클릭/SPACE/ENTER로 페이드 아웃, CUT = 클릭/아무 키로 바로 다음 씬 */
+    enum Skip { FADE, CUT }
+
+    /** 씬 하나(파서가 채우고 나서는 읽기만 함) */
+    static final class SceneDef {
+        String name;
+        String bg;
+
+        int boxX, boxY, boxW, boxH, boxArc;
+        Color boxFill, boxBorder;                       // null이면 안 그림
+
+        Font font = new Font("Dialog", Font.PLAIN, 24);
+        int textDx = 30, textDy = 55, lineGap = 32;
+        Color textColor = Color.WHITE;
+
+        int typeMs = 40, linePauseMs = 40;
+        int cursorBlinkMs = 0;                          // 0이면 커서 없음
+        String hint;
+
+        int fadeMs = 0;
+        float zoomEnd = 1f;
+        int zoomMs = 0;
+        int rampMs = 0;
+        int fxMs = 0;
+
+        Value shakeChance = Value.ZERO, shakeX = Value.ZERO, shakeY = Value.ZERO, shakeHold = Value.ZERO;
+        Value noiseDots = Value.ZERO, noiseAlpha = Value.ZERO;
+        Value lineCount = Value.ZERO, lineAlpha = Value.ZERO, lineLen = Value.ZERO, lineDouble = Value.ZERO;
+        int lineRgb = 0xffffff;
+        Value darken = Value.ZERO;
+
+        int holdMs = 0;
+        End end = End.WAIT;
+        int interludeHoldMs = 0;
+        String interludeText = "";
+        Skip skip = Skip.CUT;
+
+        final List<String> lines = new ArrayList<>();
+    }
+
+    /**
+     * 숫자 값 하나: 고정 / 범위(a~b, 틱마다 랜덤) / ramp(a>b, 씬 진행률 t에 따라)
+     * - 범위의 양 끝이 각각 ramp일 수 있음(80~300>720)
+     */
+    static final class Value {
+        static final Value ZERO = new Value(0, 0, 0, 0, 0f);
+
+        private final int lo0, lo1, hi0, hi1;
+        private final float start;
+
+        private Value(int lo0, int lo1, int hi0, int hi1, float start) {
+            this.lo0 = lo0;
+            this.lo1 = lo1;
+            this.hi0 = hi0;
+            this.hi1 = hi1;
+            this.start = start;
+        }
+
+        /** t: ramp 진행률(0~1) */
+        int at(float t, SplittableRandom rnd) {
+            float k = (start >= 1f) ? (t >= 1f ? 1f : 0f) : Math.max(0f, (t - start) / (1f - start));
+            int lo = lerp(lo0, lo1, k);
+            int hi = lerp(hi0, hi1, k);
+            return (hi > lo) ? lo + rnd.nextInt(hi - lo + 1) : lo;
+        }
+
+        /** 나올 수 있는 가장 큰 값(노이즈 타일 밀도 정할 때) */
+        int max() {
+            return Math.max(Math.max(lo0, lo1), Math.max(hi0, hi1));
+        }
+
+        boolean isZero() {
+            return max() <= 0;
+        }
+
+        private static int lerp(int a, int b, float k) {
+            return (int) (a + (b - a) * k);
+        }
+
+        static Value parse(String s) {
+            float start = 0f;
+            int at = s.indexOf('@');
+            if (at >= 0) {
+                start = Float.parseFloat(s.substring(at + 1));
+                s = s.substring(0, at);
+            }
+
+            int tilde = s.indexOf('~');
+            int[] lo = ramp(tilde >= 0 ? s.substring(0, tilde) : s);
+            int[] hi = (tilde >= 0) ? ramp(s.substring(tilde + 1)) : lo;
+            return new Value(lo[0], lo[1], hi[0], hi[1], start);
+        }
+
+        private static int[] ramp(String s) {
+            int gt = s.indexOf('>');
+            if (gt < 0) {
+                int v = Integer.parseInt(s);
+                return new int[] { v, v };
+            }
+            return new int[] { Integer.parseInt(s.substring(0, gt)), Integer.parseInt(s.substring(gt + 1)) };
+        }
+    }
+
+    private IntroScript() {}
+
+    // ===================== 읽기 =====================
+
+    /** classpath 먼저, 없으면 작업 디렉터리 기준 파일 */
+    static List<SceneDef> load() throws IOException {
+        InputStream in = IntroScript.class.getResourceAsStream(PATH);
+        if (in == null) {
+            File f = new File(PATH.substring(1));
+            if (!f.isFile()) throw new FileNotFoundException(PATH);
+            in = new FileInputStream(f);
+        }
+        try (BufferedReader r = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return parse(r);
+        }
+    }
+
+    static List<SceneDef> parse(BufferedReader r) throws IOException {
+        List<SceneDef> scenes = new ArrayList<>();
+        SceneDef s = null;
+        int no = 0;
+        String raw;
+
+        while ((raw = r.readLine()) != null) {
+            no++;
+            String line = raw.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            int sp = line.indexOf(' ');
+            String key = (sp < 0) ? line : line.substring(0, sp);
+            String rest = (sp < 0) ? "" : line.substring(sp + 1).strip();
+            String[] a = rest.isEmpty() ? new String[0] : rest.split("\\s+");
+
+            try {
+                if (key.equals("scene")) {
+                    s = new SceneDef();
+                    s.name = need(a, 1)[0];
+                    scenes.add(s);
+                    continue;
+                }
+                if (s == null) throw new IllegalArgumentException("scene 줄보다 먼저 나옴");
+                apply(s, key, rest, a);
+            } catch (RuntimeException e) {
+                throw new IOException(PATH + " " + no + "번째 줄: " + raw.strip() + " (" + e.getMessage() + ")", e);
+            }
+        }
+
+        if (scenes.isEmpty()) throw new IOException(PATH + ": 씬이 없음");
+        return scenes;
+    }
+
+    private static void apply(SceneDef s, String key, String rest, String[] a) {
+        switch (key) {
+            case "bg" -> s.bg = need(a, 1)[0];
+            case "box" -> {
+                need(a, 7);
+                s.boxX = Integer.parseInt(a[0]);
+                s.boxY = Integer.parseInt(a[1]);
+                s.boxW = Integer.parseInt(a[2]);
+                s.boxH = Integer.parseInt(a[3]);
+                s.boxArc = Integer.parseInt(a[4]);
+                s.boxFill = rgba(a[5]);
+                s.boxBorder = rgba(a[6]);
+            }
+            case "font" -> {
+                need(a, 3);
+                int style = switch (a[1]) {
+                    case "plain" -> Font.PLAIN;
+                    case "bold" -> Font.BOLD;
+                    default -> throw new IllegalArgumentException("plain/bold 중 하나");
+                };
+                String name = rest.substring(rest.indexOf(a[1]) + a[1].length()).strip();
+                s.font = new Font(name, style, Integer.parseInt(a[0]));
+            }
+            case "text" -> {
+                need(a, 4);
+                s.textDx = Integer.parseInt(a[0]);
+                s.textDy = Integer.parseInt(a[1]);
+                s.lineGap = Integer.parseInt(a[2]);
+                s.textColor = new Color(Integer.parseInt(a[3], 16));
+            }
+            case "type" -> {
+                need(a, 2);
+                s.typeMs = positive(a[0]);
+                s.linePauseMs = positive(a[1]);
+            }
+            case "cursor" -> s.cursorBlinkMs = positive(need(a, 1)[0]);
+            case "hint" -> s.hint = rest;
+            case "fade" -> s.fadeMs = positive(need(a, 1)[0]);
+            case "zoom" -> {
+                need(a, 2);
+                s.zoomEnd = Float.parseFloat(a[0]);
+                s.zoomMs = positive(a[1]);
+            }
+            case "ramp" -> s.rampMs = positive(need(a, 1)[0]);
+            case "fx" -> s.fxMs = positive(need(a, 1)[0]);
+            case "shake" -> {
+                need(a, 4);
+                s.shakeChance = Value.parse(a[0]);
+                s.shakeX = Value.parse(a[1]);
+                s.shakeY = Value.parse(a[2]);
+                s.shakeHold = Value.parse(a[3]);
+            }
+            case "noise" -> {
+                need(a, 2);
+                s.noiseDots = Value.parse(a[0]);
+                s.noiseAlpha = Value.parse(a[1]);
+            }
+            case "lines" -> {
+                need(a, 4);
+                s.lineCount = Value.parse(a[0]);
+                s.lineAlpha = Value.parse(a[1]);
+                s.lineLen = Value.parse(a[2]);
+                s.lineRgb = Integer.parseInt(a[3], 16);
+                s.lineDouble = (a.length > 4) ? Value.parse(a[4]) : Value.ZERO;
+            }
+            case "darken" -> s.darken = Value.parse(need(a, 1)[0]);
+            case "hold" -> s.holdMs = Integer.parseInt(need(a, 1)[0]);
+            case "end" -> {
+                s.end = End.valueOf(need(a, 1)[0].toUpperCase());
+                if (s.end == End.INTERLUDE) {
+                    need(a, 3);
+                    s.interludeHoldMs = Integer.parseInt(a[1]);
+                    s.interludeText = rest.substring(rest.indexOf(a[1]) + a[1].length()).strip();
+                }
+            }
+            case "skip" -> s.skip = Skip.valueOf(need(a, 1)[0].toUpperCase());
+            case "line" -> s.lines.add(rest);
+            default -> throw new IllegalArgumentException("모르는 키");
+        }
+    }
+
+    private static String[] need(String[] a, int n) {
+        if (a.length < n) throw new IllegalArgumentException("값이 " + n + "개 필요");
+        return a;
+    }
+
+    private static int positive(String s) {
+        int v = Integer.parseInt(s);
+        if (v <= 0) throw new IllegalArgumentException("0보다 커야 함");
+        return v;
+    }
+
+    // RRGGBBAA(알파 00이면 null)
+    private static Color rgba(String s) {
+        if (s.length() != 8) throw new IllegalArgumentException("RRGGBBAA 형식");
+        long v = Long.parseLong(s, 16);
+        int a = (int) (v & 0xff);
+        return (a == 0) ? null : new Color((int) (v >>> 8) | a << 24, true);
+    }
+}
@@ -1,56 +1,61 @@
 package game.ui.intro;
 
 import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.util.List;
 
 /**
  * IntroSequenceRunner
  *
  * [역할]
- * - IntroScene01~05 Overlay를 순서대로 "연속 재생"함
- * - 마지막 Intro5가 끝나면 onAllFinished.run() 실행
+ * - assets/intro/intro_script.txt 를 읽어서 IntroEngine으로 인트로 씬들을 "연속 재생"함
+ * - 마지막 씬이 끝나면 onAllFinished.run() 실행
+ * - 스크립트를 못 읽으면 인트로를 건너뛰고 바로 onAllFinished (게임 시작은 막지 않음)
  *
  * [한줄 요약]
- * - Intro 1→2→3→4→5를 안전하게 이어주는 전용 러너임.
+ * - 타이틀 → 인트로 → 아침으로 넘어가는 입구. 대사/연출은 스크립트 파일에서 고침.
  */
 public class IntroSequenceRunner {
 
     private IntroSequenceRunner() {}
 
     /**
-     * 인트로 1~5를 순서대로 실행한 뒤, 전부 끝나면 onAllFinished를 호출함.
+     * 인트로 전체를 순서대로 실행한 뒤, 전부 끝나면 onAllFinished를 호출함.
      */
     public static void start(Runnable onAllFinished) {
-        // ✅ Swing 스레드에서 시작 보장
-        SwingUtilities.invokeLater(() -> play01(() -> play02(() -> play03(() -> play04(() -> play05(onAllFinished))))));
-    }
-
-    private static void play01(Runnable next) {
-        IntroScene01Overlay overlay = new IntroScene01Overlay(() -> safeNext(next));
-        overlay.showOverlay();
-    }
-
-    private static void play02(Runnable next) {
-        IntroScene02Overlay overlay = new IntroScene02Overlay(() -> safeNext(next));
-        overlay.showOverlay();
+        start(null, onAllFinished);
     }
 
-    private static void play03(Runnable next) {
-        IntroScene03Overlay overlay = new IntroScene03Overlay(() -> safeNext(next));
-        overlay.showOverlay();
-    }
+    /**
+     * from 이름의 씬부터 끝까지 실행(null이면 처음부터). 테스트용
+     */
+    public static void start(String from, Runnable onAllFinished) {
+        // ✅ Swing 스레드에서 시작 보장
+        SwingUtilities.invokeLater(() -> {
+            List<IntroScript.SceneDef> scenes;
+            try {
+                scenes = IntroScript.load();
+            } catch (IOException e) {
+                System.out.println("[Intro] 스크립트를 못 읽음: " + e.getMessage());
+                safeNext(onAllFinished);
+                return;
+            }
 
-    private static void play04(Runnable next) {
-        IntroScene04Overlay overlay = new IntroScene04Overlay(() -> safeNext(next));
-        overlay.showOverlay();
-    }
+            int first = 0;
+            if (from != null) {
+                while (first < scenes.size() && !scenes.get(first).name.equals(from)) first++;
+                if (first == scenes.size()) {
+                    System.out.println("[Intro] 씬 없음: " + from);
+                    first = 0;
+                }
+            }
 
-    private static void play05(Runnable next) {
-        IntroScene05Overlay overlay = new IntroScene05Overlay(() -> safeNext(next));
-        overlay.showOverlay();
+            new IntroEngine(scenes.subList(first, scenes.size()), () -> safeNext(onAllFinished)).play();
+        });
     }
 
     /**
-     * 다음 씬 실행을 Swing 이벤트큐에 한 번 더 올려서
+     * 다음 단계 실행을 Swing 이벤트큐에 한 번 더 올려서
      * "점멸/타이밍 꼬임" 같은 현상을 줄임.
      */
     private static void safeNext(Runnable next) {
@@ -1,11 +1,17 @@
 package game.ui.title;
 
 import game.ui.NoonGuiController;
+import game.ui.NoonWindow;
 import game.ui.EveningGuiController;
+import game.ui.EveningWindow;
+import game.stage.night.NightObject;
 import game.stage.night.NightWindow;
 import game.ui.intro.IntroSequenceRunner;
+import game.core.InputLog;
+import game.core.ResourceManager;
 
 // ✅ 아침은 GuiController가 아니라 Window로 시작함
+import game.stage.morning.GamePanel;
 import game.stage.morning.MorningWindow;
 
 import javax.swing.*;
@@ -32,6 +38,13 @@ public class TitleController {
     private void onStart() {
         window.setVisible(false);
 
+        // ✅ 판 시드 + 입력 기록 시작(-Dgame.replay면 저장된 판 재생)
+        InputLog.beginRun();
+
+        // ✅ 각 스테이지가 도는 동안 다음 스테이지 이미지를 백그라운드에서 미리 로드
+        //    (창 생성 시점엔 캐시에서 바로 꺼내서 전환할 때 멈칫하지 않음)
+        GamePanel.preloadAssets();
+
         // ✅ Intro 1~5 → Morning(아침) → Noon(점심) → Evening(저녁) → Night(밤)
         IntroSequenceRunner.start(() -> SwingUtilities.invokeLater(() -> {
 
@@ -45,12 +58,17 @@ public class TitleController {
                     new EveningGuiController(() -> {
                         new NightWindow();
                     });
+                    ResourceManager.preload(NightObject::preloadAssets);
+                    NightWindow.preloadLevel();
 
                 });
+                ResourceManager.preload(EveningWindow::preloadAssets);
 
             });
+            ResourceManager.preload(NoonWindow::preloadAssets);
 
             window.dispose();
+            ResourceManager.release(TitleWindow.SCENE);
         }));
     }
 
@@ -1,7 +1,8 @@
 package game.ui.title;
 
+import game.core.ResourceManager;
+
 import javax.swing.*;
-import javax.imageio.ImageIO;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
@@ -16,6 +17,9 @@ import java.io.IOException;
  */
 public class TitleWindow extends JFrame {
 
+    // ResourceManager 씬 이름
+    public static final String SCENE = "title";
+
     private final JButton btnStart = new JButton("START");
     private final JButton btnLoad  = new JButton("LOAD");
     private final JButton btnExit  = new JButton("EXIT");
@@ -74,18 +78,14 @@ public class TitleWindow extends JFrame {
             // ✅ classpath 기준 로드로 변경
             String bgPath = "/assets/images/title/title_bg.png";
 
-            try {
-                // 1) 가장 안전한 방식: getResourceAsStream
-                bgImage = ImageIO.read(getClass().getResourceAsStream(bgPath));
+            // ✅ 공용 ResourceManager 사용(타이틀 닫힐 때 TitleController가 release)
+            bgImage = ResourceManager.image(SCENE, bgPath);
 
-                // (선택) 로고도 BufferedImage로 그릴 거면 동일 방식 사용
-                // String logoPath = "/assets/images/title/title_logo.png";
-                // logoImage = ImageIO.read(getClass().getResourceAsStream(logoPath));
+            // (선택) 로고도 BufferedImage로 그릴 거면 동일 방식 사용
+            // logoImage = ResourceManager.image(SCENE, "/assets/images/title/title_logo.png");
 
-            } catch (Exception e) {
+            if (bgImage == null) {
                 System.out.println("[TitlePanel] 배경 이미지 로드 실패: " + bgPath);
-                e.printStackTrace();
-                bgImage = null;
             }
         }
 